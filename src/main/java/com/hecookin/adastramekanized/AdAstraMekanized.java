@@ -9,6 +9,7 @@ import com.hecookin.adastramekanized.common.registry.ModBlockEntityTypes;
 import com.hecookin.adastramekanized.common.registry.ModBlocks;
 import com.hecookin.adastramekanized.common.registry.ModChunkGenerators;
 import com.hecookin.adastramekanized.common.registry.ModCreativeTabs;
+import com.hecookin.adastramekanized.common.registry.ModDataComponents;
 import com.hecookin.adastramekanized.common.registry.ModEntityTypes;
 import com.hecookin.adastramekanized.common.registry.ModItems;
 import com.hecookin.adastramekanized.common.registry.ModMenuTypes;
@@ -64,6 +65,7 @@ public class AdAstraMekanized {
         modEventBus.addListener(AdAstraMekanizedConfig::onConfigLoad);
 
         // Register items, blocks, and creative tabs
+        ModDataComponents.register(modEventBus);
         ModItems.register(modEventBus);
         ModBlocks.register(modEventBus);
         ModBlockEntityTypes.BLOCK_ENTITY_TYPES.register(modEventBus);
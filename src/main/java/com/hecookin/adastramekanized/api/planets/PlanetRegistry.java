@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -24,6 +25,9 @@ public class PlanetRegistry implements PlanetAPI {
     private volatile boolean dataLoaded = false;
     private volatile boolean clientSynced = false;
 
+    // Bumped on every change, so data derived from the registry knows when to rebuild
+    private final AtomicInteger version = new AtomicInteger();
+
     @Nullable
     private ResourceLocation defaultPlanetId = null;
 
@@ -58,6 +62,7 @@ public class PlanetRegistry implements PlanetAPI {
 
         planets.put(planet.id(), planet);
         loadedPlanets.add(planet.id());
+        version.incrementAndGet();
 
         AdAstraMekanized.LOGGER.info("Registered planet: {} ({})", planet.displayName(), planet.id());
         return true;
@@ -75,6 +80,7 @@ public class PlanetRegistry implements PlanetAPI {
         loadedPlanets.remove(planetId);
 
         if (removed != null) {
+            version.incrementAndGet();
             AdAstraMekanized.LOGGER.info("Unregistered planet: {} ({})", removed.displayName(), planetId);
 
             // Clear default planet if it was removed
@@ -96,6 +102,7 @@ public class PlanetRegistry implements PlanetAPI {
         defaultPlanetId = null;
         dataLoaded = false;
         clientSynced = false;
+        version.incrementAndGet();
 
         AdAstraMekanized.LOGGER.info("Cleared {} planets from registry", count);
     }
@@ -122,6 +129,7 @@ public class PlanetRegistry implements PlanetAPI {
      */
     public void markDataLoaded() {
         dataLoaded = true;
+        version.incrementAndGet();
         AdAstraMekanized.LOGGER.info("Planet data loading complete. {} planets registered", planets.size());
     }
 
@@ -140,6 +148,13 @@ public class PlanetRegistry implements PlanetAPI {
         return dataLoaded;
     }
 
+    /**
+     * Get the registry version, which changes whenever planets are added, removed or reloaded
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
     // PlanetAPI Implementation
 
     @Override
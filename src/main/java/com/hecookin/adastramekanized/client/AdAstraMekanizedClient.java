@@ -4,9 +4,11 @@ import com.hecookin.adastramekanized.AdAstraMekanized;
 import com.hecookin.adastramekanized.client.dimension.*;
 import com.hecookin.adastramekanized.common.planets.DimensionEffectsType;
 import com.hecookin.adastramekanized.client.renderers.blocks.OxygenDistributorBlockEntityRenderer;
+import com.hecookin.adastramekanized.client.sky.CelestialTextureAtlas;
 import com.hecookin.adastramekanized.common.registry.ModBlockEntityTypes;
 import com.hecookin.adastramekanized.common.registry.ModBlocks;
 import com.hecookin.adastramekanized.common.registry.ModItems;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BlockEntityWithoutLevelRenderer;
 import net.minecraft.client.renderer.DimensionSpecialEffects;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
@@ -67,6 +69,12 @@ public class AdAstraMekanizedClient {
         };
     }
 
+    @SubscribeEvent
+    public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+        // Stitch the celestial body textures into one atlas so the sky draws them in one batch
+        event.registerReloadListener(CelestialTextureAtlas.create(Minecraft.getInstance().getTextureManager()));
+    }
+
     @SubscribeEvent
     public static void onRegisterBlockEntityRenderers(EntityRenderersEvent.RegisterRenderers event) {
         // Register block entity renderers
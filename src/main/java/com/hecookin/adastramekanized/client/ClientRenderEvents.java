@@ -5,9 +5,6 @@ import com.hecookin.adastramekanized.client.renderers.GravityZoneRenderer;
 import com.hecookin.adastramekanized.client.renderers.OxygenZoneRenderer;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Camera;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.MultiBufferSource;
-import net.minecraft.client.renderer.RenderBuffers;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -38,28 +35,22 @@ public class ClientRenderEvents {
             return;
         }
 
-        Minecraft mc = Minecraft.getInstance();
         Camera camera = event.getCamera();
         PoseStack poseStack = event.getPoseStack();
         Vec3 cameraPos = camera.getPosition();
 
-        // Get render buffers
-        RenderBuffers renderBuffers = mc.renderBuffers();
-        MultiBufferSource.BufferSource bufferSource = renderBuffers.bufferSource();
-
         poseStack.pushPose();
 
         // Render oxygen zones
         if (oxygenEnabled) {
-            oxygenRenderer.render(poseStack, bufferSource, cameraPos);
+            oxygenRenderer.render(poseStack, cameraPos);
         }
 
         // Render gravity zones
         if (gravityEnabled) {
-            gravityRenderer.render(poseStack, bufferSource, cameraPos);
+            gravityRenderer.render(poseStack, cameraPos);
         }
 
-        bufferSource.endBatch();
         poseStack.popPose();
     }
 }
\ No newline at end of file
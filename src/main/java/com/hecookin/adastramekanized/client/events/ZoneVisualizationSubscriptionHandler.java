@@ -0,0 +1,54 @@
+package com.hecookin.adastramekanized.client.events;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.client.renderers.GravityZoneRenderer;
+import com.hecookin.adastramekanized.client.renderers.OxygenZoneRenderer;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationSubscribePacket;
+import com.hecookin.adastramekanized.config.AdAstraMekanizedConfig;
+import net.minecraft.client.Minecraft;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Keeps the server's zone visualization subscription in line with the client config.
+ * Sent after joining a server and whenever the showZoneVisualization option changes.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID, value = Dist.CLIENT)
+public class ZoneVisualizationSubscriptionHandler {
+
+    // What the server was last told, null when not connected or not told yet
+    private static Boolean sentSubscription = null;
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.player == null || mc.getConnection() == null) {
+            return;
+        }
+
+        boolean wanted = AdAstraMekanizedConfig.isZoneVisualizationEnabled();
+        if (sentSubscription != null && sentSubscription == wanted) {
+            return;
+        }
+
+        PacketDistributor.sendToServer(new ZoneVisualizationSubscribePacket(wanted));
+        sentSubscription = wanted;
+
+        if (!wanted) {
+            // No more updates will come - drop what is shown
+            OxygenZoneRenderer.getInstance().setRenderingEnabled(false);
+            GravityZoneRenderer.getInstance().setRenderingEnabled(false);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        sentSubscription = null;
+        OxygenZoneRenderer.getInstance().setRenderingEnabled(false);
+        GravityZoneRenderer.getInstance().setRenderingEnabled(false);
+    }
+}
@@ -1,20 +1,18 @@
 package com.hecookin.adastramekanized.client.renderers;
 
+import com.hecookin.adastramekanized.common.network.ZoneUpdate;
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
-import com.mojang.blaze3d.vertex.VertexConsumer;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.MultiBufferSource;
-import net.minecraft.client.renderer.RenderType;
-import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.inventory.InventoryMenu;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 import org.joml.Matrix4f;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,7 +30,11 @@ public class GravityZoneRenderer {
     // Track gravity zones per normalizer with different colors
     private final Map<BlockPos, NormalizerZone> normalizerZones = new ConcurrentHashMap<>();
     private final Map<BlockPos, BlockPos> blockOwnership = new ConcurrentHashMap<>(); // Which normalizer owns which block
+    private final Set<BlockPos> resyncRequested = ConcurrentHashMap.newKeySet(); // Normalizers waiting for a full update
     private boolean renderingEnabled = false;
+    // Cached mesh per normalizer, rebuilt on the next frame after any zone change
+    private final Map<BlockPos, ZoneMesh> meshes = new HashMap<>();
+    private boolean meshesDirty = true;
 
     // Color palette for different normalizers - same as oxygen distributor
     private static final float[][] NORMALIZER_COLORS = {
@@ -51,8 +53,6 @@ public class GravityZoneRenderer {
         {0.82f, 0.71f, 0.55f}  // Tan - burlywood tan
     };
 
-    // Use vanilla ice texture for gravity visualization
-    private static final ResourceLocation ICE_TEXTURE = ResourceLocation.withDefaultNamespace("block/ice");
     private static final float ALPHA = 0.08f; // Transparent for subtle visualization
 
     // Helper class to track zones per normalizer
@@ -62,6 +62,7 @@ public class GravityZoneRenderer {
         float[] color;
         int colorIndex;
         boolean visible;
+        int sequence;
         float targetGravity;
         long lastUpdateTime;
 
@@ -123,6 +124,7 @@ public class GravityZoneRenderer {
         }
 
         zone.lastUpdateTime = System.currentTimeMillis();
+        meshesDirty = true;
     }
 
     /**
@@ -138,13 +140,73 @@ public class GravityZoneRenderer {
         }
     }
 
+    /**
+     * Apply a full or delta zone update from the server.
+     * @return false if the update is a delta that does not follow what this client has, so a resync is needed
+     */
+    public boolean applyNormalizerUpdate(BlockPos normalizerPos, ZoneUpdate update, int colorIndex, float targetGravity) {
+        NormalizerZone zone = normalizerZones.get(normalizerPos);
+        if (update.kind() == ZoneUpdate.Kind.FULL) {
+            if (zone == null) {
+                zone = new NormalizerZone(normalizerPos, colorIndex);
+                normalizerZones.put(normalizerPos, zone);
+            }
+            for (BlockPos pos : zone.gravityBlocks) {
+                blockOwnership.remove(pos, normalizerPos);
+            }
+            zone.gravityBlocks.clear();
+            resyncRequested.remove(normalizerPos);
+        } else if (zone == null || !update.follows(zone.sequence)) {
+            return false;
+        } else {
+            removeBlocks(zone, update.removed());
+        }
+
+        LongIterator added = update.added().iterator();
+        while (added.hasNext()) {
+            BlockPos pos = BlockPos.of(added.nextLong());
+            zone.gravityBlocks.add(pos);
+            blockOwnership.put(pos, normalizerPos);
+        }
+        zone.sequence = update.sequence();
+
+        // Update color if changed
+        if (zone.colorIndex != colorIndex) {
+            zone.setColorIndex(colorIndex);
+        }
+
+        // Update target gravity
+        zone.targetGravity = targetGravity;
+
+        zone.lastUpdateTime = System.currentTimeMillis();
+        meshesDirty = true;
+        return true;
+    }
+
+    /**
+     * @return true the first time a resync is needed for this normalizer, until its full update arrives
+     */
+    public boolean markResyncRequested(BlockPos normalizerPos) {
+        return resyncRequested.add(normalizerPos);
+    }
+
+    private void removeBlocks(NormalizerZone zone, LongSet positions) {
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = BlockPos.of(iterator.nextLong());
+            zone.gravityBlocks.remove(pos);
+            blockOwnership.remove(pos, zone.normalizerPos);
+        }
+    }
+
     /**
      * Toggle visibility for a specific normalizer
      */
     public void setNormalizerVisibility(BlockPos normalizerPos, boolean visible) {
         NormalizerZone zone = normalizerZones.get(normalizerPos);
-        if (zone != null) {
+        if (zone != null && zone.visible != visible) {
             zone.visible = visible;
+            meshesDirty = true;
         }
     }
 
@@ -152,8 +214,10 @@ public class GravityZoneRenderer {
      * Remove a normalizer and its zones
      */
     public void removeNormalizer(BlockPos normalizerPos) {
+        resyncRequested.remove(normalizerPos);
         NormalizerZone zone = normalizerZones.remove(normalizerPos);
         if (zone != null) {
+            meshesDirty = true;
             // Remove ownership claims
             for (BlockPos pos : zone.gravityBlocks) {
                 if (blockOwnership.get(pos) == normalizerPos) {
@@ -169,6 +233,8 @@ public class GravityZoneRenderer {
     public void clearAllZones() {
         normalizerZones.clear();
         blockOwnership.clear();
+        resyncRequested.clear();
+        closeMeshes();
     }
 
     /**
@@ -188,200 +254,65 @@ public class GravityZoneRenderer {
         return renderingEnabled;
     }
 
-    /**
-     * Get all gravity blocks across all normalizers for face culling
-     */
-    private Set<BlockPos> getAllGravityBlocks() {
-        Set<BlockPos> allBlocks = new HashSet<>();
-        for (NormalizerZone zone : normalizerZones.values()) {
-            if (zone.visible) {
-                allBlocks.addAll(zone.gravityBlocks);
-            }
-        }
-        return allBlocks;
-    }
-
     /**
      * Render all visible gravity zones in the world
      * Called from world render events
      */
-    public void render(PoseStack poseStack, MultiBufferSource bufferSource, Vec3 cameraPos) {
+    public void render(PoseStack poseStack, Vec3 cameraPos) {
         if (!renderingEnabled || normalizerZones.isEmpty()) {
             return;
         }
 
-        // Get the ice texture sprite from the block atlas
-        TextureAtlasSprite iceSprite = Minecraft.getInstance()
-            .getTextureAtlas(InventoryMenu.BLOCK_ATLAS)
-            .apply(ICE_TEXTURE);
-
-        // Use translucent render type for see-through effect
-        VertexConsumer vertexConsumer = bufferSource.getBuffer(RenderType.translucent());
-        Matrix4f matrix = poseStack.last().pose();
-
-        // Get all gravity blocks for face culling
-        Set<BlockPos> allGravityBlocks = getAllGravityBlocks();
-
-        // Render each normalizer's zones with its own color
-        for (NormalizerZone zone : normalizerZones.values()) {
-            if (zone.visible && !zone.gravityBlocks.isEmpty()) {
-                renderNormalizerZone(vertexConsumer, matrix, zone, cameraPos, iceSprite, allGravityBlocks);
-            }
+        if (meshesDirty) {
+            rebuildMeshes();
+        }
+        if (meshes.isEmpty()) {
+            return;
         }
-    }
 
-    /**
-     * Render a single normalizer's gravity zone
-     */
-    private void renderNormalizerZone(VertexConsumer vertexConsumer, Matrix4f matrix,
-                                      NormalizerZone zone, Vec3 cameraPos, TextureAtlasSprite sprite,
-                                      Set<BlockPos> allGravityBlocks) {
-        for (BlockPos pos : zone.gravityBlocks) {
-            renderGravityBlock(vertexConsumer, matrix, pos, cameraPos, sprite,
-                            zone.color[0], zone.color[1], zone.color[2], allGravityBlocks);
+        // Meshes are relative to their normalizer and translated to the camera when drawn
+        Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(poseStack.last().pose());
+        ZoneMesh.beginDraw();
+        for (ZoneMesh mesh : meshes.values()) {
+            mesh.draw(modelView, cameraPos);
         }
+        ZoneMesh.endDraw();
     }
 
     /**
-     * Render a single gravity block as a translucent ice-textured cube
-     * Only renders faces that are exposed (not adjacent to other gravity blocks)
+     * Re-mesh every visible zone. Faces between blocks of any two visible zones are culled, so a change
+     * to one zone can change its neighbours' meshes too - zones change rarely, so all are rebuilt.
      */
-    private void renderGravityBlock(VertexConsumer vertexConsumer, Matrix4f matrix, BlockPos pos,
-                                  Vec3 cameraPos, TextureAtlasSprite sprite,
-                                  float red, float green, float blue,
-                                  Set<BlockPos> allGravityBlocks) {
-        float x1 = (float) (pos.getX() - cameraPos.x);
-        float y1 = (float) (pos.getY() - cameraPos.y);
-        float z1 = (float) (pos.getZ() - cameraPos.z);
-        float x2 = x1 + 1.0f;
-        float y2 = y1 + 1.0f;
-        float z2 = z1 + 1.0f;
-
-        // Slightly shrink the cube to avoid z-fighting
-        float shrink = 0.001f;
-        x1 += shrink;
-        y1 += shrink;
-        z1 += shrink;
-        x2 -= shrink;
-        y2 -= shrink;
-        z2 -= shrink;
-
-        // Only render faces that don't have an adjacent gravity block
-        // This creates a cleaner look when many gravity blocks are adjacent
-
-        // Top face (Y+)
-        if (!allGravityBlocks.contains(pos.above())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y2, z1,
-                x2, y2, z1,
-                x2, y2, z2,
-                x1, y2, z2,
-                0, 1, 0,  // Normal pointing up
-                red, green, blue
-            );
-        }
+    private void rebuildMeshes() {
+        closeMeshes();
 
-        // Bottom face (Y-)
-        if (!allGravityBlocks.contains(pos.below())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y1, z2,
-                x2, y1, z2,
-                x2, y1, z1,
-                x1, y1, z1,
-                0, -1, 0,  // Normal pointing down
-                red, green, blue
-            );
-        }
-
-        // North face (Z-)
-        if (!allGravityBlocks.contains(pos.north())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y1, z1,
-                x2, y1, z1,
-                x2, y2, z1,
-                x1, y2, z1,
-                0, 0, -1,  // Normal pointing north
-                red, green, blue
-            );
-        }
-
-        // South face (Z+)
-        if (!allGravityBlocks.contains(pos.south())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x2, y1, z2,
-                x1, y1, z2,
-                x1, y2, z2,
-                x2, y2, z2,
-                0, 0, 1,  // Normal pointing south
-                red, green, blue
-            );
-        }
-
-        // West face (X-)
-        if (!allGravityBlocks.contains(pos.west())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y1, z2,
-                x1, y1, z1,
-                x1, y2, z1,
-                x1, y2, z2,
-                -1, 0, 0,  // Normal pointing west
-                red, green, blue
-            );
+        LongOpenHashSet occupied = new LongOpenHashSet();
+        for (NormalizerZone zone : normalizerZones.values()) {
+            if (zone.visible) {
+                for (BlockPos pos : zone.gravityBlocks) {
+                    occupied.add(pos.asLong());
+                }
+            }
         }
 
-        // East face (X+)
-        if (!allGravityBlocks.contains(pos.east())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x2, y1, z1,
-                x2, y1, z2,
-                x2, y2, z2,
-                x2, y2, z1,
-                1, 0, 0,  // Normal pointing east
-                red, green, blue
-            );
+        // Each normalizer's zones with its own color
+        for (NormalizerZone zone : normalizerZones.values()) {
+            if (zone.visible && !zone.gravityBlocks.isEmpty()) {
+                ZoneMesh mesh = ZoneMesh.build(zone.normalizerPos, zone.gravityBlocks, occupied,
+                    zone.color[0], zone.color[1], zone.color[2], ALPHA);
+                if (mesh != null) {
+                    meshes.put(zone.normalizerPos, mesh);
+                }
+            }
         }
+        meshesDirty = false;
     }
 
-    /**
-     * Render a textured quad face using the ice texture with custom color tint
-     */
-    private void renderTexturedQuad(VertexConsumer vertexConsumer, Matrix4f matrix, TextureAtlasSprite sprite,
-                                   float x1, float y1, float z1,
-                                   float x2, float y2, float z2,
-                                   float x3, float y3, float z3,
-                                   float x4, float y4, float z4,
-                                   float nx, float ny, float nz,
-                                   float red, float green, float blue) {
-
-        // Get texture UV coordinates from sprite
-        float minU = sprite.getU0();
-        float maxU = sprite.getU1();
-        float minV = sprite.getV0();
-        float maxV = sprite.getV1();
-
-        // Add vertices with texture coordinates from the ice sprite
-        vertexConsumer.addVertex(matrix, x1, y1, z1)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(minU, minV)
-            .setLight(0xF000F0)  // Full bright
-            .setNormal(nx, ny, nz);
-
-        vertexConsumer.addVertex(matrix, x2, y2, z2)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(maxU, minV)
-            .setLight(0xF000F0)
-            .setNormal(nx, ny, nz);
-
-        vertexConsumer.addVertex(matrix, x3, y3, z3)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(maxU, maxV)
-            .setLight(0xF000F0)
-            .setNormal(nx, ny, nz);
-
-        vertexConsumer.addVertex(matrix, x4, y4, z4)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(minU, maxV)
-            .setLight(0xF000F0)
-            .setNormal(nx, ny, nz);
+    private void closeMeshes() {
+        for (ZoneMesh mesh : meshes.values()) {
+            mesh.close();
+        }
+        meshes.clear();
+        meshesDirty = true;
     }
 }
@@ -1,21 +1,18 @@
 package com.hecookin.adastramekanized.client.renderers;
 
+import com.hecookin.adastramekanized.common.network.ZoneUpdate;
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
-import com.mojang.blaze3d.vertex.VertexConsumer;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.MultiBufferSource;
-import net.minecraft.client.renderer.RenderType;
-import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.inventory.InventoryMenu;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 import org.joml.Matrix4f;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,7 +30,11 @@ public class OxygenZoneRenderer {
     // Track oxygen zones per distributor with different colors
     private final Map<BlockPos, DistributorZone> distributorZones = new ConcurrentHashMap<>();
     private final Map<BlockPos, BlockPos> blockOwnership = new ConcurrentHashMap<>(); // Which distributor owns which block
+    private final Set<BlockPos> resyncRequested = ConcurrentHashMap.newKeySet(); // Distributors waiting for a full update
     private boolean renderingEnabled = false;
+    // Cached mesh per distributor, rebuilt on the next frame after any zone change
+    private final Map<BlockPos, ZoneMesh> meshes = new HashMap<>();
+    private boolean meshesDirty = true;
 
     // Color palette for different distributors - Extended with more neutral colors
     private static final float[][] DISTRIBUTOR_COLORS = {
@@ -52,8 +53,6 @@ public class OxygenZoneRenderer {
         {0.82f, 0.71f, 0.55f}  // Tan - burlywood tan
     };
 
-    // Use vanilla ice texture for oxygen visualization
-    private static final ResourceLocation ICE_TEXTURE = ResourceLocation.withDefaultNamespace("block/ice");
     private static final float ALPHA = 0.08f; // Even more transparent for subtle visualization
 
     // Helper class to track zones per distributor
@@ -63,6 +62,7 @@ public class OxygenZoneRenderer {
         float[] color;
         int colorIndex;
         boolean visible;
+        int sequence;
         long lastUpdateTime;
 
         DistributorZone(BlockPos pos, int colorIndex) {
@@ -120,6 +120,7 @@ public class OxygenZoneRenderer {
         }
 
         zone.lastUpdateTime = System.currentTimeMillis();
+        meshesDirty = true;
     }
 
     /**
@@ -135,13 +136,70 @@ public class OxygenZoneRenderer {
         }
     }
 
+    /**
+     * Apply a full or delta zone update from the server.
+     * @return false if the update is a delta that does not follow what this client has, so a resync is needed
+     */
+    public boolean applyDistributorUpdate(BlockPos distributorPos, ZoneUpdate update, int colorIndex) {
+        DistributorZone zone = distributorZones.get(distributorPos);
+        if (update.kind() == ZoneUpdate.Kind.FULL) {
+            if (zone == null) {
+                zone = new DistributorZone(distributorPos, colorIndex);
+                distributorZones.put(distributorPos, zone);
+            }
+            for (BlockPos pos : zone.oxygenBlocks) {
+                blockOwnership.remove(pos, distributorPos);
+            }
+            zone.oxygenBlocks.clear();
+            resyncRequested.remove(distributorPos);
+        } else if (zone == null || !update.follows(zone.sequence)) {
+            return false;
+        } else {
+            removeBlocks(zone, update.removed());
+        }
+
+        LongIterator added = update.added().iterator();
+        while (added.hasNext()) {
+            BlockPos pos = BlockPos.of(added.nextLong());
+            zone.oxygenBlocks.add(pos);
+            blockOwnership.put(pos, distributorPos);
+        }
+        zone.sequence = update.sequence();
+
+        // Update color if changed
+        if (zone.colorIndex != colorIndex) {
+            zone.setColorIndex(colorIndex);
+        }
+
+        zone.lastUpdateTime = System.currentTimeMillis();
+        meshesDirty = true;
+        return true;
+    }
+
+    /**
+     * @return true the first time a resync is needed for this distributor, until its full update arrives
+     */
+    public boolean markResyncRequested(BlockPos distributorPos) {
+        return resyncRequested.add(distributorPos);
+    }
+
+    private void removeBlocks(DistributorZone zone, LongSet positions) {
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = BlockPos.of(iterator.nextLong());
+            zone.oxygenBlocks.remove(pos);
+            blockOwnership.remove(pos, zone.distributorPos);
+        }
+    }
+
     /**
      * Toggle visibility for a specific distributor
      */
     public void setDistributorVisibility(BlockPos distributorPos, boolean visible) {
         DistributorZone zone = distributorZones.get(distributorPos);
-        if (zone != null) {
+        if (zone != null && zone.visible != visible) {
             zone.visible = visible;
+            meshesDirty = true;
         }
     }
 
@@ -149,8 +207,10 @@ public class OxygenZoneRenderer {
      * Remove a distributor and its zones
      */
     public void removeDistributor(BlockPos distributorPos) {
+        resyncRequested.remove(distributorPos);
         DistributorZone zone = distributorZones.remove(distributorPos);
         if (zone != null) {
+            meshesDirty = true;
             // Remove ownership claims
             for (BlockPos pos : zone.oxygenBlocks) {
                 if (blockOwnership.get(pos) == distributorPos) {
@@ -166,6 +226,8 @@ public class OxygenZoneRenderer {
     public void clearAllZones() {
         distributorZones.clear();
         blockOwnership.clear();
+        resyncRequested.clear();
+        closeMeshes();
     }
 
     /**
@@ -185,201 +247,66 @@ public class OxygenZoneRenderer {
         return renderingEnabled;
     }
 
-    /**
-     * Get all oxygen blocks across all distributors for face culling
-     */
-    private Set<BlockPos> getAllOxygenBlocks() {
-        Set<BlockPos> allBlocks = new HashSet<>();
-        for (DistributorZone zone : distributorZones.values()) {
-            if (zone.visible) {
-                allBlocks.addAll(zone.oxygenBlocks);
-            }
-        }
-        return allBlocks;
-    }
-
     /**
      * Render all visible oxygen zones in the world
      * Called from world render events
      */
-    public void render(PoseStack poseStack, MultiBufferSource bufferSource, Vec3 cameraPos) {
+    public void render(PoseStack poseStack, Vec3 cameraPos) {
         if (!renderingEnabled || distributorZones.isEmpty()) {
             return;
         }
 
-        // Get the ice texture sprite from the block atlas
-        TextureAtlasSprite iceSprite = Minecraft.getInstance()
-            .getTextureAtlas(InventoryMenu.BLOCK_ATLAS)
-            .apply(ICE_TEXTURE);
-
-        // Use translucent render type for see-through effect
-        VertexConsumer vertexConsumer = bufferSource.getBuffer(RenderType.translucent());
-        Matrix4f matrix = poseStack.last().pose();
-
-        // Get all oxygen blocks for face culling
-        Set<BlockPos> allOxygenBlocks = getAllOxygenBlocks();
-
-        // Render each distributor's zones with its own color
-        for (DistributorZone zone : distributorZones.values()) {
-            if (zone.visible && !zone.oxygenBlocks.isEmpty()) {
-                renderDistributorZone(vertexConsumer, matrix, zone, cameraPos, iceSprite, allOxygenBlocks);
-            }
+        if (meshesDirty) {
+            rebuildMeshes();
+        }
+        if (meshes.isEmpty()) {
+            return;
         }
-    }
 
-    /**
-     * Render a single distributor's oxygen zone
-     */
-    private void renderDistributorZone(VertexConsumer vertexConsumer, Matrix4f matrix,
-                                      DistributorZone zone, Vec3 cameraPos, TextureAtlasSprite sprite,
-                                      Set<BlockPos> allOxygenBlocks) {
-        for (BlockPos pos : zone.oxygenBlocks) {
-            renderOxygenBlock(vertexConsumer, matrix, pos, cameraPos, sprite,
-                            zone.color[0], zone.color[1], zone.color[2], allOxygenBlocks);
+        // Meshes are relative to their distributor and translated to the camera when drawn
+        Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(poseStack.last().pose());
+        ZoneMesh.beginDraw();
+        for (ZoneMesh mesh : meshes.values()) {
+            mesh.draw(modelView, cameraPos);
         }
+        ZoneMesh.endDraw();
     }
 
     /**
-     * Render a single oxygen block as a translucent ice-textured cube
-     * Only renders faces that are exposed (not adjacent to other oxygen blocks)
+     * Re-mesh every visible zone. Faces between blocks of any two visible zones are culled, so a change
+     * to one zone can change its neighbours' meshes too - zones change rarely, so all are rebuilt.
      */
-    private void renderOxygenBlock(VertexConsumer vertexConsumer, Matrix4f matrix, BlockPos pos,
-                                  Vec3 cameraPos, TextureAtlasSprite sprite,
-                                  float red, float green, float blue,
-                                  Set<BlockPos> allOxygenBlocks) {
-        float x1 = (float) (pos.getX() - cameraPos.x);
-        float y1 = (float) (pos.getY() - cameraPos.y);
-        float z1 = (float) (pos.getZ() - cameraPos.z);
-        float x2 = x1 + 1.0f;
-        float y2 = y1 + 1.0f;
-        float z2 = z1 + 1.0f;
-
-        // Slightly shrink the cube to avoid z-fighting
-        float shrink = 0.001f;
-        x1 += shrink;
-        y1 += shrink;
-        z1 += shrink;
-        x2 -= shrink;
-        y2 -= shrink;
-        z2 -= shrink;
-
-        // Only render faces that don't have an adjacent oxygen block
-        // This creates a cleaner look when many oxygen blocks are adjacent
-
-        // Top face (Y+)
-        if (!allOxygenBlocks.contains(pos.above())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y2, z1,
-                x2, y2, z1,
-                x2, y2, z2,
-                x1, y2, z2,
-                0, 1, 0,  // Normal pointing up
-                red, green, blue
-            );
-        }
-
-        // Bottom face (Y-)
-        if (!allOxygenBlocks.contains(pos.below())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y1, z2,
-                x2, y1, z2,
-                x2, y1, z1,
-                x1, y1, z1,
-                0, -1, 0,  // Normal pointing down
-                red, green, blue
-            );
-        }
-
-        // North face (Z-)
-        if (!allOxygenBlocks.contains(pos.north())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y1, z1,
-                x2, y1, z1,
-                x2, y2, z1,
-                x1, y2, z1,
-                0, 0, -1,  // Normal pointing north
-                red, green, blue
-            );
-        }
-
-        // South face (Z+)
-        if (!allOxygenBlocks.contains(pos.south())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x2, y1, z2,
-                x1, y1, z2,
-                x1, y2, z2,
-                x2, y2, z2,
-                0, 0, 1,  // Normal pointing south
-                red, green, blue
-            );
-        }
+    private void rebuildMeshes() {
+        closeMeshes();
 
-        // West face (X-)
-        if (!allOxygenBlocks.contains(pos.west())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x1, y1, z2,
-                x1, y1, z1,
-                x1, y2, z1,
-                x1, y2, z2,
-                -1, 0, 0,  // Normal pointing west
-                red, green, blue
-            );
+        LongOpenHashSet occupied = new LongOpenHashSet();
+        for (DistributorZone zone : distributorZones.values()) {
+            if (zone.visible) {
+                for (BlockPos pos : zone.oxygenBlocks) {
+                    occupied.add(pos.asLong());
+                }
+            }
         }
 
-        // East face (X+)
-        if (!allOxygenBlocks.contains(pos.east())) {
-            renderTexturedQuad(vertexConsumer, matrix, sprite,
-                x2, y1, z1,
-                x2, y1, z2,
-                x2, y2, z2,
-                x2, y2, z1,
-                1, 0, 0,  // Normal pointing east
-                red, green, blue
-            );
+        // Each distributor's zones with its own color
+        for (DistributorZone zone : distributorZones.values()) {
+            if (zone.visible && !zone.oxygenBlocks.isEmpty()) {
+                ZoneMesh mesh = ZoneMesh.build(zone.distributorPos, zone.oxygenBlocks, occupied,
+                    zone.color[0], zone.color[1], zone.color[2], ALPHA);
+                if (mesh != null) {
+                    meshes.put(zone.distributorPos, mesh);
+                }
+            }
         }
+        meshesDirty = false;
     }
 
-    /**
-     * Render a textured quad face using the ice texture with custom color tint
-     */
-    private void renderTexturedQuad(VertexConsumer vertexConsumer, Matrix4f matrix, TextureAtlasSprite sprite,
-                                   float x1, float y1, float z1,
-                                   float x2, float y2, float z2,
-                                   float x3, float y3, float z3,
-                                   float x4, float y4, float z4,
-                                   float nx, float ny, float nz,
-                                   float red, float green, float blue) {
-
-        // Get texture UV coordinates from sprite
-        float minU = sprite.getU0();
-        float maxU = sprite.getU1();
-        float minV = sprite.getV0();
-        float maxV = sprite.getV1();
-
-        // Add vertices with texture coordinates from the ice sprite
-        vertexConsumer.addVertex(matrix, x1, y1, z1)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(minU, minV)
-            .setLight(0xF000F0)  // Full bright
-            .setNormal(nx, ny, nz);
-
-        vertexConsumer.addVertex(matrix, x2, y2, z2)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(maxU, minV)
-            .setLight(0xF000F0)
-            .setNormal(nx, ny, nz);
-
-        vertexConsumer.addVertex(matrix, x3, y3, z3)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(maxU, maxV)
-            .setLight(0xF000F0)
-            .setNormal(nx, ny, nz);
-
-        vertexConsumer.addVertex(matrix, x4, y4, z4)
-            .setColor(red, green, blue, ALPHA)
-            .setUv(minU, maxV)
-            .setLight(0xF000F0)
-            .setNormal(nx, ny, nz);
+    private void closeMeshes() {
+        for (ZoneMesh mesh : meshes.values()) {
+            mesh.close();
+        }
+        meshes.clear();
+        meshesDirty = true;
     }
 
     // Legacy methods for backward compatibility
@@ -0,0 +1,239 @@
+package com.hecookin.adastramekanized.client.renderers;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+
+import java.util.Collection;
+
+/**
+ * A zone's boundary surface, meshed once into a vertex buffer and drawn as is every frame.
+ *
+ * Only faces not touching another visible zone block are kept, and coplanar faces are greedily merged
+ * into rectangles, so a flat wall of a zone is a single quad. The ice texture is bound on its own
+ * (not from the block atlas) so it repeats across merged quads and still shows one tile per block.
+ * Vertices are relative to the zone's machine position and translated to the camera at draw time.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class ZoneMesh implements AutoCloseable {
+
+    // Vanilla ice texture, bound directly so UVs past 1 wrap
+    private static final ResourceLocation ICE_TEXTURE = ResourceLocation.withDefaultNamespace("textures/block/ice.png");
+    private static final int FULL_BRIGHT = 0xF000F0;
+    // Slightly shrink the faces to avoid z-fighting
+    private static final float SHRINK = 0.001f;
+
+    private final BlockPos origin;
+    private final VertexBuffer buffer;
+
+    private ZoneMesh(BlockPos origin, VertexBuffer buffer) {
+        this.origin = origin;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Mesh a zone's blocks
+     * @param occupied All visible zone blocks (as BlockPos longs) - faces against any of them are skipped
+     * @return The mesh, or null if there is nothing to draw
+     */
+    @Nullable
+    public static ZoneMesh build(BlockPos origin, Collection<BlockPos> blocks, LongSet occupied,
+                                 float red, float green, float blue, float alpha) {
+        BufferBuilder builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.BLOCK);
+        for (Direction direction : Direction.values()) {
+            meshDirection(builder, origin, blocks, occupied, direction, red, green, blue, alpha);
+        }
+
+        MeshData meshData = builder.build();
+        if (meshData == null) {
+            return null;
+        }
+        VertexBuffer buffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        buffer.bind();
+        buffer.upload(meshData);
+        VertexBuffer.unbind();
+        return new ZoneMesh(origin, buffer);
+    }
+
+    /**
+     * Set up the translucent render state shared by all zone meshes - call once before drawing them.
+     * Quads are not sorted, so depth writes are off: overlapping faces blend instead of hiding each other.
+     */
+    public static void beginDraw() {
+        RenderType.translucent().setupRenderState();
+        RenderSystem.setShaderTexture(0, ICE_TEXTURE);
+        RenderSystem.depthMask(false);
+    }
+
+    public static void endDraw() {
+        VertexBuffer.unbind();
+        RenderSystem.depthMask(true);
+        RenderType.translucent().clearRenderState();
+    }
+
+    public void draw(Matrix4f modelView, Vec3 cameraPos) {
+        Matrix4f matrix = new Matrix4f(modelView).translate(
+            (float) (origin.getX() - cameraPos.x),
+            (float) (origin.getY() - cameraPos.y),
+            (float) (origin.getZ() - cameraPos.z));
+        buffer.bind();
+        buffer.drawWithShader(matrix, RenderSystem.getProjectionMatrix(), RenderSystem.getShader());
+    }
+
+    @Override
+    public void close() {
+        buffer.close();
+    }
+
+    private static void meshDirection(BufferBuilder builder, BlockPos origin, Collection<BlockPos> blocks, LongSet occupied,
+                                      Direction direction, float red, float green, float blue, float alpha) {
+        int axis = direction.getAxis().ordinal();
+        // In-plane axes: X -> (Y, Z), Y -> (X, Z), Z -> (X, Y)
+        int uAxis = axis == 0 ? 1 : 0;
+        int vAxis = axis == 2 ? 1 : 2;
+
+        // Plane coordinate -> exposed faces in it, packed (u, v)
+        Int2ObjectOpenHashMap<LongArrayList> planes = new Int2ObjectOpenHashMap<>();
+        for (BlockPos pos : blocks) {
+            if (occupied.contains(BlockPos.offset(pos.asLong(), direction))) continue;
+            int plane = coordinate(pos, axis);
+            planes.computeIfAbsent(plane, k -> new LongArrayList())
+                .add(pack(coordinate(pos, uAxis), coordinate(pos, vAxis)));
+        }
+
+        int[] min = new int[3];
+        int[] max = new int[3];
+        for (Int2ObjectMap.Entry<LongArrayList> entry : planes.int2ObjectEntrySet()) {
+            LongArrayList faces = entry.getValue();
+            int minU = Integer.MAX_VALUE, minV = Integer.MAX_VALUE, maxU = Integer.MIN_VALUE, maxV = Integer.MIN_VALUE;
+            for (int i = 0; i < faces.size(); i++) {
+                long face = faces.getLong(i);
+                minU = Math.min(minU, unpackU(face));
+                maxU = Math.max(maxU, unpackU(face));
+                minV = Math.min(minV, unpackV(face));
+                maxV = Math.max(maxV, unpackV(face));
+            }
+            int width = maxU - minU + 1;
+            int height = maxV - minV + 1;
+            boolean[] grid = new boolean[width * height];
+            for (int i = 0; i < faces.size(); i++) {
+                long face = faces.getLong(i);
+                grid[(unpackV(face) - minV) * width + unpackU(face) - minU] = true;
+            }
+
+            // Greedy: grow each rectangle along u, then along v while the whole row is set
+            for (int v = 0; v < height; v++) {
+                for (int u = 0; u < width; ) {
+                    if (!grid[v * width + u]) {
+                        u++;
+                        continue;
+                    }
+                    int rectWidth = 1;
+                    while (u + rectWidth < width && grid[v * width + u + rectWidth]) {
+                        rectWidth++;
+                    }
+                    int rectHeight = 1;
+                    grow:
+                    while (v + rectHeight < height) {
+                        for (int k = 0; k < rectWidth; k++) {
+                            if (!grid[(v + rectHeight) * width + u + k]) break grow;
+                        }
+                        rectHeight++;
+                    }
+                    for (int dv = 0; dv < rectHeight; dv++) {
+                        for (int du = 0; du < rectWidth; du++) {
+                            grid[(v + dv) * width + u + du] = false;
+                        }
+                    }
+
+                    min[axis] = entry.getIntKey();
+                    max[axis] = entry.getIntKey() + 1;
+                    min[uAxis] = minU + u;
+                    max[uAxis] = minU + u + rectWidth;
+                    min[vAxis] = minV + v;
+                    max[vAxis] = minV + v + rectHeight;
+                    emitFace(builder, origin, direction, min, max, red, green, blue, alpha);
+
+                    u += rectWidth;
+                }
+            }
+        }
+    }
+
+    /**
+     * One face of the box [min, max) (block coordinates), in the same winding as a single block face
+     */
+    private static void emitFace(BufferBuilder builder, BlockPos origin, Direction direction, int[] min, int[] max,
+                                 float red, float green, float blue, float alpha) {
+        float x1 = min[0] - origin.getX() + SHRINK;
+        float y1 = min[1] - origin.getY() + SHRINK;
+        float z1 = min[2] - origin.getZ() + SHRINK;
+        float x2 = max[0] - origin.getX() - SHRINK;
+        float y2 = max[1] - origin.getY() - SHRINK;
+        float z2 = max[2] - origin.getZ() - SHRINK;
+        // Texture repeats once per block
+        int sizeX = max[0] - min[0];
+        int sizeY = max[1] - min[1];
+        int sizeZ = max[2] - min[2];
+
+        switch (direction) {
+            case UP -> quad(builder, x1, y2, z1, x2, y2, z1, x2, y2, z2, x1, y2, z2, sizeX, sizeZ, 0, 1, 0, red, green, blue, alpha);
+            case DOWN -> quad(builder, x1, y1, z2, x2, y1, z2, x2, y1, z1, x1, y1, z1, sizeX, sizeZ, 0, -1, 0, red, green, blue, alpha);
+            case NORTH -> quad(builder, x1, y1, z1, x2, y1, z1, x2, y2, z1, x1, y2, z1, sizeX, sizeY, 0, 0, -1, red, green, blue, alpha);
+            case SOUTH -> quad(builder, x2, y1, z2, x1, y1, z2, x1, y2, z2, x2, y2, z2, sizeX, sizeY, 0, 0, 1, red, green, blue, alpha);
+            case WEST -> quad(builder, x1, y1, z2, x1, y1, z1, x1, y2, z1, x1, y2, z2, sizeZ, sizeY, -1, 0, 0, red, green, blue, alpha);
+            case EAST -> quad(builder, x2, y1, z1, x2, y1, z2, x2, y2, z2, x2, y2, z1, sizeZ, sizeY, 1, 0, 0, red, green, blue, alpha);
+        }
+    }
+
+    private static void quad(BufferBuilder builder,
+                             float x1, float y1, float z1,
+                             float x2, float y2, float z2,
+                             float x3, float y3, float z3,
+                             float x4, float y4, float z4,
+                             float maxU, float maxV,
+                             float nx, float ny, float nz,
+                             float red, float green, float blue, float alpha) {
+        builder.addVertex(x1, y1, z1).setColor(red, green, blue, alpha).setUv(0, 0).setLight(FULL_BRIGHT).setNormal(nx, ny, nz);
+        builder.addVertex(x2, y2, z2).setColor(red, green, blue, alpha).setUv(maxU, 0).setLight(FULL_BRIGHT).setNormal(nx, ny, nz);
+        builder.addVertex(x3, y3, z3).setColor(red, green, blue, alpha).setUv(maxU, maxV).setLight(FULL_BRIGHT).setNormal(nx, ny, nz);
+        builder.addVertex(x4, y4, z4).setColor(red, green, blue, alpha).setUv(0, maxV).setLight(FULL_BRIGHT).setNormal(nx, ny, nz);
+    }
+
+    private static int coordinate(BlockPos pos, int axis) {
+        return switch (axis) {
+            case 0 -> pos.getX();
+            case 1 -> pos.getY();
+            default -> pos.getZ();
+        };
+    }
+
+    private static long pack(int u, int v) {
+        return (long) u << 32 | (v & 0xFFFFFFFFL);
+    }
+
+    private static int unpackU(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int unpackV(long packed) {
+        return (int) packed;
+    }
+}
@@ -9,6 +9,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.GameRenderer;
 import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
@@ -23,8 +24,18 @@ import java.util.List;
  */
 public class CelestialSkyRenderer {
 
+    // Vanilla moon sheet, drawn one phase at a time
+    private static final ResourceLocation MOON_PHASES_TEXTURE = ResourceLocation.withDefaultNamespace("textures/environment/moon_phases.png");
+
+    // Baked star field, rebuilt only when the star count changes
+    private static VertexBuffer starBuffer = null;
+    private static int starBufferCount = -1;
+
     /**
-     * Renders all celestial bodies for a given planet
+     * Renders all celestial bodies for a given planet.
+     *
+     * Bodies with a texture in the celestial atlas go out in one batch per blend mode, with their color
+     * as vertex color; any other texture (e.g. from a datapack outside textures/celestial) is drawn on its own.
      */
     public static void renderCelestialBodies(PoseStack poseStack, Matrix4f projectionMatrix, float partialTick,
                                            ClientLevel level, Camera camera, List<SkyRenderable> celestialBodies) {
@@ -36,8 +47,23 @@ public class CelestialSkyRenderer {
         RenderSystem.defaultBlendFunc();
         RenderSystem.depthMask(false);
 
-        for (SkyRenderable celestialBody : celestialBodies) {
-            renderCelestialBody(poseStack, projectionMatrix, partialTick, level, celestialBody);
+        // Resolve each body's sprite once, null for textures not in the atlas
+        CelestialTextureAtlas atlas = CelestialTextureAtlas.getInstance();
+        TextureAtlasSprite[] sprites = new TextureAtlasSprite[celestialBodies.size()];
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = atlas != null ? atlas.findSprite(celestialBodies.get(i).texture()) : null;
+        }
+
+        // Blended bodies (the sun) come first in the layout, so draw that batch first
+        float timeOfDay = level.getTimeOfDay(partialTick);
+        int moonPhase = level.getMoonPhase();
+        renderAtlasBatch(poseStack, celestialBodies, sprites, true, timeOfDay, moonPhase);
+        renderAtlasBatch(poseStack, celestialBodies, sprites, false, timeOfDay, moonPhase);
+
+        for (int i = 0; i < sprites.length; i++) {
+            if (sprites[i] == null) {
+                renderCelestialBody(poseStack, projectionMatrix, partialTick, level, celestialBodies.get(i));
+            }
         }
 
         RenderSystem.depthMask(true);
@@ -45,29 +71,78 @@ public class CelestialSkyRenderer {
     }
 
     /**
-     * Renders a single celestial body
+     * Draws every atlas-textured body with the given blend mode in a single draw call
      */
-    private static void renderCelestialBody(PoseStack poseStack, Matrix4f projectionMatrix, float partialTick,
-                                          ClientLevel level, SkyRenderable celestialBody) {
+    private static void renderAtlasBatch(PoseStack poseStack, List<SkyRenderable> celestialBodies,
+                                         TextureAtlasSprite[] sprites, boolean blend, float timeOfDay, int moonPhase) {
+        BufferBuilder bufferBuilder = null;
+        for (int i = 0; i < sprites.length; i++) {
+            SkyRenderable celestialBody = celestialBodies.get(i);
+            TextureAtlasSprite sprite = sprites[i];
+            if (sprite == null || celestialBody.blend() != blend) {
+                continue;
+            }
+            if (bufferBuilder == null) {
+                bufferBuilder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX_COLOR);
+            }
 
-        poseStack.pushPose();
+            float minU = sprite.getU0();
+            float maxU = sprite.getU1();
+            float minV = sprite.getV0();
+            float maxV = sprite.getV1();
+            if (celestialBody.texture().equals(MOON_PHASES_TEXTURE)) {
+                // Vanilla's 4x2 sheet - only show the current phase
+                float phaseU = (moonPhase % 4) / 4.0f;
+                float phaseV = (moonPhase / 4 % 2) / 2.0f;
+                float width = maxU - minU;
+                float height = maxV - minV;
+                minU += width * phaseU;
+                maxU = minU + width / 4.0f;
+                minV += height * phaseV;
+                maxV = minV + height / 2.0f;
+            }
 
-        // Reset to skybox coordinate system - this is crucial for fixed celestial bodies
-        poseStack.mulPose(com.mojang.math.Axis.YP.rotationDegrees(-90.0f));
-        poseStack.mulPose(com.mojang.math.Axis.XP.rotationDegrees(90.0f));
+            poseStack.pushPose();
+            applyBodyTransform(poseStack, celestialBody, timeOfDay);
+            Matrix4f matrix = poseStack.last().pose();
 
-        // Calculate time-based rotation for moving objects
-        float timeOfDay = level.getTimeOfDay(partialTick);
-        Vec3 rotation = calculateRotation(celestialBody, timeOfDay);
+            float size = celestialBody.scale() * 30.0f; // Scale factor to make objects visible
+            int color = celestialBody.color();
 
-        // Apply celestial body rotations in sky coordinates
-        // Use the rotation to position objects in the sky dome, not continuously move them
-        poseStack.mulPose(com.mojang.math.Axis.XP.rotationDegrees((float) rotation.x));
-        poseStack.mulPose(com.mojang.math.Axis.YP.rotationDegrees((float) rotation.y));
-        poseStack.mulPose(com.mojang.math.Axis.ZP.rotationDegrees((float) rotation.z));
+            // Create quad vertices facing the viewer
+            bufferBuilder.addVertex(matrix, -size, 0.0f, -size).setUv(minU, minV).setColor(color);
+            bufferBuilder.addVertex(matrix, size, 0.0f, -size).setUv(maxU, minV).setColor(color);
+            bufferBuilder.addVertex(matrix, size, 0.0f, size).setUv(maxU, maxV).setColor(color);
+            bufferBuilder.addVertex(matrix, -size, 0.0f, size).setUv(minU, maxV).setColor(color);
 
-        // Translate to sky distance
-        poseStack.translate(0.0, 100.0, 0.0);
+            poseStack.popPose();
+        }
+
+        if (bufferBuilder == null) {
+            return;
+        }
+
+        RenderSystem.setShader(GameRenderer::getPositionTexColorShader);
+        RenderSystem.setShaderTexture(0, CelestialTextureAtlas.ATLAS_LOCATION);
+        if (blend) {
+            RenderSystem.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE);
+        }
+
+        BufferUploader.drawWithShader(bufferBuilder.buildOrThrow());
+
+        if (blend) {
+            RenderSystem.defaultBlendFunc();
+        }
+    }
+
+    /**
+     * Renders a single celestial body with its own texture
+     */
+    private static void renderCelestialBody(PoseStack poseStack, Matrix4f projectionMatrix, float partialTick,
+                                          ClientLevel level, SkyRenderable celestialBody) {
+
+        poseStack.pushPose();
+        applyBodyTransform(poseStack, celestialBody, level.getTimeOfDay(partialTick));
 
         // Set up rendering state
         RenderSystem.setShader(GameRenderer::getPositionTexShader);
@@ -107,6 +182,27 @@ public class CelestialSkyRenderer {
         poseStack.popPose();
     }
 
+    /**
+     * Moves the pose to the body's place in the sky dome
+     */
+    private static void applyBodyTransform(PoseStack poseStack, SkyRenderable celestialBody, float timeOfDay) {
+        // Reset to skybox coordinate system - this is crucial for fixed celestial bodies
+        poseStack.mulPose(com.mojang.math.Axis.YP.rotationDegrees(-90.0f));
+        poseStack.mulPose(com.mojang.math.Axis.XP.rotationDegrees(90.0f));
+
+        // Calculate time-based rotation for moving objects
+        Vec3 rotation = calculateRotation(celestialBody, timeOfDay);
+
+        // Apply celestial body rotations in sky coordinates
+        // Use the rotation to position objects in the sky dome, not continuously move them
+        poseStack.mulPose(com.mojang.math.Axis.XP.rotationDegrees((float) rotation.x));
+        poseStack.mulPose(com.mojang.math.Axis.YP.rotationDegrees((float) rotation.y));
+        poseStack.mulPose(com.mojang.math.Axis.ZP.rotationDegrees((float) rotation.z));
+
+        // Translate to sky distance
+        poseStack.translate(0.0, 100.0, 0.0);
+    }
+
     /**
      * Calculates rotation based on movement type and time
      */
@@ -165,15 +261,18 @@ public class CelestialSkyRenderer {
             }
         }
 
+        // Use reasonable star count for performance
+        int starCount = Math.min(skyConfig.starCount() / 10, 1000);
+        if (starCount <= 0) {
+            return;
+        }
+
         poseStack.pushPose();
 
         // Apply the same coordinate system transformation as celestial bodies
         poseStack.mulPose(com.mojang.math.Axis.YP.rotationDegrees(-90.0f));
         poseStack.mulPose(com.mojang.math.Axis.XP.rotationDegrees(90.0f));
 
-        // Use reasonable star count for performance
-        int starCount = Math.min(skyConfig.starCount() / 10, 1000);
-
         // Set up star rendering state - configure shader first, then render states
         RenderSystem.setShader(GameRenderer::getPositionShader);
         RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, skyConfig.starBrightness());
@@ -185,7 +284,41 @@ public class CelestialSkyRenderer {
         RenderSystem.disableCull(); // Disable backface culling
         RenderSystem.disableDepthTest(); // Disable depth testing to render stars in full 360° sphere
 
-        Matrix4f matrix = poseStack.last().pose();
+        // Render all stars at once from the baked buffer
+        VertexBuffer stars = getStarBuffer(starCount);
+        stars.bind();
+        stars.drawWithShader(poseStack.last().pose(), projectionMatrix, RenderSystem.getShader());
+        VertexBuffer.unbind();
+
+        // Reset render state to defaults
+        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
+        RenderSystem.depthMask(true);
+        RenderSystem.enableCull(); // Restore face culling
+        RenderSystem.enableDepthTest(); // Restore depth testing
+        RenderSystem.disableBlend();
+
+        poseStack.popPose();
+    }
+
+    /**
+     * The star field for the given star count, baked on first use and kept until a planet needs a different count.
+     * The stars come from a fixed seed, so they are the same every frame.
+     */
+    private static VertexBuffer getStarBuffer(int starCount) {
+        if (starBuffer == null || starBufferCount != starCount) {
+            if (starBuffer != null) {
+                starBuffer.close();
+            }
+            starBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+            starBuffer.bind();
+            starBuffer.upload(buildStars(starCount));
+            VertexBuffer.unbind();
+            starBufferCount = starCount;
+        }
+        return starBuffer;
+    }
+
+    private static MeshData buildStars(int starCount) {
         BufferBuilder bufferBuilder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION);
 
         // Generate all stars using simple full-sphere distribution
@@ -216,22 +349,12 @@ public class CelestialSkyRenderer {
             float size = 0.1f + starRandom.nextFloat() * 0.2f;
 
             // Create a simple star quad at the calculated position
-            bufferBuilder.addVertex(matrix, starX - size, starY - size, starZ);
-            bufferBuilder.addVertex(matrix, starX + size, starY - size, starZ);
-            bufferBuilder.addVertex(matrix, starX + size, starY + size, starZ);
-            bufferBuilder.addVertex(matrix, starX - size, starY + size, starZ);
+            bufferBuilder.addVertex(starX - size, starY - size, starZ);
+            bufferBuilder.addVertex(starX + size, starY - size, starZ);
+            bufferBuilder.addVertex(starX + size, starY + size, starZ);
+            bufferBuilder.addVertex(starX - size, starY + size, starZ);
         }
 
-        // Render all stars at once
-        BufferUploader.drawWithShader(bufferBuilder.buildOrThrow());
-
-        // Reset render state to defaults
-        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
-        RenderSystem.depthMask(true);
-        RenderSystem.enableCull(); // Restore face culling
-        RenderSystem.enableDepthTest(); // Restore depth testing
-        RenderSystem.disableBlend();
-
-        poseStack.popPose();
+        return bufferBuilder.buildOrThrow();
     }
-}
\ No newline at end of file
+}
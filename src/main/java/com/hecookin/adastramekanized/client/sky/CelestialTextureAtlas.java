@@ -0,0 +1,56 @@
+package com.hecookin.adastramekanized.client.sky;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.texture.TextureManager;
+import net.minecraft.client.resources.TextureAtlasHolder;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * All celestial body textures stitched into one atlas on resource reload, so the sky can draw every
+ * body in a single batch. The sources are listed in atlases/celestial.json: every textures/celestial
+ * directory plus the vanilla sun, moon phases and fallback planet textures.
+ */
+public class CelestialTextureAtlas extends TextureAtlasHolder {
+
+    public static final ResourceLocation ATLAS_LOCATION =
+        ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "textures/atlas/celestial.png");
+    private static final ResourceLocation ATLAS_INFO =
+        ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "celestial");
+
+    private static CelestialTextureAtlas instance;
+
+    private CelestialTextureAtlas(TextureManager textureManager) {
+        super(textureManager, ATLAS_LOCATION, ATLAS_INFO);
+    }
+
+    public static CelestialTextureAtlas create(TextureManager textureManager) {
+        instance = new CelestialTextureAtlas(textureManager);
+        return instance;
+    }
+
+    /**
+     * @return The atlas, or null before the client has registered its reload listeners
+     */
+    @Nullable
+    public static CelestialTextureAtlas getInstance() {
+        return instance;
+    }
+
+    /**
+     * The sprite for a texture path (namespace:textures/path.png)
+     * @return The sprite, or null if the texture is not part of the atlas
+     */
+    @Nullable
+    public TextureAtlasSprite findSprite(ResourceLocation texture) {
+        String path = texture.getPath();
+        if (!path.startsWith("textures/") || !path.endsWith(".png")) {
+            return null;
+        }
+        ResourceLocation spriteId = texture.withPath(path.substring("textures/".length(), path.length() - ".png".length()));
+        TextureAtlasSprite sprite = getSprite(spriteId);
+        return sprite.contents().name().equals(MissingTextureAtlasSprite.getLocation()) ? null : sprite;
+    }
+}
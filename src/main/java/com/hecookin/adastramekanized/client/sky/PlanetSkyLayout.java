@@ -0,0 +1,88 @@
+package com.hecookin.adastramekanized.client.sky;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.api.planets.Planet;
+import com.hecookin.adastramekanized.api.planets.PlanetRegistry;
+import com.hecookin.adastramekanized.api.planets.atmosphere.AtmosphericRendering;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * What a planet's custom sky shows: its star configuration and its celestial bodies converted to SkyRenderables.
+ *
+ * The sky is drawn every frame, so the layout for the current dimension is memoized and only rebuilt
+ * when the dimension changes or PlanetRegistry changes (planet data reload or client sync).
+ * Only used from the render thread.
+ */
+public record PlanetSkyLayout(
+        @Nullable AtmosphericRendering.SkyConfiguration sky,
+        List<SkyRenderable> celestialBodies
+) {
+
+    @Nullable
+    private static ResourceKey<Level> cachedDimension = null;
+    private static int cachedVersion = -1;
+    @Nullable
+    private static PlanetSkyLayout cached = null;
+
+    /**
+     * @return The sky layout, or null if the dimension keeps the vanilla sky
+     */
+    @Nullable
+    public static PlanetSkyLayout get(ResourceKey<Level> dimension) {
+        int version = PlanetRegistry.getInstance().getVersion();
+        if (dimension != cachedDimension || version != cachedVersion) {
+            cached = build(dimension);
+            cachedDimension = dimension;
+            cachedVersion = version;
+        }
+        return cached;
+    }
+
+    @Nullable
+    private static PlanetSkyLayout build(ResourceKey<Level> dimension) {
+        ResourceLocation planetId = mapDimensionToPlanetId(dimension.location());
+
+        // Skip if no planet ID mapping exists (e.g., Nether, End)
+        if (planetId == null) {
+            return null;
+        }
+
+        Planet planet = PlanetRegistry.getInstance().getPlanet(planetId);
+        if (planet == null) {
+            AdAstraMekanized.LOGGER.debug("Planet not found in registry for dimension: {} (registry has {} planets)",
+                dimension.location(), PlanetRegistry.getInstance().getPlanetCount());
+            return null;
+        }
+
+        // Only replace sky rendering for planets with custom celestial bodies
+        if (planet.rendering() == null || planet.rendering().celestialBodies() == null) {
+            return null;
+        }
+
+        return new PlanetSkyLayout(
+            planet.rendering().sky(),
+            List.copyOf(CelestialBodyConverter.convertCelestialBodies(planet.rendering().celestialBodies()))
+        );
+    }
+
+    @Nullable
+    private static ResourceLocation mapDimensionToPlanetId(ResourceLocation dimensionLocation) {
+        // Simple mapping for our custom dimensions
+        if (dimensionLocation.getNamespace().equals(AdAstraMekanized.MOD_ID)) {
+            return dimensionLocation; // Direct mapping for our mod dimensions
+        }
+
+        // Map vanilla dimensions to our planet IDs if we have planet data for them
+        return switch (dimensionLocation.toString()) {
+            case "minecraft:overworld" -> ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "earth");
+            case "minecraft:the_nether" -> null; // No celestial bodies in Nether
+            case "minecraft:the_end" -> null; // No celestial bodies in End
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs machine flood fills on a small worker pool against chunk section snapshots.
+ *
+ * The snapshot is taken on the server thread when the fill is submitted, the search runs on a worker,
+ * and the machine picks up the result on a later tick. If any snapshot section changed in between, or
+ * the search left the snapshot, the search is resubmitted with a fresh (or larger) snapshot rather than
+ * redone on the server thread, so the server thread only ever pays for copying sections.
+ */
+public final class AsyncFloodFill {
+
+    // First snapshot radius - a search wandering further is resubmitted with a snapshot twice as large
+    private static final int INITIAL_SNAPSHOT_RADIUS = 64;
+    private static final int MAX_QUEUED_FILLS = 64;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ThreadPoolExecutor WORKERS = createWorkers();
+
+    private AsyncFloodFill() {}
+
+    private static ThreadPoolExecutor createWorkers() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_FILLS),
+            runnable -> {
+                Thread thread = new Thread(runnable, "AdAstra-Atmosphere-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Snapshot the sections around center and run the search on a worker. Server thread only.
+     * @param searchRadius How far from center the search can read
+     */
+    public static PendingFill submit(Level level, BlockPos center, int searchRadius, Function<BlockGetter, Set<BlockPos>> search) {
+        PendingFill fill = new PendingFill(center, searchRadius, search);
+        fill.start(level);
+        return fill;
+    }
+
+    /**
+     * A submitted flood fill. Owned and polled by a single machine on the server thread.
+     */
+    public static final class PendingFill {
+        private final BlockPos center;
+        private final int searchRadius;
+        private final Function<BlockGetter, Set<BlockPos>> search;
+
+        private int snapshotRadius;
+        // Null while waiting for room in the worker queue
+        @Nullable
+        private CompletableFuture<Set<BlockPos>> future;
+        private SectionSnapshot snapshot;
+        private boolean abandoned = false;
+
+        private PendingFill(BlockPos center, int searchRadius, Function<BlockGetter, Set<BlockPos>> search) {
+            this.center = center;
+            this.searchRadius = searchRadius;
+            this.search = search;
+            this.snapshotRadius = Math.min(searchRadius, INITIAL_SNAPSHOT_RADIUS);
+        }
+
+        private void start(Level level) {
+            releaseSnapshot(level);
+            SectionSnapshot captured = SectionSnapshot.capture(level, center, snapshotRadius);
+            snapshot = captured;
+            try {
+                future = CompletableFuture.supplyAsync(() -> search.apply(captured), WORKERS);
+            } catch (RejectedExecutionException e) {
+                AdAstraMekanized.LOGGER.debug("Atmosphere worker queue full, retrying flood fill at {} next poll", center);
+                future = null;
+            }
+        }
+
+        /**
+         * Whether join should be called - the search finished, or it is waiting to be resubmitted
+         */
+        public boolean isDone() {
+            return future == null || future.isDone();
+        }
+
+        /**
+         * Whether the search failed and was given up - the machine should submit a new one later
+         */
+        public boolean isAbandoned() {
+            return abandoned;
+        }
+
+        /**
+         * Get the result. If the snapshot went stale, the search left it, or the worker queue was full,
+         * the search is resubmitted instead and null is returned - keep polling.
+         * Also returns null once the search failed, see isAbandoned. Server thread only.
+         */
+        @Nullable
+        public Set<BlockPos> join(Level level) {
+            if (future == null) {
+                start(level);
+                return null;
+            }
+
+            Set<BlockPos> result;
+            try {
+                result = future.join();
+            } catch (RuntimeException e) {
+                AdAstraMekanized.LOGGER.warn("Background flood fill at {} failed", center, e);
+                abandoned = true;
+                releaseSnapshot(level);
+                return null;
+            }
+
+            if (snapshot.isIncomplete() && snapshotRadius < searchRadius) {
+                // The search left the snapshot - retry with a larger one
+                snapshotRadius = Math.min(searchRadius, snapshotRadius * 2);
+                start(level);
+                return null;
+            }
+            // Unloaded chunks inside the snapshot read as open air, so the result never seals against them
+            if (!snapshot.isCurrent(level)) {
+                start(level);
+                return null;
+            }
+            releaseSnapshot(level);
+            return result;
+        }
+
+        /**
+         * Stop the search. Server thread only.
+         */
+        public void cancel(@Nullable Level level) {
+            if (future != null) {
+                future.cancel(false);
+            }
+            if (level != null) {
+                releaseSnapshot(level);
+            }
+        }
+
+        private void releaseSnapshot(Level level) {
+            if (snapshot != null) {
+                snapshot.release(level);
+                snapshot = null;
+            }
+        }
+    }
+}
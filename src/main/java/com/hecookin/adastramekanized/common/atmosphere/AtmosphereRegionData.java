@@ -0,0 +1,288 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Persists the regions computed by oxygen distributors and gravity normalizers, per dimension.
+ *
+ * Regions are stored as 4096-bit section bitsets together with a hash of the block states on the
+ * region boundary, kept per chunk section. Machines restore their region as soon as they load, so bases
+ * stay breathable across restarts and chunk reloads, and only re-run the flood fill if a loaded part of
+ * the boundary no longer matches the world.
+ *
+ * Machines only mark their region as changed. It is hashed and packed when the level saves, or when
+ * the machine's chunk unloads, so frequent incremental repairs cost nothing here.
+ */
+public class AtmosphereRegionData extends SavedData {
+
+    private static final String DATA_NAME = AdAstraMekanized.MOD_ID + "_atmosphere_regions";
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    public enum RegionKind {
+        OXYGEN("Oxygen"),
+        GRAVITY("Gravity");
+
+        private final String tagName;
+
+        RegionKind(String tagName) {
+            this.tagName = tagName;
+        }
+    }
+
+    /**
+     * A saved region and the boundary hashes it was computed against (boundary section key -> hash)
+     */
+    public record StoredRegion(SectionBitStore blocks, Long2LongMap boundaryHashes) {
+        public Set<BlockPos> toPositions() {
+            Set<BlockPos> positions = new HashSet<>(blocks.size());
+            blocks.forEachPosition(positions::add);
+            return positions;
+        }
+    }
+
+    private final Map<RegionKind, Map<BlockPos, StoredRegion>> regions = new HashMap<>();
+    // Machine regions changed since the last store - the machine's live set, read on the server thread
+    private final Map<RegionKind, Map<BlockPos, Set<BlockPos>>> pending = new HashMap<>();
+    @Nullable
+    private ServerLevel level;
+
+    public AtmosphereRegionData() {
+        super();
+        for (RegionKind kind : RegionKind.values()) {
+            regions.put(kind, new HashMap<>());
+            pending.put(kind, new HashMap<>());
+        }
+    }
+
+    public static AtmosphereRegionData load(CompoundTag tag, HolderLookup.Provider registries) {
+        AtmosphereRegionData data = new AtmosphereRegionData();
+
+        for (RegionKind kind : RegionKind.values()) {
+            ListTag regionList = tag.getList(kind.tagName, Tag.TAG_COMPOUND);
+            for (int i = 0; i < regionList.size(); i++) {
+                CompoundTag regionTag = regionList.getCompound(i);
+                SectionBitStore blocks = new SectionBitStore();
+
+                ListTag sectionList = regionTag.getList("Sections", Tag.TAG_COMPOUND);
+                for (int j = 0; j < sectionList.size(); j++) {
+                    CompoundTag sectionTag = sectionList.getCompound(j);
+                    long[] words = sectionTag.getLongArray("Bits");
+                    if (words.length == 4096 / 64) {
+                        blocks.putSection(sectionTag.getLong("Pos"), words);
+                    }
+                }
+
+                // Section key, hash pairs
+                Long2LongOpenHashMap boundaryHashes = new Long2LongOpenHashMap();
+                long[] pairs = regionTag.getLongArray("BoundaryHashes");
+                for (int j = 0; j + 1 < pairs.length; j += 2) {
+                    boundaryHashes.put(pairs[j], pairs[j + 1]);
+                }
+
+                BlockPos machinePos = BlockPos.of(regionTag.getLong("Machine"));
+                data.regions.get(kind).put(machinePos, new StoredRegion(blocks, boundaryHashes));
+            }
+        }
+
+        return data;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        flushAll();
+
+        for (RegionKind kind : RegionKind.values()) {
+            ListTag regionList = new ListTag();
+
+            for (Map.Entry<BlockPos, StoredRegion> entry : regions.get(kind).entrySet()) {
+                CompoundTag regionTag = new CompoundTag();
+                regionTag.putLong("Machine", entry.getKey().asLong());
+                long[] pairs = new long[entry.getValue().boundaryHashes().size() * 2];
+                int index = 0;
+                for (Long2LongMap.Entry hash : entry.getValue().boundaryHashes().long2LongEntrySet()) {
+                    pairs[index++] = hash.getLongKey();
+                    pairs[index++] = hash.getLongValue();
+                }
+                regionTag.putLongArray("BoundaryHashes", pairs);
+
+                ListTag sectionList = new ListTag();
+                entry.getValue().blocks().forEachSection((sectionKey, words) -> {
+                    CompoundTag sectionTag = new CompoundTag();
+                    sectionTag.putLong("Pos", sectionKey);
+                    sectionTag.putLongArray("Bits", words.clone());
+                    sectionList.add(sectionTag);
+                });
+                regionTag.put("Sections", sectionList);
+                regionList.add(regionTag);
+            }
+
+            tag.put(kind.tagName, regionList);
+        }
+        return tag;
+    }
+
+    public static AtmosphereRegionData get(ServerLevel level) {
+        AtmosphereRegionData data = level.getDataStorage().computeIfAbsent(
+            new SavedData.Factory<>(AtmosphereRegionData::new, AtmosphereRegionData::load),
+            DATA_NAME
+        );
+        data.level = level;
+        return data;
+    }
+
+    /**
+     * Note that a machine's region changed. The live set is stored on the next level save or flush,
+     * so it must stay the machine's region set until then.
+     */
+    public void markRegionChanged(RegionKind kind, BlockPos machinePos, Set<BlockPos> liveRegion) {
+        pending.get(kind).put(machinePos.immutable(), liveRegion);
+        setDirty();
+    }
+
+    /**
+     * Store a machine's region now if it changed, e.g. before its chunk unloads and the region is released
+     */
+    public void flushRegion(RegionKind kind, BlockPos machinePos) {
+        Set<BlockPos> region = pending.get(kind).remove(machinePos);
+        if (region != null && level != null) {
+            storeRegion(level, kind, machinePos, region);
+        }
+    }
+
+    private void flushAll() {
+        if (level == null) {
+            return;
+        }
+        for (RegionKind kind : RegionKind.values()) {
+            Map<BlockPos, Set<BlockPos>> changed = pending.get(kind);
+            for (Map.Entry<BlockPos, Set<BlockPos>> entry : changed.entrySet()) {
+                storeRegion(level, kind, entry.getKey(), entry.getValue());
+            }
+            changed.clear();
+        }
+    }
+
+    private void storeRegion(Level level, RegionKind kind, BlockPos machinePos, Set<BlockPos> region) {
+        if (region.isEmpty()) {
+            regions.get(kind).remove(machinePos);
+            setDirty();
+            return;
+        }
+
+        SectionBitStore blocks = new SectionBitStore();
+        blocks.addAll(region);
+        regions.get(kind).put(machinePos.immutable(), new StoredRegion(blocks, computeBoundaryHashes(level, region)));
+        setDirty();
+    }
+
+    public StoredRegion getRegion(RegionKind kind, BlockPos machinePos) {
+        return regions.get(kind).get(machinePos);
+    }
+
+    /**
+     * Find the machine whose region (saved or waiting to be saved) contains one of the positions
+     * @return The owning machine, never machinePos itself, or null
+     */
+    @Nullable
+    public BlockPos findRegionOwner(RegionKind kind, BlockPos machinePos, Collection<BlockPos> positions) {
+        for (Map.Entry<BlockPos, Set<BlockPos>> entry : pending.get(kind).entrySet()) {
+            if (!entry.getKey().equals(machinePos) && containsAny(entry.getValue()::contains, positions)) {
+                return entry.getKey();
+            }
+        }
+        for (Map.Entry<BlockPos, StoredRegion> entry : regions.get(kind).entrySet()) {
+            if (!entry.getKey().equals(machinePos) && !pending.get(kind).containsKey(entry.getKey())
+                    && containsAny(entry.getValue().blocks()::contains, positions)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsAny(Predicate<BlockPos> region, Collection<BlockPos> positions) {
+        for (BlockPos pos : positions) {
+            if (region.test(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void removeRegion(RegionKind kind, BlockPos machinePos) {
+        pending.get(kind).remove(machinePos);
+        if (regions.get(kind).remove(machinePos) != null) {
+            setDirty();
+        }
+    }
+
+    /**
+     * Whether the boundary of the region still matches the saved hashes. Only sections loaded now are
+     * compared; a loaded boundary section that was not hashed when saving counts as a mismatch.
+     */
+    public static boolean boundaryMatches(Level level, Set<BlockPos> region, Long2LongMap savedHashes) {
+        Long2LongOpenHashMap current = computeBoundaryHashes(level, region);
+        for (Long2LongMap.Entry entry : current.long2LongEntrySet()) {
+            if (!savedHashes.containsKey(entry.getLongKey()) || savedHashes.get(entry.getLongKey()) != entry.getLongValue()) {
+                return false;
+            }
+        }
+        for (Long2LongMap.Entry entry : savedHashes.long2LongEntrySet()) {
+            long section = entry.getLongKey();
+            if (!current.containsKey(section) && level.hasChunk(SectionPos.x(section), SectionPos.z(section))) {
+                // The walls in this section are gone
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Order-independent hash of the block states just outside the region (the walls holding it in),
+     * per chunk section of the wall block. Walls in unloaded chunks are left out.
+     */
+    public static Long2LongOpenHashMap computeBoundaryHashes(Level level, Set<BlockPos> region) {
+        Long2LongOpenHashMap hashes = new Long2LongOpenHashMap();
+        BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+
+        for (BlockPos pos : region) {
+            for (Direction dir : DIRECTIONS) {
+                neighbor.setWithOffset(pos, dir);
+                if (region.contains(neighbor) || !level.isLoaded(neighbor)) {
+                    continue;
+                }
+                // A wall touching several region blocks is counted once per face, which is fine for a checksum
+                long value = neighbor.asLong() * 31 + Block.getId(level.getBlockState(neighbor));
+                hashes.addTo(SectionPos.asLong(neighbor), mix(value));
+            }
+        }
+        return hashes;
+    }
+
+    private static long mix(long value) {
+        // SplitMix64 finalizer so summing stays well distributed
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,139 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.config.AdAstraMekanizedConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-level queue for atmosphere machine work (flood fill commit and submission).
+ *
+ * Machines submit themselves when they have work due instead of running it inline, and the queue is
+ * drained at the end of the level tick within a configurable time budget. Machines near players and
+ * machines that have waited longest go first; anything left over carries to the next tick.
+ * At least one job runs every tick so the queue always makes progress.
+ *
+ * The flood fills themselves run on AsyncFloodFill's workers, so a job's server thread cost is
+ * committing one finished fill and submitting the next. The budget is checked between jobs and
+ * between those two steps: a job that used up the budget on its commit yields and keeps its place.
+ * A single commit is not split.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class AtmosphereScheduler {
+
+    // One tick of waiting counts as much as being this many blocks closer to a player
+    private static final double STALENESS_WEIGHT = 4.0;
+    // Machines further than this from every player share the lowest proximity priority
+    private static final double MAX_PRIORITY_DISTANCE = 256.0;
+
+    // Dimension -> queued job -> game time it was queued
+    private static final Map<ResourceKey<Level>, Map<Job, Long>> QUEUES = new ConcurrentHashMap<>();
+
+    private AtmosphereScheduler() {}
+
+    /**
+     * Work that an atmosphere machine wants run on the server thread
+     */
+    public interface Job {
+        BlockPos getBlockPos();
+
+        boolean isRemoved();
+
+        /**
+         * Run due work. Work still due once System.nanoTime() passes deadlineNanos may be kept for later.
+         * @return true if the job yielded and should stay queued
+         */
+        boolean runScheduledWork(long deadlineNanos);
+    }
+
+    /**
+     * Queue a job. Queuing an already queued job keeps its original place.
+     */
+    public static void submit(Level level, Job job) {
+        if (level.isClientSide()) return;
+
+        QUEUES.computeIfAbsent(level.dimension(), k -> new LinkedHashMap<>())
+            .putIfAbsent(job, level.getGameTime());
+    }
+
+    public static int getQueuedCount(Level level) {
+        Map<Job, Long> queue = QUEUES.get(level.dimension());
+        return queue != null ? queue.size() : 0;
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        Level level = event.getLevel();
+        if (level.isClientSide()) return;
+
+        Map<Job, Long> queue = QUEUES.get(level.dimension());
+        if (queue == null || queue.isEmpty()) return;
+
+        long now = level.getGameTime();
+        List<? extends Player> players = level.players();
+        List<Map.Entry<Job, Double>> ordered = new ArrayList<>(queue.size());
+        for (Map.Entry<Job, Long> entry : queue.entrySet()) {
+            double waited = now - entry.getValue();
+            double distance = nearestPlayerDistance(players, entry.getKey().getBlockPos());
+            ordered.add(Map.entry(entry.getKey(), waited * STALENESS_WEIGHT - distance));
+        }
+        ordered.sort(Map.Entry.<Job, Double>comparingByValue(Comparator.reverseOrder()));
+
+        long budgetNanos = AdAstraMekanizedConfig.getAtmosphereTickBudgetMicros() * 1000L;
+        long start = System.nanoTime();
+        int ran = 0;
+
+        for (Map.Entry<Job, Double> entry : ordered) {
+            if (ran > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+            Job job = entry.getKey();
+            Long queuedAt = queue.remove(job);
+            if (job.isRemoved()) {
+                continue;
+            }
+            try {
+                if (job.runScheduledWork(start + budgetNanos)) {
+                    // Keeps its waiting time, so it goes first next tick
+                    queue.put(job, queuedAt);
+                }
+            } catch (RuntimeException e) {
+                AdAstraMekanized.LOGGER.error("Atmosphere work at {} failed", job.getBlockPos(), e);
+            }
+            ran++;
+        }
+
+        if (!queue.isEmpty()) {
+            AdAstraMekanized.LOGGER.debug("Atmosphere scheduler: ran {} jobs in {} us, {} carried to next tick in {}",
+                ran, (System.nanoTime() - start) / 1000, queue.size(), level.dimension().location());
+        }
+    }
+
+    private static double nearestPlayerDistance(List<? extends Player> players, BlockPos pos) {
+        double nearestSq = MAX_PRIORITY_DISTANCE * MAX_PRIORITY_DISTANCE;
+        for (Player player : players) {
+            nearestSq = Math.min(nearestSq, player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5));
+        }
+        return Math.sqrt(nearestSq);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            QUEUES.remove(level.dimension());
+        }
+    }
+}
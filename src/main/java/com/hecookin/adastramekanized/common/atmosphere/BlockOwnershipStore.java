@@ -0,0 +1,396 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Block ownership for one dimension, packed per 16x16x16 chunk section.
+ *
+ * Each section holds a small palette of owner ids plus a bit-packed index per block, so memory
+ * scales with the sections touched rather than with one boxed BlockPos pair per block.
+ * Owners are interned once into a small int id table.
+ *
+ * Reads never lock, and are only atomic per block: the section map and palettes are replaced
+ * copy-on-write, but block indices are rewritten in place one long word at a time. A read racing
+ * a claim/release may see part of that batch applied, and for a block changing owner mid-read it
+ * may briefly return the previous owner or null.
+ * Writes are batched - one lock acquisition per claim/release call.
+ */
+public class BlockOwnershipStore {
+
+    private static final int SECTION_VOLUME = 4096;
+    private static final int MAX_BITS = 16;
+
+    // Section key (SectionPos.asLong) -> section. The map is replaced when sections are added or
+    // removed; the sections themselves are updated in place.
+    private volatile Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+    // Owner id -> owner position. Id 0 means unowned. Replaced copy-on-write when it grows.
+    private volatile BlockPos[] ownersById = new BlockPos[16];
+
+    // Writer-side bookkeeping, guarded by writeLock
+    private final Object writeLock = new Object();
+    private final Map<BlockPos, Integer> idsByOwner = new HashMap<>();
+    private final ArrayDeque<Integer> freeIds = new ArrayDeque<>();
+    private int[] blocksPerOwner = new int[16];
+    private int nextId = 1;
+
+    private volatile int totalBlocks = 0;
+
+    /**
+     * @return The owner of the block, or null if unclaimed
+     */
+    public BlockPos getOwner(BlockPos pos) {
+        return getOwner(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Allocation-free owner lookup
+     * @return The owner of the block, or null if unclaimed
+     */
+    public BlockPos getOwner(int x, int y, int z) {
+        Section section = sections.get(SectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        if (section == null) {
+            return null;
+        }
+        int id = section.get(indexOf(x, y, z));
+        if (id == 0) {
+            return null;
+        }
+        BlockPos[] owners = ownersById;
+        return id < owners.length ? owners[id] : null;
+    }
+
+    public boolean isOccupied(BlockPos pos) {
+        Section section = sections.get(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        return section != null && section.get(indexOf(pos.getX(), pos.getY(), pos.getZ())) != 0;
+    }
+
+    public int size() {
+        return totalBlocks;
+    }
+
+    public int sectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * Claim every unowned block for the owner in a single batch.
+     * @return The requested blocks now owned by the owner (newly claimed or already owned)
+     */
+    public ClaimResult claim(BlockPos owner, Collection<BlockPos> requested) {
+        Set<BlockPos> claimed = new HashSet<>();
+        int newlyClaimed = 0;
+        int ownedByOthers = 0;
+
+        synchronized (writeLock) {
+            int ownerId = acquireId(owner);
+            Long2ObjectOpenHashMap<Section> current = sections;
+            Long2ObjectOpenHashMap<Section> copy = null;
+
+            long lastKey = Long.MIN_VALUE;
+            Section section = null;
+
+            for (BlockPos pos : requested) {
+                long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+                if (key != lastKey || section == null) {
+                    section = (copy != null ? copy : current).get(key);
+                    if (section == null) {
+                        if (copy == null) {
+                            copy = new Long2ObjectOpenHashMap<>(current);
+                        }
+                        section = new Section();
+                        copy.put(key, section);
+                    }
+                    lastKey = key;
+                }
+
+                int index = indexOf(pos.getX(), pos.getY(), pos.getZ());
+                int existing = section.get(index);
+                if (existing == 0) {
+                    section.set(index, ownerId);
+                    section.ownedCount++;
+                    claimed.add(pos);
+                    newlyClaimed++;
+                } else if (existing == ownerId) {
+                    claimed.add(pos);
+                } else {
+                    ownedByOthers++;
+                }
+            }
+
+            blocksPerOwner[ownerId] += newlyClaimed;
+            totalBlocks += newlyClaimed;
+            if (blocksPerOwner[ownerId] == 0) {
+                releaseId(owner, ownerId);
+            }
+            if (copy != null) {
+                sections = copy;
+            }
+        }
+
+        return new ClaimResult(claimed, newlyClaimed, ownedByOthers);
+    }
+
+    /**
+     * Release the given blocks if they are owned by the owner, in a single batch.
+     * @return Number of blocks released
+     */
+    public int release(BlockPos owner, Collection<BlockPos> blocks) {
+        int released = 0;
+
+        synchronized (writeLock) {
+            Integer boxedId = idsByOwner.get(owner);
+            if (boxedId == null) {
+                return 0;
+            }
+            int ownerId = boxedId;
+            Long2ObjectOpenHashMap<Section> current = sections;
+            Long2ObjectOpenHashMap<Section> copy = null;
+
+            long lastKey = Long.MIN_VALUE;
+            Section section = null;
+
+            for (BlockPos pos : blocks) {
+                long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+                if (key != lastKey) {
+                    section = (copy != null ? copy : current).get(key);
+                    lastKey = key;
+                }
+                if (section == null) {
+                    continue;
+                }
+
+                int index = indexOf(pos.getX(), pos.getY(), pos.getZ());
+                if (section.get(index) != ownerId) {
+                    continue;
+                }
+                section.set(index, 0);
+                released++;
+
+                if (--section.ownedCount == 0) {
+                    if (copy == null) {
+                        copy = new Long2ObjectOpenHashMap<>(current);
+                    }
+                    copy.remove(key);
+                    section = null;
+                }
+            }
+
+            blocksPerOwner[ownerId] -= released;
+            totalBlocks -= released;
+            if (blocksPerOwner[ownerId] == 0) {
+                releaseId(owner, ownerId);
+            }
+            if (copy != null) {
+                sections = copy;
+            }
+        }
+
+        return released;
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            sections = new Long2ObjectOpenHashMap<>();
+            ownersById = new BlockPos[16];
+            idsByOwner.clear();
+            freeIds.clear();
+            blocksPerOwner = new int[16];
+            nextId = 1;
+            totalBlocks = 0;
+        }
+    }
+
+    private int acquireId(BlockPos owner) {
+        Integer existing = idsByOwner.get(owner);
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = freeIds.isEmpty() ? nextId++ : freeIds.poll();
+        if (id >= ownersById.length) {
+            int newLength = ownersById.length * 2;
+            BlockPos[] grown = Arrays.copyOf(ownersById, newLength);
+            blocksPerOwner = Arrays.copyOf(blocksPerOwner, newLength);
+            grown[id] = owner.immutable();
+            ownersById = grown;
+        } else {
+            BlockPos[] updated = ownersById.clone();
+            updated[id] = owner.immutable();
+            ownersById = updated;
+        }
+        idsByOwner.put(owner.immutable(), id);
+        return id;
+    }
+
+    private void releaseId(BlockPos owner, int id) {
+        // No block references the id any more, so it can be handed out again
+        idsByOwner.remove(owner);
+        BlockPos[] updated = ownersById.clone();
+        updated[id] = null;
+        ownersById = updated;
+        freeIds.add(id);
+    }
+
+    private static int indexOf(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    /**
+     * Outcome of a batched claim
+     */
+    public record ClaimResult(Set<BlockPos> claimed, int newlyClaimed, int ownedByOthers) {}
+
+    /**
+     * One chunk section: palette of owner ids + packed palette index per block
+     */
+    private static final class Section {
+        // Replaced whenever the ids or bits change, so readers always see a consistent ids/bits pair.
+        // The words array is shared with the previous palette until compaction and written in place.
+        private volatile Palette palette = new Palette(1, new int[2], new long[SECTION_VOLUME / 64]);
+        // Writer only: how many blocks point at each palette slot. A slot is only reused once this drops to 0.
+        private int[] slotRefs = new int[2];
+        private int ownedCount = 0;
+
+        int get(int index) {
+            Palette p = palette;
+            return p.ids[p.slotAt(index)];
+        }
+
+        void set(int index, int ownerId) {
+            Palette p = palette;
+            int oldSlot = p.slotAt(index);
+
+            // Unowned blocks always use slot 0, which is never handed to an owner
+            int slot = 0;
+            if (ownerId != 0) {
+                slot = p.slotOf(ownerId);
+                if (slot < 0) {
+                    p = addToPalette(p, ownerId);
+                    slot = p.slotOf(ownerId);
+                    // Compaction may have moved the block's old slot
+                    oldSlot = p.slotAt(index);
+                }
+                slotRefs[slot]++;
+            }
+            p.setSlot(index, slot);
+
+            if (oldSlot != 0 && --slotRefs[oldSlot] == 0) {
+                // Nothing points at the old slot any more - free it for the next new owner
+                int[] ids = p.ids.clone();
+                ids[oldSlot] = 0;
+                palette = new Palette(p.bits, ids, p.words);
+            }
+        }
+
+        private Palette addToPalette(Palette p, int ownerId) {
+            // Reuse a slot no block points at any more before growing
+            int freeSlot = p.findFreeSlot();
+            if (freeSlot < 0) {
+                p = compactOrGrow(p);
+                freeSlot = p.findFreeSlot();
+            }
+            int[] ids = p.ids.clone();
+            ids[freeSlot] = ownerId;
+            Palette updated = new Palette(p.bits, ids, p.words);
+            palette = updated;
+            return updated;
+        }
+
+        private Palette compactOrGrow(Palette p) {
+            int[] used = new int[p.ids.length];
+            for (int i = 0; i < SECTION_VOLUME; i++) {
+                used[p.slotAt(i)]++;
+            }
+            int live = 1;
+            for (int slot = 1; slot < used.length; slot++) {
+                if (used[slot] > 0) {
+                    live++;
+                }
+            }
+
+            int bits = p.bits;
+            if (live >= p.ids.length) {
+                bits = Math.min(MAX_BITS, bits * 2);
+                if (live >= (1 << bits)) {
+                    throw new IllegalStateException("Too many owners in one section");
+                }
+            }
+
+            int[] ids = new int[1 << bits];
+            int[] remap = new int[p.ids.length];
+            int next = 1;
+            for (int slot = 1; slot < used.length; slot++) {
+                if (used[slot] > 0) {
+                    ids[next] = p.ids[slot];
+                    remap[slot] = next++;
+                }
+            }
+
+            int[] refs = new int[ids.length];
+            Palette rebuilt = new Palette(bits, ids, new long[SECTION_VOLUME * bits / 64]);
+            for (int i = 0; i < SECTION_VOLUME; i++) {
+                int slot = remap[p.slotAt(i)];
+                rebuilt.setSlot(i, slot);
+                refs[slot]++;
+            }
+            refs[0] = 0;
+            slotRefs = refs;
+            palette = rebuilt;
+            return rebuilt;
+        }
+    }
+
+    /**
+     * Palette ids plus packed slot indices. bits is always 1, 2, 4, 8 or 16 so entries never straddle words.
+     * Slot 0 always maps to id 0 (unowned).
+     */
+    private record Palette(int bits, int[] ids, long[] words) {
+
+        int slotAt(int index) {
+            int perWord = 64 / bits;
+            long word = words[index / perWord];
+            return (int) ((word >>> ((index % perWord) * bits)) & ((1L << bits) - 1));
+        }
+
+        void setSlot(int index, int slot) {
+            int perWord = 64 / bits;
+            int wordIndex = index / perWord;
+            int shift = (index % perWord) * bits;
+            long mask = ((1L << bits) - 1) << shift;
+            // Single long store - readers see either the old or the new word, never a torn slot
+            words[wordIndex] = (words[wordIndex] & ~mask) | (((long) slot << shift) & mask);
+        }
+
+        int slotOf(int ownerId) {
+            for (int slot = 1; slot < ids.length; slot++) {
+                if (ids[slot] == ownerId) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * A slot with no owner id - set() clears a slot's id as soon as no block refers to it
+         */
+        int findFreeSlot() {
+            for (int slot = 1; slot < ids.length; slot++) {
+                if (ids[slot] == 0) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.SlabBlock;
+import net.minecraft.world.level.block.StairBlock;
+import net.minecraft.world.level.block.TrapDoorBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.SlabType;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+/**
+ * Precomputed gas behaviour for every BlockState, indexed by block state id.
+ *
+ * Flood fills previously ran VoxelShape face checks and instanceof chains for every neighbour they
+ * visited. Those answers only depend on the state, so they are computed once here and looked up
+ * with a single array read. Built lazily after registries freeze and rebuilt whenever tags reload.
+ *
+ * Shapes are evaluated against an empty world at the origin. States whose shape depends on the world
+ * (hasDynamicShape) or that fail to evaluate there are flagged LIVE_EVALUATE and recomputed at their
+ * real position on every lookup; a state that also fails in the world counts as a gas-tight wall.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class GasPassabilityTable {
+
+    // Bits 0-5: gas crosses this face (indexed by Direction.get3DDataValue)
+    public static final int FACE_MASK = 0x3F;
+    // Position is part of the breathable volume (air, stairs, open trapdoors, partial blocks)
+    public static final int HOLDS_ATMOSPHERE = 1 << 6;
+    // Solid full cube - gas never enters
+    public static final int GAS_TIGHT = 1 << 7;
+    // Full collision cube, regardless of solidity
+    public static final int FULL_COLLISION = 1 << 8;
+    public static final int AIR = 1 << 9;
+    public static final int SOLID = 1 << 10;
+    // Shape depends on the world - recomputed at the queried position instead of read from the table
+    public static final int LIVE_EVALUATE = 1 << 11;
+
+    // Used for states whose shape could not be evaluated: a wall that gas and gravity stop at
+    private static final int CONSERVATIVE = GAS_TIGHT | FULL_COLLISION | SOLID;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private static volatile int[] table = null;
+
+    private GasPassabilityTable() {}
+
+    /**
+     * @return The flag bits for a state at a position
+     */
+    public static int flags(BlockGetter level, BlockPos pos, BlockState state) {
+        int[] current = table;
+        if (current == null) {
+            current = rebuild();
+        }
+        int id = Block.getId(state);
+        // States registered after the last build (or every state if the build failed) are computed directly
+        if (id < 0 || id >= current.length) {
+            return computeLive(level, pos, state);
+        }
+        int flags = current[id];
+        return (flags & LIVE_EVALUATE) != 0 ? computeLive(level, pos, state) : flags;
+    }
+
+    /**
+     * Whether the block at a position is part of the breathable volume
+     */
+    public static boolean holdsAtmosphere(BlockGetter level, BlockPos pos, BlockState state) {
+        return (flags(level, pos, state) & HOLDS_ATMOSPHERE) != 0;
+    }
+
+    /**
+     * Whether gas can move from the block at fromPos into its neighbour in the given direction through the
+     * shared face. Matches the previous per-visit check: nothing enters a solid full block, and otherwise
+     * gas crosses unless both touching faces are covered.
+     */
+    public static boolean canGasPass(BlockGetter level, BlockPos fromPos, BlockState fromState, BlockState toState, Direction direction) {
+        int to = flags(level, fromPos.relative(direction), toState);
+        if ((to & GAS_TIGHT) != 0) {
+            return false;
+        }
+        if ((to & (1 << direction.getOpposite().get3DDataValue())) != 0) {
+            return true;
+        }
+        return (flags(level, fromPos, fromState) & (1 << direction.get3DDataValue())) != 0;
+    }
+
+    /**
+     * Gravity fields pass through anything that is not a full collision cube
+     */
+    public static boolean canGravityPass(BlockGetter level, BlockPos pos, BlockState state) {
+        return (flags(level, pos, state) & FULL_COLLISION) == 0;
+    }
+
+    public static synchronized int[] rebuild() {
+        int[] built;
+        try {
+            int size = Block.BLOCK_STATE_REGISTRY.size();
+            built = new int[size];
+            int live = 0;
+            for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+                int id = Block.getId(state);
+                if (id >= 0 && id < size) {
+                    built[id] = computeDefault(state);
+                    if ((built[id] & LIVE_EVALUATE) != 0) live++;
+                }
+            }
+            AdAstraMekanized.LOGGER.debug("Built gas passability table for {} block states ({} evaluated live)", size, live);
+        } catch (RuntimeException e) {
+            // An empty table sends every lookup to live evaluation until the next tag reload retries the build
+            AdAstraMekanized.LOGGER.error("Failed to build gas passability table, evaluating block states live", e);
+            built = new int[0];
+        }
+        table = built;
+        return built;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Table entry for a state, evaluated in an empty world at the origin
+     */
+    private static int computeDefault(BlockState state) {
+        try {
+            int flags = compute(EmptyBlockGetter.INSTANCE, BlockPos.ZERO, state);
+            return state.hasDynamicShape() ? flags | LIVE_EVALUATE : flags;
+        } catch (RuntimeException e) {
+            AdAstraMekanized.LOGGER.warn("Could not evaluate gas passability of {}, evaluating it in the world instead", state, e);
+            return CONSERVATIVE | LIVE_EVALUATE;
+        }
+    }
+
+    private static int computeLive(BlockGetter level, BlockPos pos, BlockState state) {
+        try {
+            return compute(level, pos, state);
+        } catch (RuntimeException e) {
+            AdAstraMekanized.LOGGER.debug("Could not evaluate gas passability of {} at {}, treating it as a wall", state, pos, e);
+            return CONSERVATIVE;
+        }
+    }
+
+    private static int compute(BlockGetter world, BlockPos pos, BlockState state) {
+        int flags = 0;
+
+        if (state.isAir()) {
+            return FACE_MASK | HOLDS_ATMOSPHERE | AIR;
+        }
+
+        boolean fullCollision = state.isCollisionShapeFullBlock(world, pos);
+        boolean solid = state.isSolid();
+        if (fullCollision) flags |= FULL_COLLISION;
+        if (solid) flags |= SOLID;
+        if (solid && fullCollision) flags |= GAS_TIGHT;
+
+        VoxelShape collisionShape = state.getCollisionShape(world, pos, CollisionContext.empty());
+        for (Direction dir : DIRECTIONS) {
+            if (collisionShape.isEmpty() || collisionShape.getFaceShape(dir).isEmpty()) {
+                flags |= 1 << dir.get3DDataValue();
+            }
+        }
+
+        if (computeHoldsAtmosphere(state, fullCollision, collisionShape)) {
+            flags |= HOLDS_ATMOSPHERE;
+        }
+        return flags;
+    }
+
+    private static boolean computeHoldsAtmosphere(BlockState state, boolean fullCollision, VoxelShape collisionShape) {
+        // Water and lava don't get oxygenated
+        if (state.getFluidState().isSource()) {
+            return false;
+        }
+
+        // Stairs need oxygen (players can walk on them)
+        if (state.getBlock() instanceof StairBlock) {
+            return true;
+        }
+
+        // Slabs need oxygen unless they're double slabs
+        if (state.getBlock() instanceof SlabBlock) {
+            return state.getValue(SlabBlock.TYPE) != SlabType.DOUBLE;
+        }
+
+        // Doors need oxygen in their space
+        if (state.getBlock() instanceof DoorBlock) {
+            return true;
+        }
+
+        // Trapdoors need oxygen when open
+        if (state.getBlock() instanceof TrapDoorBlock) {
+            return state.getValue(TrapDoorBlock.OPEN);
+        }
+
+        // Pressure plates, buttons, etc. need oxygen
+        if (!fullCollision && (collisionShape.isEmpty() || collisionShape.max(Direction.Axis.Y) < 1.0)) {
+            return true;
+        }
+
+        // Full solid blocks don't need oxygen
+        if (state.isSolid() && fullCollision) {
+            return false;
+        }
+
+        // Default to needing oxygen for safety
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.tags.ModEntityTypeTags;
+import com.hecookin.adastramekanized.config.AdAstraMekanizedConfig;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.EntityType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Precomputed oxygen exemption for every EntityType, as a bitset indexed by entity type registry id.
+ *
+ * An entity type is exempt if it is in the lives_without_oxygen or can_survive_in_space tag, or its
+ * namespace is in the configured exempt namespace list. The answer only depends on the type, so it
+ * is computed once here instead of matching tags and description ids every tick.
+ * Built lazily, rebuilt whenever tags reload and dropped when the config changes.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class OxygenExemptionTable {
+
+    private static volatile long[] table = null;
+
+    private OxygenExemptionTable() {}
+
+    /**
+     * Whether entities of this type never take oxygen damage
+     */
+    public static boolean isExempt(EntityType<?> type) {
+        long[] current = table;
+        if (current == null) {
+            current = rebuild();
+        }
+        int id = BuiltInRegistries.ENTITY_TYPE.getId(type);
+        // Types registered after the last build (should not happen once frozen) fall back to a direct computation
+        if (id < 0 || (id >>> 6) >= current.length) {
+            return compute(type, exemptNamespaces());
+        }
+        return (current[id >>> 6] & (1L << id)) != 0;
+    }
+
+    public static synchronized long[] rebuild() {
+        Set<String> namespaces = exemptNamespaces();
+        int size = BuiltInRegistries.ENTITY_TYPE.size();
+        long[] built = new long[(size + 63) >>> 6];
+        int exempt = 0;
+        for (EntityType<?> type : BuiltInRegistries.ENTITY_TYPE) {
+            int id = BuiltInRegistries.ENTITY_TYPE.getId(type);
+            if (id >= 0 && id < size && compute(type, namespaces)) {
+                built[id >>> 6] |= 1L << id;
+                exempt++;
+            }
+        }
+        table = built;
+        AdAstraMekanized.LOGGER.debug("Built oxygen exemption table: {} of {} entity types exempt", exempt, size);
+        return built;
+    }
+
+    /**
+     * Drop the table so the next lookup rebuilds it, e.g. after the namespace list changes
+     */
+    public static void invalidate() {
+        table = null;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        rebuild();
+    }
+
+    private static boolean compute(EntityType<?> type, Set<String> namespaces) {
+        if (type.is(ModEntityTypeTags.LIVES_WITHOUT_OXYGEN) || type.is(ModEntityTypeTags.CAN_SURVIVE_IN_SPACE)) {
+            return true;
+        }
+        return namespaces.contains(BuiltInRegistries.ENTITY_TYPE.getKey(type).getNamespace());
+    }
+
+    private static Set<String> exemptNamespaces() {
+        return new HashSet<>(AdAstraMekanizedConfig.getOxygenExemptNamespaces());
+    }
+}
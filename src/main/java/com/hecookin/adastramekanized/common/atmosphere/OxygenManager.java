@@ -2,12 +2,12 @@ package com.hecookin.adastramekanized.common.atmosphere;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
 import com.hecookin.adastramekanized.api.atmosphere.OxygenApi;
-import com.hecookin.adastramekanized.api.planets.Planet;
-import com.hecookin.adastramekanized.api.planets.PlanetRegistry;
+import com.hecookin.adastramekanized.common.environment.PlanetEnvironmentProfile;
 import com.hecookin.adastramekanized.common.registry.ModDamageSources;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
@@ -25,11 +25,8 @@ public class OxygenManager implements OxygenApi {
 
     private static final OxygenManager INSTANCE = new OxygenManager();
 
-    // Track oxygenated positions per dimension
-    private final Map<ResourceLocation, Set<BlockPos>> oxygenatedZones = new ConcurrentHashMap<>();
-
-    // Cache for atmosphere checks
-    private final Map<ResourceLocation, Boolean> atmosphereCache = new ConcurrentHashMap<>();
+    // Track oxygenated positions per dimension as per-section bitsets
+    private final Map<ResourceLocation, SectionBitStore> oxygenatedZones = new ConcurrentHashMap<>();
 
     private OxygenManager() {}
 
@@ -40,60 +37,43 @@ public class OxygenManager implements OxygenApi {
     @Override
     public boolean hasOxygen(Level level) {
         if (level == null) return true;
-
-        ResourceLocation dimId = level.dimension().location();
-
-        // Check cache first
-        Boolean cached = atmosphereCache.get(dimId);
-        if (cached != null) return cached;
-
-        // Not our dimension? Has oxygen by default
-        if (!dimId.getNamespace().equals(AdAstraMekanized.MOD_ID)) {
-            atmosphereCache.put(dimId, true);
-            return true;
-        }
-
-        // Check planet data
-        PlanetRegistry registry = PlanetRegistry.getInstance();
-        if (!registry.isDataLoaded()) {
-            return true; // Default to breathable if data not loaded
-        }
-
-        Planet planet = registry.getPlanet(dimId);
-        boolean breathable = planet != null && planet.atmosphere() != null && planet.atmosphere().breathable();
-
-        atmosphereCache.put(dimId, breathable);
-        AdAstraMekanized.LOGGER.debug("Cached oxygen status {} for dimension {}", breathable, dimId);
-
-        return breathable;
+        return PlanetEnvironmentProfile.get(level).breathable();
     }
 
     @Override
     public boolean hasOxygen(Level level, BlockPos pos) {
+        return hasOxygen(level, pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Allocation-free variant of {@link #hasOxygen(Level, BlockPos)}
+     */
+    public boolean hasOxygen(Level level, int x, int y, int z) {
         // First check if the dimension has breathable atmosphere
         if (hasOxygen(level)) {
             return true;
         }
 
         // Check if position is in an oxygenated zone
-        ResourceLocation dimId = level.dimension().location();
-        Set<BlockPos> zones = oxygenatedZones.get(dimId);
-        return zones != null && zones.contains(pos);
+        SectionBitStore zones = oxygenatedZones.get(level.dimension().location());
+        return zones != null && zones.contains(x, y, z);
     }
 
     @Override
     public boolean hasOxygen(Entity entity) {
         if (entity == null) return true;
 
-        BlockPos pos = BlockPos.containing(entity.getX(), entity.getEyeY(), entity.getZ());
-        boolean hasOxy = hasOxygen(entity.level(), pos);
+        int x = Mth.floor(entity.getX());
+        int y = Mth.floor(entity.getEyeY());
+        int z = Mth.floor(entity.getZ());
+        boolean hasOxy = hasOxygen(entity.level(), x, y, z);
 
         // Debug log every 2 seconds for players
         if (entity.tickCount % 40 == 0 && entity instanceof net.minecraft.world.entity.player.Player) {
             ResourceLocation dimId = entity.level().dimension().location();
-            Set<BlockPos> zones = oxygenatedZones.get(dimId);
-            AdAstraMekanized.LOGGER.debug("OxygenManager.hasOxygen for {} at {}: {}, zones in dim: {}",
-                entity.getName().getString(), pos, hasOxy, zones != null ? zones.size() : 0);
+            SectionBitStore zones = oxygenatedZones.get(dimId);
+            AdAstraMekanized.LOGGER.debug("OxygenManager.hasOxygen for {} at [{}, {}, {}]: {}, zones in dim: {}",
+                entity.getName().getString(), x, y, z, hasOxy, zones != null ? zones.size() : 0);
         }
 
         return hasOxy;
@@ -104,10 +84,10 @@ public class OxygenManager implements OxygenApi {
         if (level.isClientSide()) return;
 
         ResourceLocation dimId = level.dimension().location();
-        Set<BlockPos> zones = oxygenatedZones.computeIfAbsent(dimId, k -> ConcurrentHashMap.newKeySet());
+        SectionBitStore zones = oxygenatedZones.computeIfAbsent(dimId, k -> new SectionBitStore());
 
         if (hasOxygen) {
-            zones.add(pos.immutable());
+            zones.add(pos);
         } else {
             zones.remove(pos);
         }
@@ -124,11 +104,11 @@ public class OxygenManager implements OxygenApi {
         }
 
         ResourceLocation dimId = level.dimension().location();
-        Set<BlockPos> zones = oxygenatedZones.computeIfAbsent(dimId, k -> ConcurrentHashMap.newKeySet());
+        SectionBitStore zones = oxygenatedZones.computeIfAbsent(dimId, k -> new SectionBitStore());
 
         if (hasOxygen) {
             int sizeBefore = zones.size();
-            positions.forEach(pos -> zones.add(pos.immutable()));
+            zones.addAll(positions);
             AdAstraMekanized.LOGGER.info("OxygenManager: Added {} positions to dimension {}, total zones: {} -> {}",
                 positions.size(), dimId, sizeBefore, zones.size());
         } else {
@@ -142,29 +122,32 @@ public class OxygenManager implements OxygenApi {
     @Override
     public void applyOxygenEffects(LivingEntity entity) {
         if (entity == null || entity.level().isClientSide()) return;
+        applyOxygenEffects(entity, hasOxygen(entity));
+    }
+
+    /**
+     * Apply oxygen effects when the caller has already resolved whether the entity has oxygen
+     */
+    public void applyOxygenEffects(LivingEntity entity, boolean hasOxygen) {
+        if (entity == null || entity.level().isClientSide()) return;
 
         // Skip if entity has oxygen
-        if (hasOxygen(entity)) {
+        if (hasOxygen) {
             // Clear freeze effect when in oxygen
             entity.setTicksFrozen(0);
             return;
         }
 
-        // Check if entity has full space suit equipment (regardless of oxygen level)
-        if (hasFullSpaceSuit(entity)) {
-            // Check if oxygen is available (without consuming)
-            boolean hasOxygenAvailable = hasOxygenAvailable(entity);
-
-            if (hasOxygenAvailable) {
-                // Clear freeze effect when protected
-                entity.setTicksFrozen(0);
+        // Full space suit with oxygen in its internal storage (cached until the armor changes)
+        if (SuitProtectionCache.get(entity).canBreathe()) {
+            // Clear freeze effect when protected
+            entity.setTicksFrozen(0);
 
-                // Consume oxygen every 12 ticks
-                if (entity.tickCount % 12 == 0) {
-                    consumeOxygen(entity);
-                }
-                return;
+            // Consume oxygen every 12 ticks
+            if (entity.tickCount % 12 == 0) {
+                consumeOxygen(entity);
             }
+            return;
         }
 
         // Apply oxygen damage with pulsing freeze effect
@@ -204,63 +187,6 @@ public class OxygenManager implements OxygenApi {
         }
     }
 
-    /**
-     * Check if entity has full space suit equipment (without checking oxygen level)
-     */
-    private boolean hasFullSpaceSuit(LivingEntity entity) {
-        boolean hasHelmet = false;
-        boolean hasChestplate = false;
-        boolean hasLeggings = false;
-        boolean hasBoots = false;
-
-        for (var stack : entity.getArmorSlots()) {
-            if (stack.isEmpty()) continue;
-
-            // Check if the armor piece is broken (no durability left)
-            if (stack.isDamageableItem() && stack.getDamageValue() >= stack.getMaxDamage()) {
-                continue; // Skip broken armor
-            }
-
-            // Check if it's any type of space suit piece
-            if (stack.is(com.hecookin.adastramekanized.common.tags.ModItemTags.SPACE_SUITS) ||
-                stack.is(com.hecookin.adastramekanized.common.tags.ModItemTags.NETHERITE_SPACE_SUITS) ||
-                stack.is(com.hecookin.adastramekanized.common.tags.ModItemTags.JET_SUITS)) {
-
-                // Determine which piece it is based on slot
-                if (stack.getItem() instanceof net.minecraft.world.item.ArmorItem armorItem) {
-                    switch (armorItem.getType()) {
-                        case HELMET -> hasHelmet = true;
-                        case CHESTPLATE -> hasChestplate = true;
-                        case LEGGINGS -> hasLeggings = true;
-                        case BOOTS -> hasBoots = true;
-                    }
-                }
-            }
-        }
-
-        // Need full set of any space suit pieces
-        return hasHelmet && hasChestplate && hasLeggings && hasBoots;
-    }
-
-    /**
-     * Check if oxygen is available in the space suit (without consuming)
-     * Suits auto-refill from gas tanks via SpaceSuitItem.tryRefillOxygenFromInventory()
-     * This method ONLY checks the suit's internal storage
-     */
-    private boolean hasOxygenAvailable(LivingEntity entity) {
-        // Check suit internal storage only
-        var chestStack = entity.getItemBySlot(net.minecraft.world.entity.EquipmentSlot.CHEST);
-        if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.SpaceSuitItem suit) {
-            return suit.getChemicalAmount(chestStack) > 0;
-        } else if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.NetheriteSpaceSuitItem suit) {
-            return suit.getChemicalAmount(chestStack) > 0;
-        } else if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.JetSuitItem suit) {
-            return suit.getChemicalAmount(chestStack) > 0;
-        }
-
-        return false;
-    }
-
     /**
      * Consume oxygen from the space suit ONLY
      * Gas tanks are used to auto-refill suits via SpaceSuitItem.tryRefillOxygenFromInventory()
@@ -268,108 +194,13 @@ public class OxygenManager implements OxygenApi {
      */
     private void consumeOxygen(LivingEntity entity) {
         // Consume from the suit itself (suits auto-refill from gas tanks in their inventoryTick)
+        // Netherite and jet suits extend SpaceSuitItem
         var chestStack = entity.getItemBySlot(net.minecraft.world.entity.EquipmentSlot.CHEST);
         if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.SpaceSuitItem suit) {
             suit.consumeOxygen(chestStack, 1);
-        } else if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.NetheriteSpaceSuitItem suit) {
-            suit.consumeOxygen(chestStack, 1);
-        } else if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.JetSuitItem suit) {
-            suit.consumeOxygen(chestStack, 1);
-        }
-    }
-
-    /**
-     * Check if entity has space suit protection with oxygen
-     */
-    private boolean hasSpaceSuitProtection(LivingEntity entity) {
-        // Check for any type of space suit (mix and match acceptable)
-        boolean hasHelmet = false;
-        boolean hasChestplate = false;
-        boolean hasLeggings = false;
-        boolean hasBoots = false;
-
-        // Debug logging for players
-        boolean isPlayer = entity instanceof net.minecraft.world.entity.player.Player;
-        if (isPlayer && entity.tickCount % 40 == 0) {
-            AdAstraMekanized.LOGGER.debug("Checking space suit protection for {}", entity.getName().getString());
-        }
-
-        for (var stack : entity.getArmorSlots()) {
-            if (stack.isEmpty()) continue;
-
-            // Check if the armor piece is broken (no durability left)
-            if (stack.isDamageableItem() && stack.getDamageValue() >= stack.getMaxDamage()) {
-                if (isPlayer && entity.tickCount % 40 == 0) {
-                    AdAstraMekanized.LOGGER.debug("  Armor piece {} is broken", stack.getItem());
-                }
-                continue; // Skip broken armor
-            }
-
-            // Check if it's any type of space suit piece
-            if (stack.is(com.hecookin.adastramekanized.common.tags.ModItemTags.SPACE_SUITS) ||
-                stack.is(com.hecookin.adastramekanized.common.tags.ModItemTags.NETHERITE_SPACE_SUITS) ||
-                stack.is(com.hecookin.adastramekanized.common.tags.ModItemTags.JET_SUITS)) {
-
-                // Determine which piece it is based on slot
-                if (stack.getItem() instanceof net.minecraft.world.item.ArmorItem armorItem) {
-                    switch (armorItem.getType()) {
-                        case HELMET -> hasHelmet = true;
-                        case CHESTPLATE -> hasChestplate = true;
-                        case LEGGINGS -> hasLeggings = true;
-                        case BOOTS -> hasBoots = true;
-                    }
-                    if (isPlayer && entity.tickCount % 40 == 0) {
-                        AdAstraMekanized.LOGGER.debug("  Found space suit piece: {} ({})", stack.getItem(), armorItem.getType());
-                    }
-                }
-            } else if (isPlayer && entity.tickCount % 40 == 0) {
-                AdAstraMekanized.LOGGER.debug("  Armor piece {} is not a space suit", stack.getItem());
-            }
+            // Pick up the suit running dry straight away
+            SuitProtectionCache.refreshOxygen(entity);
         }
-
-        if (isPlayer && entity.tickCount % 40 == 0) {
-            AdAstraMekanized.LOGGER.debug("  Space suit check: helmet={}, chest={}, legs={}, boots={}",
-                hasHelmet, hasChestplate, hasLeggings, hasBoots);
-        }
-
-        // Need full set of any space suit pieces
-        if (!hasHelmet || !hasChestplate || !hasLeggings || !hasBoots) {
-            return false;
-        }
-
-        // Check if chest piece has oxygen
-        var chestStack = entity.getItemBySlot(net.minecraft.world.entity.EquipmentSlot.CHEST);
-        if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.SpaceSuitItem suit) {
-            long amount = suit.getChemicalAmount(chestStack);
-            if (isPlayer && entity.tickCount % 40 == 0) {
-                AdAstraMekanized.LOGGER.debug("  Space suit oxygen: {} mB", amount);
-            }
-            return amount > 0;
-        }
-        if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.NetheriteSpaceSuitItem suit) {
-            long amount = suit.getChemicalAmount(chestStack);
-            if (isPlayer && entity.tickCount % 40 == 0) {
-                AdAstraMekanized.LOGGER.debug("  Netherite space suit oxygen: {} mB", amount);
-            }
-            return amount > 0;
-        }
-        if (chestStack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.JetSuitItem suit) {
-            long amount = suit.getChemicalAmount(chestStack);
-            if (isPlayer && entity.tickCount % 40 == 0) {
-                AdAstraMekanized.LOGGER.debug("  Jet suit oxygen: {} mB", amount);
-            }
-            return amount > 0;
-        }
-
-        return false;
-    }
-
-    /**
-     * Clear cached data when dimensions reload
-     */
-    public void clearCache() {
-        atmosphereCache.clear();
-        AdAstraMekanized.LOGGER.info("Cleared oxygen atmosphere cache");
     }
 
     /**
@@ -0,0 +1,242 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Groups oxygen distributors that share one enclosed volume into rooms.
+ *
+ * Each room has a leader that computes and owns the room's region (its position is the owner in
+ * GlobalOxygenManager), sized for every member. The other members skip the flood fill entirely and
+ * only pay their share of the oxygen and energy, so extra distributors in a sealed hall cost nothing
+ * beyond the first one's region computation.
+ *
+ * Rooms merge whenever one leader's region meets another's, and members the leader's region no longer
+ * reaches (a door closed, a wall went up) are split off to fill their own. The graph itself is not saved: on load,
+ * members find their leader again through the leader's saved region (see AtmosphereRegionData).
+ * Only touched from the server thread.
+ */
+public class OxygenRoomGraph {
+    private static final OxygenRoomGraph INSTANCE = new OxygenRoomGraph();
+
+    // Dimension -> rooms in that dimension
+    private final Map<ResourceKey<Level>, DimensionRooms> dimensionRooms = new ConcurrentHashMap<>();
+
+    private OxygenRoomGraph() {}
+
+    public static OxygenRoomGraph getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * One enclosed volume shared by one or more distributors
+     */
+    public static final class Room {
+        private final int id;
+        // Insertion order decides succession when the leader leaves
+        private final Set<BlockPos> members = new LinkedHashSet<>();
+
+        private Room(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public BlockPos getLeader() {
+            return members.iterator().next();
+        }
+
+        public int getMemberCount() {
+            return members.size();
+        }
+
+        public boolean isLeader(BlockPos distributorPos) {
+            return getLeader().equals(distributorPos);
+        }
+
+        public Set<BlockPos> getMembers() {
+            return Collections.unmodifiableSet(members);
+        }
+    }
+
+    private static final class DimensionRooms {
+        private final Map<Integer, Room> rooms = new HashMap<>();
+        private final Map<BlockPos, Room> roomByMember = new HashMap<>();
+        private int nextId = 1;
+    }
+
+    /**
+     * @return The room the distributor belongs to, or null
+     */
+    public Room getRoom(ResourceKey<Level> dimension, BlockPos distributorPos) {
+        DimensionRooms rooms = dimensionRooms.get(dimension);
+        return rooms != null ? rooms.roomByMember.get(distributorPos) : null;
+    }
+
+    /**
+     * Put the distributor in a room of its own, unless it already has one
+     */
+    public Room createRoom(ResourceKey<Level> dimension, BlockPos distributorPos) {
+        DimensionRooms rooms = dimensionRooms.computeIfAbsent(dimension, k -> new DimensionRooms());
+        Room existing = rooms.roomByMember.get(distributorPos);
+        if (existing != null) {
+            return existing;
+        }
+
+        Room room = new Room(rooms.nextId++);
+        room.members.add(distributorPos.immutable());
+        rooms.rooms.put(room.id, room);
+        rooms.roomByMember.put(distributorPos.immutable(), room);
+        AdAstraMekanized.LOGGER.debug("Oxygen room {} created by distributor {}", room.id, distributorPos);
+        return room;
+    }
+
+    /**
+     * Move the distributor into the room led by leaderPos. Leaves its current room first.
+     * @return The joined room, or null if leaderPos does not lead a room
+     */
+    public Room joinRoom(ResourceKey<Level> dimension, BlockPos distributorPos, BlockPos leaderPos) {
+        DimensionRooms rooms = dimensionRooms.get(dimension);
+        if (rooms == null) {
+            return null;
+        }
+        Room target = rooms.roomByMember.get(leaderPos);
+        if (target == null || !target.isLeader(leaderPos)) {
+            return null;
+        }
+        if (target.members.contains(distributorPos)) {
+            return target;
+        }
+
+        leaveRoom(dimension, distributorPos);
+        target.members.add(distributorPos.immutable());
+        rooms.roomByMember.put(distributorPos.immutable(), target);
+        AdAstraMekanized.LOGGER.debug("Distributor {} joined oxygen room {} ({} members)",
+            distributorPos, target.id, target.members.size());
+        return target;
+    }
+
+    /**
+     * Put the distributor in the room that leaderPos belongs to, creating a room led by leaderPos if it
+     * has none yet (its chunk may load later). Used to rebuild rooms from saved regions on load.
+     */
+    public Room assignToRoom(ResourceKey<Level> dimension, BlockPos distributorPos, BlockPos leaderPos) {
+        Room target = getRoom(dimension, leaderPos);
+        if (target == null) {
+            target = createRoom(dimension, leaderPos);
+        }
+        if (target.members.contains(distributorPos)) {
+            return target;
+        }
+
+        leaveRoom(dimension, distributorPos);
+        DimensionRooms rooms = dimensionRooms.get(dimension);
+        target.members.add(distributorPos.immutable());
+        rooms.roomByMember.put(distributorPos.immutable(), target);
+        AdAstraMekanized.LOGGER.debug("Distributor {} rejoined oxygen room {} led by {}", distributorPos, target.id, leaderPos);
+        return target;
+    }
+
+    /**
+     * Merge the rooms of two leaders whose regions meet. The room with the lower leader position absorbs
+     * the other, so both leaders settle on the same result whichever of them notices first.
+     * @return The merged room, or null if either position does not lead a room
+     */
+    public Room mergeRooms(ResourceKey<Level> dimension, BlockPos leaderA, BlockPos leaderB) {
+        Room roomA = getRoom(dimension, leaderA);
+        Room roomB = getRoom(dimension, leaderB);
+        if (roomA == null || roomB == null || !roomA.isLeader(leaderA) || !roomB.isLeader(leaderB)) {
+            return null;
+        }
+        if (roomA == roomB) {
+            return roomA;
+        }
+
+        Room survivor = leaderA.compareTo(leaderB) < 0 ? roomA : roomB;
+        Room absorbed = survivor == roomA ? roomB : roomA;
+        DimensionRooms rooms = dimensionRooms.get(dimension);
+        for (BlockPos member : absorbed.members) {
+            survivor.members.add(member);
+            rooms.roomByMember.put(member, survivor);
+        }
+        absorbed.members.clear();
+        rooms.rooms.remove(absorbed.id);
+        AdAstraMekanized.LOGGER.debug("Oxygen room {} merged into room {} ({} members)",
+            absorbed.id, survivor.id, survivor.members.size());
+        return survivor;
+    }
+
+    /**
+     * Move every member of the leader's room that the leader's region no longer reaches into a room of
+     * its own, so it fills its own region from the next cycle.
+     * @return The members that were split off
+     */
+    public List<BlockPos> splitRoom(ResourceKey<Level> dimension, BlockPos leaderPos, Predicate<BlockPos> stillReached) {
+        Room room = getRoom(dimension, leaderPos);
+        if (room == null || !room.isLeader(leaderPos)) {
+            return List.of();
+        }
+
+        List<BlockPos> splitOff = new ArrayList<>();
+        for (BlockPos member : room.members) {
+            if (!member.equals(leaderPos) && !stillReached.test(member)) {
+                splitOff.add(member);
+            }
+        }
+        for (BlockPos member : splitOff) {
+            leaveRoom(dimension, member);
+            createRoom(dimension, member);
+        }
+        if (!splitOff.isEmpty()) {
+            AdAstraMekanized.LOGGER.debug("Split {} distributors off oxygen room {}", splitOff.size(), room.id);
+        }
+        return splitOff;
+    }
+
+    /**
+     * Remove the distributor from its room. The room dissolves when its last member leaves.
+     * @return The new leader if the distributor was leading a room that still has members, otherwise null
+     */
+    public BlockPos leaveRoom(ResourceKey<Level> dimension, BlockPos distributorPos) {
+        DimensionRooms rooms = dimensionRooms.get(dimension);
+        if (rooms == null) {
+            return null;
+        }
+        Room room = rooms.roomByMember.remove(distributorPos);
+        if (room == null) {
+            return null;
+        }
+
+        boolean wasLeader = room.isLeader(distributorPos);
+        room.members.remove(distributorPos);
+        if (room.members.isEmpty()) {
+            rooms.rooms.remove(room.id);
+            AdAstraMekanized.LOGGER.debug("Oxygen room {} dissolved", room.id);
+            return null;
+        }
+        return wasLeader ? room.getLeader() : null;
+    }
+
+    public int getRoomCount(ResourceKey<Level> dimension) {
+        DimensionRooms rooms = dimensionRooms.get(dimension);
+        return rooms != null ? rooms.rooms.size() : 0;
+    }
+
+    public void clearDimension(ResourceKey<Level> dimension) {
+        dimensionRooms.remove(dimension);
+    }
+}
@@ -0,0 +1,253 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Set of block positions for one dimension, stored as a 4096-bit bitset per 16x16x16 chunk section.
+ *
+ * A lookup is one long-keyed map probe plus a shift-and-mask, with no allocation.
+ * Reads never lock: the section map is replaced copy-on-write when sections are added or removed,
+ * and each bit flip is a single long store. Writes are serialized on the store.
+ */
+public class SectionBitStore {
+
+    private static final int WORDS_PER_SECTION = 4096 / 64;
+
+    // Section key (SectionPos.asLong) -> 64 words. Never mutated after publication.
+    private volatile Long2ObjectOpenHashMap<long[]> sections = new Long2ObjectOpenHashMap<>();
+
+    private volatile int size = 0;
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean contains(int x, int y, int z) {
+        long[] words = sections.get(SectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        if (words == null) {
+            return false;
+        }
+        int index = indexOf(x, y, z);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int sectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * @return true if the position was not already present
+     */
+    public synchronized boolean add(BlockPos pos) {
+        Long2ObjectOpenHashMap<long[]> copy = null;
+        long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        long[] words = sections.get(key);
+        if (words == null) {
+            copy = new Long2ObjectOpenHashMap<>(sections);
+            words = new long[WORDS_PER_SECTION];
+            copy.put(key, words);
+        }
+        boolean added = setBit(words, indexOf(pos.getX(), pos.getY(), pos.getZ()));
+        if (copy != null) {
+            sections = copy;
+        }
+        return added;
+    }
+
+    /**
+     * @return true if the position was present
+     */
+    public synchronized boolean remove(BlockPos pos) {
+        long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        long[] words = sections.get(key);
+        if (words == null || !clearBit(words, indexOf(pos.getX(), pos.getY(), pos.getZ()))) {
+            return false;
+        }
+        if (isEmpty(words)) {
+            Long2ObjectOpenHashMap<long[]> copy = new Long2ObjectOpenHashMap<>(sections);
+            copy.remove(key);
+            sections = copy;
+        }
+        return true;
+    }
+
+    /**
+     * Add positions as a single batch
+     * @return Number of positions that were not already present
+     */
+    public synchronized int addAll(Collection<BlockPos> positions) {
+        Long2ObjectOpenHashMap<long[]> current = sections;
+        Long2ObjectOpenHashMap<long[]> copy = null;
+        long lastKey = Long.MIN_VALUE;
+        long[] words = null;
+        int added = 0;
+
+        for (BlockPos pos : positions) {
+            long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+            if (key != lastKey || words == null) {
+                words = (copy != null ? copy : current).get(key);
+                if (words == null) {
+                    if (copy == null) {
+                        copy = new Long2ObjectOpenHashMap<>(current);
+                    }
+                    words = new long[WORDS_PER_SECTION];
+                    copy.put(key, words);
+                }
+                lastKey = key;
+            }
+            if (setBit(words, indexOf(pos.getX(), pos.getY(), pos.getZ()))) {
+                added++;
+            }
+        }
+
+        if (copy != null) {
+            sections = copy;
+        }
+        return added;
+    }
+
+    /**
+     * Remove positions as a single batch
+     * @return Number of positions that were present
+     */
+    public synchronized int removeAll(Collection<BlockPos> positions) {
+        Long2ObjectOpenHashMap<long[]> current = sections;
+        Long2ObjectOpenHashMap<long[]> copy = null;
+        long lastKey = Long.MIN_VALUE;
+        long[] words = null;
+        int removed = 0;
+
+        for (BlockPos pos : positions) {
+            long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+            if (key != lastKey) {
+                words = (copy != null ? copy : current).get(key);
+                lastKey = key;
+            }
+            if (words == null || !clearBit(words, indexOf(pos.getX(), pos.getY(), pos.getZ()))) {
+                continue;
+            }
+            removed++;
+            if (isEmpty(words)) {
+                if (copy == null) {
+                    copy = new Long2ObjectOpenHashMap<>(current);
+                }
+                copy.remove(key);
+                words = null;
+            }
+        }
+
+        if (copy != null) {
+            sections = copy;
+        }
+        return removed;
+    }
+
+    /**
+     * Visit every stored position
+     */
+    public void forEachPosition(Consumer<BlockPos> consumer) {
+        for (Long2ObjectMap.Entry<long[]> entry : sections.long2ObjectEntrySet()) {
+            long key = entry.getLongKey();
+            int baseX = SectionPos.sectionToBlockCoord(SectionPos.x(key));
+            int baseY = SectionPos.sectionToBlockCoord(SectionPos.y(key));
+            int baseZ = SectionPos.sectionToBlockCoord(SectionPos.z(key));
+            long[] words = entry.getValue();
+            for (int w = 0; w < WORDS_PER_SECTION; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    int index = (w << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    consumer.accept(new BlockPos(baseX + (index & 15), baseY + (index >>> 8), baseZ + ((index >>> 4) & 15)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit every non-empty section with its 4096-bit word array. The words must not be modified.
+     */
+    public void forEachSection(SectionConsumer consumer) {
+        for (Long2ObjectMap.Entry<long[]> entry : sections.long2ObjectEntrySet()) {
+            consumer.accept(entry.getLongKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Replace one section's bits wholesale, e.g. when loading saved data
+     */
+    public synchronized void putSection(long sectionKey, long[] words) {
+        if (words.length != WORDS_PER_SECTION) {
+            throw new IllegalArgumentException("Section bitset must have " + WORDS_PER_SECTION + " words, got " + words.length);
+        }
+        Long2ObjectOpenHashMap<long[]> copy = new Long2ObjectOpenHashMap<>(sections);
+        long[] previous = copy.put(sectionKey, words.clone());
+        size += bitCount(words) - (previous != null ? bitCount(previous) : 0);
+        if (isEmpty(words)) {
+            copy.remove(sectionKey);
+        }
+        sections = copy;
+    }
+
+    @FunctionalInterface
+    public interface SectionConsumer {
+        void accept(long sectionKey, long[] words);
+    }
+
+    public synchronized void clear() {
+        sections = new Long2ObjectOpenHashMap<>();
+        size = 0;
+    }
+
+    private boolean setBit(long[] words, int index) {
+        long mask = 1L << index;
+        long word = words[index >>> 6];
+        if ((word & mask) != 0) {
+            return false;
+        }
+        words[index >>> 6] = word | mask;
+        size++;
+        return true;
+    }
+
+    private boolean clearBit(long[] words, int index) {
+        long mask = 1L << index;
+        long word = words[index >>> 6];
+        if ((word & mask) == 0) {
+            return false;
+        }
+        words[index >>> 6] = word & ~mask;
+        size--;
+        return true;
+    }
+
+    private static int bitCount(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static boolean isEmpty(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+}
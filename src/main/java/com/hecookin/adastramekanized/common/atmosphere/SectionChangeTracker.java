@@ -0,0 +1,92 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-section block change counters, used to tell whether a chunk section snapshot is still current.
+ *
+ * Only sections inside a live snapshot are counted: SectionSnapshot watches its sections on capture and
+ * releases them once its fill is done, so the counters never outlive the fills that need them.
+ * Bumped by LevelChunkMixin on every block state change in a loaded chunk, including changes made
+ * without neighbour updates. Other mods may set blocks off the server thread, so counting is lock-free,
+ * and a dimension without watched sections returns before any lookup.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class SectionChangeTracker {
+
+    // Dimension -> watched section key (SectionPos.asLong) -> counter
+    private static final Map<ResourceKey<Level>, Map<Long, Watch>> WATCHED = new ConcurrentHashMap<>();
+
+    private SectionChangeTracker() {}
+
+    private static final class Watch {
+        // Snapshots watching this section - only touched from the server thread
+        private int refs;
+        private final AtomicInteger version = new AtomicInteger();
+    }
+
+    /**
+     * Start counting changes to a section. Server thread only.
+     * @return The section's current version, to compare against getVersion later
+     */
+    public static int watch(Level level, long sectionKey) {
+        Watch watch = WATCHED.computeIfAbsent(level.dimension(), k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(sectionKey, k -> new Watch());
+        watch.refs++;
+        return watch.version.get();
+    }
+
+    /**
+     * Stop counting changes for one watch call. Server thread only.
+     */
+    public static void release(Level level, long sectionKey) {
+        Map<Long, Watch> watched = WATCHED.get(level.dimension());
+        if (watched == null) {
+            return;
+        }
+        Watch watch = watched.get(sectionKey);
+        if (watch != null && --watch.refs <= 0) {
+            watched.remove(sectionKey);
+        }
+    }
+
+    /**
+     * @return The change count of a watched section, 0 for sections nobody watches
+     */
+    public static int getVersion(Level level, long sectionKey) {
+        Map<Long, Watch> watched = WATCHED.get(level.dimension());
+        Watch watch = watched != null ? watched.get(sectionKey) : null;
+        return watch != null ? watch.version.get() : 0;
+    }
+
+    public static void markChanged(Level level, BlockPos pos) {
+        if (level.isClientSide()) return;
+
+        Map<Long, Watch> watched = WATCHED.get(level.dimension());
+        if (watched == null || watched.isEmpty()) {
+            return;
+        }
+        Watch watch = watched.get(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        if (watch != null) {
+            watch.version.incrementAndGet();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            WATCHED.remove(level.dimension());
+        }
+    }
+}
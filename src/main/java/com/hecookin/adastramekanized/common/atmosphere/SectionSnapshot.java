@@ -0,0 +1,164 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable copy of the block states in the chunk sections around a position, readable from any thread.
+ *
+ * Captured on the server thread by copying each section's PalettedContainer. Positions outside the box
+ * read as barriers and mark the snapshot as incomplete, so the caller can retry the search with a larger
+ * snapshot. Positions in unloaded chunks read as air, as they did for the live flood fill: a region at
+ * the edge of the loaded area is open there, not sealed by a wall that may not exist.
+ */
+public class SectionSnapshot implements BlockGetter {
+
+    private static final BlockState OUTSIDE = Blocks.BARRIER.defaultBlockState();
+    // Unknown contents count as open space, so a region touching them never passes as sealed
+    private static final BlockState UNLOADED = Blocks.AIR.defaultBlockState();
+
+    // Section key -> copied states, null value for sections that only hold air
+    private final Long2ObjectOpenHashMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+    private final LongOpenHashSet unloaded = new LongOpenHashSet();
+    // Section key -> SectionChangeTracker version at capture time
+    private final Long2IntOpenHashMap versions = new Long2IntOpenHashMap();
+
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+    private final int minBuildHeight;
+    private final int height;
+
+    private volatile boolean incomplete = false;
+
+    private SectionSnapshot(Level level, BlockPos center, int radius) {
+        this.minBuildHeight = level.getMinBuildHeight();
+        this.height = level.getHeight();
+
+        int minSectionX = SectionPos.blockToSectionCoord(center.getX() - radius);
+        int minSectionY = SectionPos.blockToSectionCoord(Math.max(center.getY() - radius, minBuildHeight));
+        int minSectionZ = SectionPos.blockToSectionCoord(center.getZ() - radius);
+        int maxSectionX = SectionPos.blockToSectionCoord(center.getX() + radius);
+        int maxSectionY = SectionPos.blockToSectionCoord(Math.min(center.getY() + radius, minBuildHeight + height - 1));
+        int maxSectionZ = SectionPos.blockToSectionCoord(center.getZ() + radius);
+
+        this.minX = SectionPos.sectionToBlockCoord(minSectionX);
+        this.minY = SectionPos.sectionToBlockCoord(minSectionY);
+        this.minZ = SectionPos.sectionToBlockCoord(minSectionZ);
+        this.maxX = SectionPos.sectionToBlockCoord(maxSectionX) + 15;
+        this.maxY = SectionPos.sectionToBlockCoord(maxSectionY) + 15;
+        this.maxZ = SectionPos.sectionToBlockCoord(maxSectionZ) + 15;
+
+        for (int sx = minSectionX; sx <= maxSectionX; sx++) {
+            for (int sz = minSectionZ; sz <= maxSectionZ; sz++) {
+                // Never load chunks for a snapshot
+                LevelChunk chunk = level.getChunkSource().getChunkNow(sx, sz);
+                for (int sy = minSectionY; sy <= maxSectionY; sy++) {
+                    long key = SectionPos.asLong(sx, sy, sz);
+                    versions.put(key, SectionChangeTracker.watch(level, key));
+
+                    if (chunk == null) {
+                        unloaded.add(key);
+                        continue;
+                    }
+                    LevelChunkSection section = chunk.getSection(level.getSectionIndexFromSectionY(sy));
+                    sections.put(key, section.hasOnlyAir() ? null : section.getStates().copy());
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy the sections covering every block within radius of the center. Server thread only.
+     */
+    public static SectionSnapshot capture(Level level, BlockPos center, int radius) {
+        return new SectionSnapshot(level, center, radius);
+    }
+
+    /**
+     * Whether a search read positions that were not captured
+     */
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
+    /**
+     * Stop tracking changes to the captured sections once the snapshot is no longer checked.
+     * Server thread only, and at most once.
+     */
+    public void release(Level level) {
+        for (long key : versions.keySet()) {
+            SectionChangeTracker.release(level, key);
+        }
+    }
+
+    /**
+     * Whether no captured section has changed since the snapshot was taken. Server thread only.
+     */
+    public boolean isCurrent(Level level) {
+        for (var entry : versions.long2IntEntrySet()) {
+            if (SectionChangeTracker.getVersion(level, entry.getLongKey()) != entry.getIntValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        int x = pos.getX();
+        int y = pos.getY();
+        int z = pos.getZ();
+
+        // Same as Level - outside the build height is void air
+        if (y < minBuildHeight || y >= minBuildHeight + height) {
+            return Blocks.VOID_AIR.defaultBlockState();
+        }
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+            incomplete = true;
+            return OUTSIDE;
+        }
+
+        long key = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        PalettedContainer<BlockState> states = sections.get(key);
+        if (states == null) {
+            if (unloaded.contains(key)) {
+                return UNLOADED;
+            }
+            return Blocks.AIR.defaultBlockState();
+        }
+        return states.get(x & 15, y & 15, z & 15);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return minBuildHeight;
+    }
+}
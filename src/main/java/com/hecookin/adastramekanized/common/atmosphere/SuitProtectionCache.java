@@ -0,0 +1,154 @@
+package com.hecookin.adastramekanized.common.atmosphere;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.items.armor.SpaceSuitItem;
+import com.hecookin.adastramekanized.common.tags.ModItemTags;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ArmorItem;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
+
+/**
+ * Space suit protection per entity, worked out from its armor once and then reused.
+ *
+ * An entry is dropped when a different item goes into an armor slot or a piece breaks or is repaired,
+ * and is recomputed on the next lookup. LivingEquipmentChangeEvent also fires for every data change on
+ * a worn stack (each oxygen use or tank refill), so those only re-read the chest piece's oxygen.
+ * Oxygen consumed by OxygenManager updates the entry directly, so a suit running dry is seen at once.
+ * Server thread only.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class SuitProtectionCache {
+
+    /**
+     * @param sealed          Full set of (unbroken) space suit pieces, any mix of suit types
+     * @param heatResistant   Full netherite space suit set
+     * @param oxygenAvailable The chest piece has oxygen stored
+     */
+    public record Protection(boolean sealed, boolean heatResistant, boolean oxygenAvailable) {
+        public static final Protection NONE = new Protection(false, false, false);
+
+        /**
+         * Sealed suit with oxygen to breathe
+         */
+        public boolean canBreathe() {
+            return sealed && oxygenAvailable;
+        }
+
+        Protection withOxygenAvailable(boolean available) {
+            return available == oxygenAvailable ? this : new Protection(sealed, heatResistant, available);
+        }
+    }
+
+    // Entity id -> cached protection
+    private static final Int2ObjectOpenHashMap<Protection> PROTECTION = new Int2ObjectOpenHashMap<>();
+
+    private SuitProtectionCache() {}
+
+    public static Protection get(LivingEntity entity) {
+        Protection protection = PROTECTION.get(entity.getId());
+        if (protection == null) {
+            protection = compute(entity);
+            PROTECTION.put(entity.getId(), protection);
+        }
+        return protection;
+    }
+
+    /**
+     * Re-read the chest piece's oxygen after it was changed outside an equipment update
+     */
+    public static void refreshOxygen(LivingEntity entity) {
+        Protection protection = PROTECTION.get(entity.getId());
+        if (protection != null) {
+            PROTECTION.put(entity.getId(), protection.withOxygenAvailable(protection.sealed() && hasOxygenStored(entity)));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (!event.getSlot().isArmor()) {
+            return;
+        }
+        ItemStack from = event.getFrom();
+        ItemStack to = event.getTo();
+        if (!ItemStack.isSameItem(from, to) || isBroken(from) != isBroken(to)) {
+            PROTECTION.remove(event.getEntity().getId());
+        } else if (event.getSlot() == EquipmentSlot.CHEST) {
+            // Same piece, only its data changed - stored oxygen is the only part of it we cache
+            refreshOxygen(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            PROTECTION.remove(event.getEntity().getId());
+        }
+    }
+
+    private static Protection compute(LivingEntity entity) {
+        boolean hasHelmet = false;
+        boolean hasChestplate = false;
+        boolean hasLeggings = false;
+        boolean hasBoots = false;
+        boolean allNetherite = true;
+        boolean anyArmor = false;
+
+        for (ItemStack stack : entity.getArmorSlots()) {
+            if (stack.isEmpty()) {
+                allNetherite = false;
+                continue;
+            }
+            anyArmor = true;
+            if (!stack.is(ModItemTags.NETHERITE_SPACE_SUITS)) {
+                allNetherite = false;
+            }
+
+            // Check if the armor piece is broken (no durability left)
+            if (isBroken(stack)) {
+                continue; // Skip broken armor
+            }
+
+            // Check if it's any type of space suit piece
+            if (stack.is(ModItemTags.SPACE_SUITS) ||
+                stack.is(ModItemTags.NETHERITE_SPACE_SUITS) ||
+                stack.is(ModItemTags.JET_SUITS)) {
+
+                // Determine which piece it is based on slot
+                if (stack.getItem() instanceof ArmorItem armorItem) {
+                    switch (armorItem.getType()) {
+                        case HELMET -> hasHelmet = true;
+                        case CHESTPLATE -> hasChestplate = true;
+                        case LEGGINGS -> hasLeggings = true;
+                        case BOOTS -> hasBoots = true;
+                    }
+                }
+            }
+        }
+
+        if (!anyArmor) {
+            return Protection.NONE;
+        }
+
+        // Need full set of any space suit pieces
+        boolean sealed = hasHelmet && hasChestplate && hasLeggings && hasBoots;
+        return new Protection(sealed, allNetherite, sealed && hasOxygenStored(entity));
+    }
+
+    private static boolean isBroken(ItemStack stack) {
+        return stack.isDamageableItem() && stack.getDamageValue() >= stack.getMaxDamage();
+    }
+
+    /**
+     * Only the suit's internal storage counts - gas tanks refill it via SpaceSuitItem
+     */
+    private static boolean hasOxygenStored(LivingEntity entity) {
+        ItemStack chestStack = entity.getItemBySlot(EquipmentSlot.CHEST);
+        return chestStack.getItem() instanceof SpaceSuitItem suit && suit.getChemicalAmount(chestStack) > 0;
+    }
+}
@@ -1,12 +1,20 @@
 package com.hecookin.adastramekanized.common.blockentities.machines;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.atmosphere.AsyncFloodFill;
+import com.hecookin.adastramekanized.common.atmosphere.AtmosphereRegionData;
+import com.hecookin.adastramekanized.common.atmosphere.AtmosphereScheduler;
 import com.hecookin.adastramekanized.common.gravity.GlobalGravityManager;
 import com.hecookin.adastramekanized.common.gravity.GravityManager;
 import com.hecookin.adastramekanized.common.blocks.base.SidedMachineBlock;
 import com.hecookin.adastramekanized.common.menus.GravityNormalizerMenu;
 import com.hecookin.adastramekanized.common.registry.ModBlockEntityTypes;
 import com.hecookin.adastramekanized.common.utils.ImprovedOxygenFloodFill;
+import com.hecookin.adastramekanized.common.network.GravityVisualizationPacket;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationSource;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationTracker;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.chemical.BasicChemicalTank;
@@ -20,6 +28,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
@@ -39,6 +48,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Objects;
 
 /**
  * Gravity Normalizer - A machine that creates a zone where gravity is normalized
@@ -47,7 +57,7 @@ import java.util.ArrayList;
  * Consumes Argon gas and energy to maintain the gravity field.
  * Based on the oxygen distributor pattern but for gravity control.
  */
-public class GravityNormalizerBlockEntity extends BlockEntity implements MenuProvider {
+public class GravityNormalizerBlockEntity extends BlockEntity implements MenuProvider, AtmosphereScheduler.Job, ZoneVisualizationSource {
 
     // Constants - matched to oxygen distributor values
     private static final int INITIAL_RADIUS = 3;
@@ -81,8 +91,22 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
     private long activationTime = 0;
     private float targetGravity = DEFAULT_GRAVITY; // Configurable target gravity
     private final Set<BlockPos> normalizedBlocks = new HashSet<>();
+    private final ZoneVisualizationTracker visualizationTracker = new ZoneVisualizationTracker();
     private final int tickOffset;
 
+    // Flood fill running on a worker thread, committed on a later tick
+    private AsyncFloodFill.PendingFill pendingFill = null;
+    // Distribution interval elapsed, waiting for the atmosphere scheduler
+    private boolean distributionDue = false;
+
+    // Saved region restored on load - the next periodic fill re-verifies it
+    private boolean restorePending = false;
+    // Restored region whose boundary hash has not been checked against the world yet
+    private boolean restoredRegionUnverified = false;
+    private Long2LongMap restoredBoundaryHashes = Long2LongMaps.EMPTY_MAP;
+    // Chunk unload keeps the saved region, removal of the machine forgets it
+    private boolean chunkUnloading = false;
+
     // Usage tracking for GUI display
     private float lastArgonUsage = 0.0f;
     private float lastEnergyUsage = 0.0f;
@@ -127,6 +151,13 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
         // Server-side logic
         tickCounter++;
 
+        if (restorePending) {
+            restorePending = false;
+            if (isActive && !manuallyDisabled) {
+                restoreSavedRegion();
+            }
+        }
+
         // Debug logging
         if (tickCounter % 20 == 0) {
             AdAstraMekanized.LOGGER.debug("GravityNormalizer at {}: Energy={}/{}, Argon={}/{}, Active={}, Radius={}, Blocks={}, TargetGravity={}",
@@ -161,11 +192,17 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
                 AdAstraMekanized.LOGGER.debug("Gravity normalizer expanding radius to {} at {}", currentRadius, worldPosition);
             }
 
+            // Commit a finished background flood fill through the scheduler
+            if (pendingFill != null && pendingFill.isDone()) {
+                AtmosphereScheduler.submit(level, this);
+            }
+
             // Distribute gravity at intervals
             int adjustedInterval = DISTRIBUTION_INTERVAL + (tickOffset % DISTRIBUTION_INTERVAL);
             if (tickCounter >= adjustedInterval) {
                 tickCounter = 0;
-                distributeGravity();
+                distributionDue = true;
+                AtmosphereScheduler.submit(level, this);
             }
 
             // Send visualization updates
@@ -188,6 +225,7 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
         activationTime = System.currentTimeMillis();
         expansionTicks = 0;
         currentRadius = INITIAL_RADIUS;
+        cancelPendingFill();
         AdAstraMekanized.LOGGER.debug("Activating gravity normalizer at {} with initial radius {}, target gravity {}",
             worldPosition, currentRadius, targetGravity);
         setChanged();
@@ -198,6 +236,7 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
         activationTime = 0;
         expansionTicks = 0;
         currentRadius = INITIAL_RADIUS;
+        cancelPendingFill();
         lastBlockCount = 0;
         lastArgonUsage = 0;
         lastEnergyUsage = 0;
@@ -211,20 +250,76 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
         }
     }
 
+    /**
+     * Called by AtmosphereScheduler within the per-tick budget. Committing a fill and submitting the
+     * next one are split across ticks when the commit used up the budget.
+     */
+    @Override
+    public boolean runScheduledWork(long deadlineNanos) {
+        if (level == null || level.isClientSide || !isActive) {
+            return false;
+        }
+
+        boolean committed = false;
+        if (pendingFill != null && pendingFill.isDone()) {
+            // Null while the fill was resubmitted against a fresh snapshot
+            AsyncFloodFill.PendingFill fill = pendingFill;
+            Set<BlockPos> result = fill.join(level);
+            if (result != null || fill.isAbandoned()) {
+                pendingFill = null;
+            }
+            if (result != null) {
+                applyGravityFill(result);
+                committed = true;
+            }
+        }
+
+        if (distributionDue) {
+            if (committed && System.nanoTime() - deadlineNanos >= 0) {
+                return true;
+            }
+            distributionDue = false;
+            distributeGravity();
+        }
+        return false;
+    }
+
     protected void distributeGravity() {
-        var dimension = level.dimension();
+        if (restoredRegionUnverified) {
+            restoredRegionUnverified = false;
+            verifyRestoredRegion();
+        }
+
+        if (pendingFill != null) {
+            // Previous flood fill is still running
+            return;
+        }
 
         AdAstraMekanized.LOGGER.debug("Distributing gravity field from {} with radius {} (tick {})",
             worldPosition, currentRadius, level.getGameTime());
 
-        // Use gravity-specific flood fill that uses GlobalGravityManager
-        Set<BlockPos> newNormalizedBlocks = ImprovedOxygenFloodFill.findGravityNormalizableArea(
-            level,
-            worldPosition,
-            currentRadius,
-            MAX_GRAVITY_BLOCKS,
-            level.getGameTime()
-        );
+        // Use gravity-specific flood fill that uses GlobalGravityManager, on a chunk snapshot off the server thread.
+        // The search reaches at most two blocks past the radius (priority cube + ring expansion).
+        var dimension = level.dimension();
+        BlockPos origin = worldPosition;
+        int radius = currentRadius;
+        pendingFill = AsyncFloodFill.submit(level, origin, radius + 2,
+            blocks -> ImprovedOxygenFloodFill.findGravityNormalizableArea(blocks, dimension, origin, radius, MAX_GRAVITY_BLOCKS));
+    }
+
+    private void cancelPendingFill() {
+        distributionDue = false;
+        if (pendingFill != null) {
+            pendingFill.cancel(level);
+            pendingFill = null;
+        }
+    }
+
+    /**
+     * Claim and pay for the result of a finished flood fill
+     */
+    private void applyGravityFill(Set<BlockPos> newNormalizedBlocks) {
+        var dimension = level.dimension();
 
         // Try to claim the blocks atomically
         if (!newNormalizedBlocks.isEmpty() && argonTank.getStored() > 0) {
@@ -259,8 +354,12 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
                 if (argonTank.getStored() >= argonToConsume &&
                     energyStorage.getEnergyStored() >= energyToConsume) {
 
-                    // Update gravity zones
+                    // Update gravity zones, saving the region whenever it changes
+                    boolean regionChanged = !claimedBlocks.equals(normalizedBlocks);
                     updateGravityZones(claimedBlocks);
+                    if (regionChanged) {
+                        saveRegion();
+                    }
 
                     // Consume resources
                     long argonBefore = argonTank.getStored();
@@ -328,6 +427,9 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
     }
 
     protected void clearNormalizedBlocks() {
+        if (!chunkUnloading) {
+            forgetSavedRegion();
+        }
         if (!normalizedBlocks.isEmpty() && level != null) {
             AdAstraMekanized.LOGGER.debug("Clearing {} gravity blocks at {}", normalizedBlocks.size(), worldPosition);
             GlobalGravityManager.getInstance().releaseGravityBlocks(level.dimension(), worldPosition, normalizedBlocks);
@@ -337,6 +439,68 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
         }
     }
 
+    /**
+     * Put back the region saved before the last unload. Its boundary hash is checked against the
+     * world on the next distribution cycle, and the regular flood fill saves it again if the area changed.
+     */
+    private void restoreSavedRegion() {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        AtmosphereRegionData.StoredRegion stored = AtmosphereRegionData.get(serverLevel)
+            .getRegion(AtmosphereRegionData.RegionKind.GRAVITY, worldPosition);
+        if (stored == null) {
+            return;
+        }
+
+        Set<BlockPos> claimed = GlobalGravityManager.getInstance().claimGravityBlocks(
+            level.dimension(), worldPosition, stored.toPositions());
+        GravityManager.getInstance().setGravity(level, claimed, targetGravity);
+        normalizedBlocks.addAll(claimed);
+        lastBlockCount = normalizedBlocks.size();
+        restoredBoundaryHashes = stored.boundaryHashes();
+        restoredRegionUnverified = true;
+
+        AdAstraMekanized.LOGGER.debug("Restored {} saved gravity blocks at {}", claimed.size(), worldPosition);
+        if (zoneVisibility) {
+            sendVisualizationUpdate(true);
+        }
+    }
+
+    /**
+     * Drop the restored region if the world around it changed while it was unloaded, so no stale
+     * gravity zone waits for the flood fill to replace it
+     */
+    private void verifyRestoredRegion() {
+        boolean unchanged = AtmosphereRegionData.boundaryMatches(level, normalizedBlocks, restoredBoundaryHashes);
+        restoredBoundaryHashes = Long2LongMaps.EMPTY_MAP;
+        if (!unchanged) {
+            AdAstraMekanized.LOGGER.debug("Saved gravity region at {} is out of date, recomputing", worldPosition);
+            clearNormalizedBlocks();
+            lastBlockCount = 0;
+            if (zoneVisibility) {
+                sendVisualizationUpdate(true);
+            }
+        }
+    }
+
+    /**
+     * Mark the region for saving - it is hashed and stored on the next level save or chunk unload
+     */
+    private void saveRegion() {
+        if (level instanceof ServerLevel serverLevel) {
+            AtmosphereRegionData.get(serverLevel).markRegionChanged(
+                AtmosphereRegionData.RegionKind.GRAVITY, worldPosition, normalizedBlocks);
+        }
+    }
+
+    private void forgetSavedRegion() {
+        restoredRegionUnverified = false;
+        if (level instanceof ServerLevel serverLevel) {
+            AtmosphereRegionData.get(serverLevel).removeRegion(AtmosphereRegionData.RegionKind.GRAVITY, worldPosition);
+        }
+    }
+
     /**
      * Notify nearby normalizers that blocks may be available.
      * Note: Normalizers naturally re-expand every DISTRIBUTION_INTERVAL ticks (20 ticks),
@@ -565,30 +729,24 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
     // Visualization packets
 
     protected void sendVisualizationUpdate(boolean visible) {
-        if (level == null || level.isClientSide) return;
+        if (!(level instanceof ServerLevel serverLevel)) return;
 
-        Set<BlockPos> zones = new HashSet<>(normalizedBlocks);
-        var packet = new com.hecookin.adastramekanized.common.network.GravityVisualizationPacket(
-            worldPosition, zones, visible, zoneColor, targetGravity);
-
-        level.players().stream()
-            .filter(player -> player instanceof net.minecraft.server.level.ServerPlayer)
-            .map(player -> (net.minecraft.server.level.ServerPlayer) player)
-            .filter(player -> player.distanceToSqr(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ()) < 64 * 64)
-            .forEach(player -> net.neoforged.neoforge.network.PacketDistributor.sendToPlayer(player, packet));
+        // Only what changed since the last update goes out, see ZoneVisualizationTracker
+        visualizationTracker.sync(serverLevel, worldPosition, normalizedBlocks, Objects.hash(visible, zoneColor, targetGravity),
+            update -> new GravityVisualizationPacket(worldPosition, update, visible, zoneColor, targetGravity));
     }
 
     protected void sendVisualizationRemoval() {
-        if (level == null || level.isClientSide) return;
+        if (!(level instanceof ServerLevel serverLevel)) return;
 
-        var packet = new com.hecookin.adastramekanized.common.network.GravityVisualizationPacket(
-            worldPosition, new HashSet<>(), false, zoneColor, targetGravity);
+        // Tell clients to drop this machine's zone completely
+        visualizationTracker.remove(serverLevel, worldPosition,
+            update -> new GravityVisualizationPacket(worldPosition, update, false, zoneColor, targetGravity));
+    }
 
-        level.players().stream()
-            .filter(player -> player instanceof net.minecraft.server.level.ServerPlayer)
-            .map(player -> (net.minecraft.server.level.ServerPlayer) player)
-            .filter(player -> player.distanceToSqr(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ()) < 64 * 64)
-            .forEach(player -> net.neoforged.neoforge.network.PacketDistributor.sendToPlayer(player, packet));
+    @Override
+    public ZoneVisualizationTracker getVisualizationTracker() {
+        return visualizationTracker;
     }
 
     // NBT serialization
@@ -668,8 +826,29 @@ public class GravityNormalizerBlockEntity extends BlockEntity implements MenuPro
         handleUpdateTag(pkt.getTag(), provider);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        restorePending = true;
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        chunkUnloading = true;
+        // Store the region before setRemoved releases it
+        if (level instanceof ServerLevel serverLevel) {
+            AtmosphereRegionData.get(serverLevel).flushRegion(AtmosphereRegionData.RegionKind.GRAVITY, worldPosition);
+        }
+    }
+
     @Override
     public void setRemoved() {
+        // A background fill must not claim blocks after removal
+        cancelPendingFill();
+        if (!chunkUnloading) {
+            forgetSavedRegion();
+        }
         if (level != null && !normalizedBlocks.isEmpty()) {
             AdAstraMekanized.LOGGER.debug("Gravity normalizer at {} being removed - releasing {} blocks",
                 worldPosition, normalizedBlocks.size());
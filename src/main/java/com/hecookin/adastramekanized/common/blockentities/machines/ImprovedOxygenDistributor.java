@@ -1,12 +1,22 @@
 package com.hecookin.adastramekanized.common.blockentities.machines;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.atmosphere.AsyncFloodFill;
+import com.hecookin.adastramekanized.common.atmosphere.AtmosphereRegionData;
+import com.hecookin.adastramekanized.common.atmosphere.AtmosphereScheduler;
 import com.hecookin.adastramekanized.common.atmosphere.GlobalOxygenManager;
 import com.hecookin.adastramekanized.common.atmosphere.OxygenManager;
+import com.hecookin.adastramekanized.common.atmosphere.OxygenRoomGraph;
 import com.hecookin.adastramekanized.common.blocks.base.SidedMachineBlock;
+import com.hecookin.adastramekanized.common.events.OxygenRegionUpdateHandler;
 import com.hecookin.adastramekanized.common.menus.OxygenDistributorMenu;
 import com.hecookin.adastramekanized.common.registry.ModBlockEntityTypes;
 import com.hecookin.adastramekanized.common.utils.ImprovedOxygenFloodFill;
+import com.hecookin.adastramekanized.common.network.OxygenVisualizationPacket;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationSource;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationTracker;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.chemical.BasicChemicalTank;
@@ -20,6 +30,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
@@ -40,13 +51,16 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Collection;
+import java.util.Collections;
 import net.minecraft.core.Direction;
 
 /**
  * Improved oxygen distributor with dynamic expansion, ring-based claiming,
  * and proper boundary respect for other distributors.
  */
-public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvider {
+public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvider, AtmosphereScheduler.Job, ZoneVisualizationSource {
 
     // Constants
     private static final int INITIAL_RADIUS = 3; // Start small
@@ -74,8 +88,32 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
     private int oxygenBlockColor = 8;  // Default to white (index 8 in color array)
     private long activationTime = 0;
     private final Set<BlockPos> oxygenatedBlocks = new HashSet<>();
+    private final ZoneVisualizationTracker visualizationTracker = new ZoneVisualizationTracker();
     private final int tickOffset;
 
+    // Incremental region maintenance - once settled, only block changes alter the region
+    private boolean regionSettled = false;
+    // Settled against walls rather than the block cap - openings to the outside are hull breaches
+    private boolean regionSealed = false;
+    private int lastFillRadius = 0;
+    private int lastFillBlockCount = -1;
+
+    // Flood fill running on a worker thread, committed on a later tick
+    private AsyncFloodFill.PendingFill pendingFill = null;
+    private int pendingFillRadius = 0;
+    // Distribution interval elapsed, waiting for the atmosphere scheduler
+    private boolean distributionDue = false;
+
+    // Size of our oxygen room when we last planned a fill - only used to notice the room changed size
+    private int lastRoomMembers = 1;
+
+    // Saved region restored on load, settled without a flood fill once its boundary hash checks out
+    private boolean restorePending = false;
+    private boolean restoredRegionUnverified = false;
+    private Long2LongMap restoredBoundaryHashes = Long2LongMaps.EMPTY_MAP;
+    // Chunk unload keeps the saved region, removal or shutdown of the machine forgets it
+    private boolean chunkUnloading = false;
+
     // Usage tracking for GUI display
     private float lastOxygenUsage = 0.0f; // mB per tick
     private float lastEnergyUsage = 0.0f; // FE per tick
@@ -120,6 +158,13 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
         // Server-side logic
         tickCounter++;
 
+        if (restorePending) {
+            restorePending = false;
+            if (isActive && !manuallyDisabled) {
+                restoreSavedRegion();
+            }
+        }
+
         // Debug logging
         if (tickCounter % 20 == 0) {
             AdAstraMekanized.LOGGER.debug("ImprovedOxygenDistributor at {}: Energy={}/{}, Oxygen={}/{}, Active={}, Radius={}, Blocks={}",
@@ -155,11 +200,17 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
                 AdAstraMekanized.LOGGER.debug("Expanding radius to {} at {}", currentRadius, worldPosition);
             }
 
+            // Commit a finished background flood fill through the scheduler
+            if (pendingFill != null && pendingFill.isDone()) {
+                AtmosphereScheduler.submit(level, this);
+            }
+
             // Distribute oxygen at intervals
             int adjustedInterval = DISTRIBUTION_INTERVAL + (tickOffset % DISTRIBUTION_INTERVAL);
             if (tickCounter >= adjustedInterval) {
                 tickCounter = 0;
-                distributeOxygen();
+                distributionDue = true;
+                AtmosphereScheduler.submit(level, this);
             }
 
             // Send visualization updates
@@ -183,6 +234,7 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
         activationTime = System.currentTimeMillis();
         expansionTicks = 0;
         currentRadius = INITIAL_RADIUS; // Reset to initial radius
+        resetRegionState();
         AdAstraMekanized.LOGGER.debug("Activating oxygen distributor at {} with initial radius {}", worldPosition, currentRadius);
         setChanged();
     }
@@ -192,6 +244,7 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
         activationTime = 0;
         expansionTicks = 0;
         currentRadius = INITIAL_RADIUS; // Reset radius for next activation
+        resetRegionState();
         lastBlockCount = 0;
         lastOxygenUsage = 0;
         lastEnergyUsage = 0;
@@ -205,98 +258,522 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
         }
     }
 
+    /**
+     * Called by AtmosphereScheduler within the per-tick budget. Committing a fill and submitting the
+     * next one are split across ticks when the commit used up the budget.
+     */
+    @Override
+    public boolean runScheduledWork(long deadlineNanos) {
+        if (level == null || level.isClientSide || !isActive) {
+            return false;
+        }
+
+        boolean committed = false;
+        if (pendingFill != null && pendingFill.isDone()) {
+            // Null while the fill was resubmitted against a fresh snapshot
+            AsyncFloodFill.PendingFill fill = pendingFill;
+            Set<BlockPos> result = fill.join(level);
+            if (result != null || fill.isAbandoned()) {
+                pendingFill = null;
+            }
+            if (result != null) {
+                applyFloodFill(result, pendingFillRadius);
+                committed = true;
+            }
+        }
+
+        if (distributionDue) {
+            if (committed && System.nanoTime() - deadlineNanos >= 0) {
+                return true;
+            }
+            distributionDue = false;
+            distributeOxygen();
+        }
+        return false;
+    }
+
     protected void distributeOxygen() {
-        var dimension = level.dimension();
+        OxygenRoomGraph.Room room = resolveRoom();
+        if (!room.isLeader(worldPosition)) {
+            if (!oxygenatedBlocks.isEmpty()) {
+                // Our room was merged into another - its leader takes over the volume
+                yieldRegionToRoom();
+            }
+            // The room leader computes and owns the region - we only pay our share
+            contributeToRoom(room);
+            return;
+        }
+
+        if (room.getMemberCount() != lastRoomMembers) {
+            // Room capacity changed - grow or shrink on the next fill
+            lastRoomMembers = room.getMemberCount();
+            regionSettled = false;
+            lastFillBlockCount = -1;
+        }
+
+        if (restoredRegionUnverified) {
+            restoredRegionUnverified = false;
+            verifyRestoredRegion();
+        }
+
+        if (regionSettled) {
+            // Region is kept current by repairRegion() - just pay for it
+            consumeForRegion(oxygenatedBlocks, currentRadius);
+            return;
+        }
+
+        if (pendingFill != null) {
+            // Previous flood fill is still running
+            return;
+        }
 
         AdAstraMekanized.LOGGER.debug("Distributing oxygen from {} with radius {} (tick {})",
             worldPosition, currentRadius, level.getGameTime());
 
-        // Use the improved flood fill algorithm
-        Set<BlockPos> newOxygenatedBlocks = ImprovedOxygenFloodFill.findOxygenatableArea(
-            level,
-            worldPosition,
-            currentRadius,
-            MAX_OXYGEN_BLOCKS,
-            level.getGameTime()
-        );
+        // Run the improved flood fill on a chunk snapshot off the server thread.
+        // The search reaches at most two blocks past the radius (priority cube + neighbour reads).
+        var dimension = level.dimension();
+        BlockPos origin = worldPosition;
+        int radius = currentRadius;
+        int maxBlocks = getRoomCapacity();
+        pendingFillRadius = radius;
+        pendingFill = AsyncFloodFill.submit(level, origin, radius + 2,
+            blocks -> ImprovedOxygenFloodFill.findOxygenatableArea(blocks, dimension, origin, radius, maxBlocks));
+    }
 
-        // Try to claim the blocks atomically
-        if (!newOxygenatedBlocks.isEmpty() && oxygenTank.getStored() > 0) {
-            Set<BlockPos> claimedBlocks = GlobalOxygenManager.getInstance().claimOxygenBlocks(
-                dimension, worldPosition, newOxygenatedBlocks
-            );
-
-            if (!claimedBlocks.isEmpty()) {
-                // Calculate resource consumption
-                int blockCount = claimedBlocks.size();
-                // Ensure minimum consumption of 1 mB to prevent staying active with small amounts
-                long oxygenToConsume = Math.max(1, Math.round(blockCount * OXYGEN_PER_BLOCK));
-                int energyToConsume = Math.max(1, (int) Math.ceil(blockCount * ENERGY_PER_BLOCK));
-
-                // Check oxygen level and reduce blocks if below 10% capacity
-                if (oxygenTank.getStored() < (oxygenTank.getCapacity() * 0.1)) {
-                    // Below 10% capacity - start reducing oxygen blocks from outer edges
-                    int targetBlockCount = Math.max(1, (int)(blockCount * oxygenTank.getStored() / (oxygenTank.getCapacity() / 10)));
-                    if (targetBlockCount < blockCount) {
-                        // Remove blocks starting from edges (blocks with fewer neighbors)
-                        Set<BlockPos> toKeep = removeEdgeBlocks(claimedBlocks, targetBlockCount);
-                        Set<BlockPos> toRelease = new HashSet<>(claimedBlocks);
-                        toRelease.removeAll(toKeep);
-
-                        GlobalOxygenManager.getInstance().releaseOxygenBlocks(dimension, worldPosition, toRelease);
-                        claimedBlocks = toKeep;
-                        blockCount = toKeep.size();
-
-                        // Recalculate consumption for reduced blocks
-                        oxygenToConsume = Math.max(1, Math.round(blockCount * OXYGEN_PER_BLOCK));
-                        energyToConsume = Math.max(1, (int) Math.ceil(blockCount * ENERGY_PER_BLOCK));
+    /**
+     * Find our oxygen room. A distributor on its own joins the room whose region it stands in,
+     * otherwise it leads a room of its own. Rooms whose regions meet further out are merged by
+     * mergeBorderingRooms() after fills and repairs.
+     */
+    private OxygenRoomGraph.Room resolveRoom() {
+        OxygenRoomGraph graph = OxygenRoomGraph.getInstance();
+        var dimension = level.dimension();
+        OxygenRoomGraph.Room room = graph.getRoom(dimension, worldPosition);
+
+        if (room == null || room.getMemberCount() == 1) {
+            BlockPos leader = findAdjacentRoomLeader();
+            if (leader != null) {
+                OxygenRoomGraph.Room joined = graph.joinRoom(dimension, worldPosition, leader);
+                if (joined != null) {
+                    yieldRegionToRoom();
+                    return joined;
+                }
+            }
+        }
+
+        return room != null ? room : graph.createRoom(dimension, worldPosition);
+    }
+
+    /**
+     * Look at our priority cube for a region owned by another room leader.
+     * Two lone distributors meeting each other settle on the lower position as leader.
+     */
+    @Nullable
+    private BlockPos findAdjacentRoomLeader() {
+        var dimension = level.dimension();
+        GlobalOxygenManager globalManager = GlobalOxygenManager.getInstance();
+        OxygenRoomGraph graph = OxygenRoomGraph.getInstance();
+
+        for (BlockPos pos : priorityCube(worldPosition)) {
+            BlockPos owner = globalManager.getBlockOwner(dimension, pos);
+            if (owner == null || owner.equals(worldPosition)) {
+                continue;
+            }
+            OxygenRoomGraph.Room other = graph.getRoom(dimension, owner);
+            if (other == null || !other.isLeader(owner)) {
+                continue;
+            }
+            if (other.getMemberCount() > 1 || owner.compareTo(worldPosition) < 0) {
+                return owner;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The 3x3x3 cube around a distributor, without the distributor itself
+     */
+    private static List<BlockPos> priorityCube(BlockPos center) {
+        List<BlockPos> cube = new ArrayList<>(26);
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx != 0 || dy != 0 || dz != 0) {
+                        cube.add(center.offset(dx, dy, dz));
                     }
                 }
+            }
+        }
+        return cube;
+    }
 
-                // Check if we have enough resources
-                if (oxygenTank.getStored() >= oxygenToConsume &&
-                    energyStorage.getEnergyStored() >= energyToConsume) {
+    /**
+     * Whether our region reaches the priority cube of a room member, i.e. it still shares our volume
+     */
+    private boolean reachesMember(BlockPos memberPos) {
+        for (BlockPos pos : priorityCube(memberPos)) {
+            if (oxygenatedBlocks.contains(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                    // Update oxygen zones
-                    updateOxygenZones(claimedBlocks);
+    /**
+     * Split off the room members our region no longer reaches, e.g. after a door closed between halls
+     */
+    private void splitUnreachedMembers() {
+        OxygenRoomGraph.getInstance().splitRoom(level.dimension(), worldPosition, this::reachesMember);
+    }
 
-                    // Consume resources
-                    long oxygenBefore = oxygenTank.getStored();
-                    int energyBefore = energyStorage.getEnergyStored();
+    /**
+     * Merge our room with every room whose region the checked part of ours meets. If ours is the
+     * room absorbed, the surviving leader takes over the volume and we release our region.
+     */
+    private void mergeBorderingRooms(Collection<BlockPos> checked) {
+        Set<BlockPos> owners = ImprovedOxygenFloodFill.findBorderingOwners(level, worldPosition, oxygenatedBlocks, checked);
+        if (owners.isEmpty()) {
+            return;
+        }
 
-                    oxygenTank.shrinkStack(oxygenToConsume, Action.EXECUTE);
-                    energyStorage.extractEnergy(energyToConsume, false);
+        OxygenRoomGraph graph = OxygenRoomGraph.getInstance();
+        var dimension = level.dimension();
+        for (BlockPos owner : owners) {
+            OxygenRoomGraph.Room ours = graph.getRoom(dimension, worldPosition);
+            if (ours == null) {
+                return;
+            }
+            graph.mergeRooms(dimension, ours.getLeader(), owner);
+        }
 
-                    long oxygenAfter = oxygenTank.getStored();
-                    int energyAfter = energyStorage.getEnergyStored();
-                    long actualOxygenConsumed = oxygenBefore - oxygenAfter;
-                    int actualEnergyConsumed = energyBefore - energyAfter;
+        OxygenRoomGraph.Room room = graph.getRoom(dimension, worldPosition);
+        if (room != null && !room.isLeader(worldPosition)) {
+            yieldRegionToRoom();
+        }
+    }
 
-                    // Update usage tracking (per tick, so divide by distribution interval)
-                    lastBlockCount = blockCount;
-                    lastOxygenUsage = (float) actualOxygenConsumed / DISTRIBUTION_INTERVAL;
-                    lastEnergyUsage = (float) actualEnergyConsumed / DISTRIBUTION_INTERVAL;
+    /**
+     * Our room is led by another distributor now - release our region so the leader grows into it
+     */
+    private void yieldRegionToRoom() {
+        resetRegionState();
+        forgetSavedRegion();
+        releaseOwnRegion();
+        lastRoomMembers = 1;
+    }
 
-                    AdAstraMekanized.LOGGER.info("Distribution: {} blocks | Oxygen: requested={} mB, actual={} mB ({}mB/t) | Energy: requested={} FE, actual={} FE ({}FE/t)",
-                        blockCount, oxygenToConsume, actualOxygenConsumed, lastOxygenUsage,
-                        energyToConsume, actualEnergyConsumed, lastEnergyUsage);
+    /**
+     * Pay our share of a room led by another distributor
+     */
+    private void contributeToRoom(OxygenRoomGraph.Room room) {
+        BlockPos leaderPos = room.getLeader();
+        if (!level.isLoaded(leaderPos) || !(level.getBlockEntity(leaderPos) instanceof ImprovedOxygenDistributor leader)) {
+            // Stale room - lead our own from the next cycle
+            OxygenRoomGraph.getInstance().leaveRoom(level.dimension(), worldPosition);
+            return;
+        }
+        if (leader.regionSettled && !leader.reachesMember(worldPosition)) {
+            // The leader's region no longer reaches us - fill our own from the next cycle
+            OxygenRoomGraph.getInstance().leaveRoom(level.dimension(), worldPosition);
+            lastBlockCount = 0;
+            lastOxygenUsage = 0;
+            lastEnergyUsage = 0;
+            return;
+        }
 
-                    if (oxygenBlockVisibility) {
-                        sendVisualizationUpdate(true);
-                    }
-                } else {
-                    // Not enough resources, release blocks
-                    GlobalOxygenManager.getInstance().releaseOxygenBlocks(dimension, worldPosition, claimedBlocks);
-                    lastBlockCount = 0;
-                    lastOxygenUsage = 0;
-                    lastEnergyUsage = 0;
+        int share = shareOf(leader.getOxygenatedBlockCount(), room.getMemberCount());
+        if (share == 0) {
+            lastBlockCount = 0;
+            lastOxygenUsage = 0;
+            lastEnergyUsage = 0;
+            return;
+        }
+
+        long oxygenToConsume = Math.max(1, Math.round(share * OXYGEN_PER_BLOCK));
+        int energyToConsume = Math.max(1, (int) Math.ceil(share * ENERGY_PER_BLOCK));
+        if (oxygenTank.getStored() >= oxygenToConsume && energyStorage.getEnergyStored() >= energyToConsume) {
+            long oxygenBefore = oxygenTank.getStored();
+            int energyBefore = energyStorage.getEnergyStored();
+
+            oxygenTank.shrinkStack(oxygenToConsume, Action.EXECUTE);
+            energyStorage.extractEnergy(energyToConsume, false);
+
+            lastBlockCount = share;
+            lastOxygenUsage = (float) (oxygenBefore - oxygenTank.getStored()) / DISTRIBUTION_INTERVAL;
+            lastEnergyUsage = (float) (energyBefore - energyStorage.getEnergyStored()) / DISTRIBUTION_INTERVAL;
+        } else {
+            // Can't pay our share - the room shrinks to what the remaining members supply
+            OxygenRoomGraph.getInstance().leaveRoom(level.dimension(), worldPosition);
+            lastBlockCount = 0;
+            lastOxygenUsage = 0;
+            lastEnergyUsage = 0;
+        }
+    }
+
+    /**
+     * Volume cap of our room: MAX_OXYGEN_BLOCKS for every member currently in it, so a merged room holds
+     * as much as its distributors would on their own. Read from the live room, so a leaving member's
+     * share stops counting at once.
+     */
+    private int getRoomCapacity() {
+        return MAX_OXYGEN_BLOCKS * getRoomMembers();
+    }
+
+    /**
+     * Members of the room we lead, 1 if we are on our own
+     */
+    private int getRoomMembers() {
+        OxygenRoomGraph.Room room = level != null
+            ? OxygenRoomGraph.getInstance().getRoom(level.dimension(), worldPosition) : null;
+        return room != null && room.isLeader(worldPosition) ? room.getMemberCount() : 1;
+    }
+
+    private static int shareOf(int blockCount, int members) {
+        return (blockCount + members - 1) / members;
+    }
+
+    /**
+     * Take over a room region from a leader that left. The blocks stay oxygenated - only ownership moves.
+     */
+    void adoptRegion(Set<BlockPos> region) {
+        oxygenatedBlocks.addAll(region);
+        lastBlockCount = oxygenatedBlocks.size();
+        // Refill once with the new room capacity
+        regionSettled = false;
+        lastFillBlockCount = -1;
+        if (oxygenBlockVisibility) {
+            sendVisualizationUpdate(true);
+        }
+    }
+
+    /**
+     * Move our region to the next room leader instead of releasing it
+     * @return true if the successor took the region
+     */
+    private boolean handOverRegion(BlockPos successorPos) {
+        if (!level.isLoaded(successorPos)
+                || !(level.getBlockEntity(successorPos) instanceof ImprovedOxygenDistributor successor)
+                || !successor.isActive()) {
+            return false;
+        }
+
+        var dimension = level.dimension();
+        Set<BlockPos> region = new HashSet<>(oxygenatedBlocks);
+        GlobalOxygenManager.getInstance().releaseOxygenBlocks(dimension, worldPosition, region);
+        Set<BlockPos> claimed = GlobalOxygenManager.getInstance().claimOxygenBlocks(dimension, successorPos, region);
+        successor.adoptRegion(claimed);
+        oxygenatedBlocks.clear();
+
+        AdAstraMekanized.LOGGER.debug("Distributor {} handed {} oxygen blocks to room successor {}",
+            worldPosition, claimed.size(), successorPos);
+        return true;
+    }
+
+    /**
+     * Claim and pay for the result of a finished flood fill
+     */
+    private void applyFloodFill(Set<BlockPos> newOxygenatedBlocks, int fillRadius) {
+        if (newOxygenatedBlocks.isEmpty() || oxygenTank.getStored() <= 0) {
+            return;
+        }
+
+        // Try to claim the blocks atomically
+        Set<BlockPos> claimedBlocks = GlobalOxygenManager.getInstance().claimOxygenBlocks(
+            level.dimension(), worldPosition, newOxygenatedBlocks
+        );
+        consumeForRegion(claimedBlocks, fillRadius);
+
+        if (!oxygenatedBlocks.isEmpty()) {
+            // The fill stops at other regions - if it reached one, that volume is the same room
+            mergeBorderingRooms(oxygenatedBlocks);
+        }
+    }
+
+    private void consumeForRegion(Set<BlockPos> claimedBlocks, int fillRadius) {
+        var dimension = level.dimension();
+
+        if (claimedBlocks.isEmpty()) {
+            // No blocks claimed
+            lastBlockCount = 0;
+            lastOxygenUsage = 0;
+            lastEnergyUsage = 0;
+            return;
+        }
+
+        // Calculate resource consumption - other room members pay for the rest of the region
+        int blockCount = claimedBlocks.size();
+        // Ensure minimum consumption of 1 mB to prevent staying active with small amounts
+        long oxygenToConsume = Math.max(1, Math.round(shareOf(blockCount, getRoomMembers()) * OXYGEN_PER_BLOCK));
+        int energyToConsume = Math.max(1, (int) Math.ceil(shareOf(blockCount, getRoomMembers()) * ENERGY_PER_BLOCK));
+        boolean trimmed = false;
+
+        // Check oxygen level and reduce blocks if below 10% capacity
+        if (oxygenTank.getStored() < (oxygenTank.getCapacity() * 0.1)) {
+            // Below 10% capacity - start reducing oxygen blocks from outer edges
+            int targetBlockCount = Math.max(1, (int)(blockCount * oxygenTank.getStored() / (oxygenTank.getCapacity() / 10)));
+            if (targetBlockCount < blockCount) {
+                // Remove blocks starting from edges (blocks with fewer neighbors)
+                Set<BlockPos> toKeep = removeEdgeBlocks(claimedBlocks, targetBlockCount);
+                Set<BlockPos> toRelease = new HashSet<>(claimedBlocks);
+                toRelease.removeAll(toKeep);
+
+                GlobalOxygenManager.getInstance().releaseOxygenBlocks(dimension, worldPosition, toRelease);
+                claimedBlocks = toKeep;
+                blockCount = toKeep.size();
+                trimmed = true;
+
+                // Recalculate consumption for reduced blocks
+                oxygenToConsume = Math.max(1, Math.round(shareOf(blockCount, getRoomMembers()) * OXYGEN_PER_BLOCK));
+                energyToConsume = Math.max(1, (int) Math.ceil(shareOf(blockCount, getRoomMembers()) * ENERGY_PER_BLOCK));
+            }
+        }
+
+        // Check if we have enough resources
+        if (oxygenTank.getStored() >= oxygenToConsume &&
+            energyStorage.getEnergyStored() >= energyToConsume) {
+
+            // Update oxygen zones (settled regions are already current)
+            if (claimedBlocks != oxygenatedBlocks) {
+                updateOxygenZones(claimedBlocks);
+            }
+
+            // A fill that stopped growing while the radius grew has reached its walls (or the block cap),
+            // so from here on only block changes can alter it
+            if (!regionSettled) {
+                int capacity = getRoomCapacity();
+                regionSettled = !trimmed && (blockCount >= capacity
+                    || (blockCount == lastFillBlockCount && fillRadius > lastFillRadius));
+                lastFillBlockCount = blockCount;
+                lastFillRadius = fillRadius;
+                if (regionSettled) {
+                    regionSealed = blockCount < capacity;
+                    saveRegion();
                 }
-            } else {
-                // No blocks claimed
-                lastBlockCount = 0;
-                lastOxygenUsage = 0;
-                lastEnergyUsage = 0;
+            } else if (trimmed) {
+                // Regrow once oxygen is available again
+                regionSettled = false;
             }
+
+            // Consume resources
+            long oxygenBefore = oxygenTank.getStored();
+            int energyBefore = energyStorage.getEnergyStored();
+
+            oxygenTank.shrinkStack(oxygenToConsume, Action.EXECUTE);
+            energyStorage.extractEnergy(energyToConsume, false);
+
+            long oxygenAfter = oxygenTank.getStored();
+            int energyAfter = energyStorage.getEnergyStored();
+            long actualOxygenConsumed = oxygenBefore - oxygenAfter;
+            int actualEnergyConsumed = energyBefore - energyAfter;
+
+            // Update usage tracking (per tick, so divide by distribution interval)
+            lastBlockCount = blockCount;
+            lastOxygenUsage = (float) actualOxygenConsumed / DISTRIBUTION_INTERVAL;
+            lastEnergyUsage = (float) actualEnergyConsumed / DISTRIBUTION_INTERVAL;
+
+            AdAstraMekanized.LOGGER.info("Distribution: {} blocks | Oxygen: requested={} mB, actual={} mB ({}mB/t) | Energy: requested={} FE, actual={} FE ({}FE/t)",
+                blockCount, oxygenToConsume, actualOxygenConsumed, lastOxygenUsage,
+                energyToConsume, actualEnergyConsumed, lastEnergyUsage);
+
+            if (oxygenBlockVisibility && claimedBlocks != oxygenatedBlocks) {
+                sendVisualizationUpdate(true);
+            }
+        } else if (regionSettled) {
+            // Not enough resources to hold the settled region
+            regionSettled = false;
+            clearOxygenatedBlocks();
+            lastBlockCount = 0;
+            lastOxygenUsage = 0;
+            lastEnergyUsage = 0;
+        } else {
+            // Not enough resources, release blocks
+            GlobalOxygenManager.getInstance().releaseOxygenBlocks(dimension, worldPosition, claimedBlocks);
+            lastBlockCount = 0;
+            lastOxygenUsage = 0;
+            lastEnergyUsage = 0;
+        }
+    }
+
+    /**
+     * Apply a local repair for blocks that changed inside or next to our region.
+     * Called by OxygenRegionUpdateHandler at the end of the tick the changes happened in.
+     * Regions that are still expanding ignore this - their next flood fill sees the change anyway.
+     */
+    public void repairRegion(Set<BlockPos> changedPositions) {
+        if (level == null || level.isClientSide || !isActive || !regionSettled || oxygenatedBlocks.isEmpty()) {
+            return;
+        }
+
+        if (regionSealed) {
+            Set<BlockPos> vented = ImprovedOxygenFloodFill.findBreachedVolume(
+                level, worldPosition, oxygenatedBlocks, changedPositions);
+            if (!vented.isEmpty()) {
+                depressurize(vented);
+                return;
+            }
+        }
+
+        ImprovedOxygenFloodFill.RegionDelta delta = ImprovedOxygenFloodFill.repairOxygenatableArea(
+            level, worldPosition, oxygenatedBlocks, changedPositions, getRoomCapacity(), currentRadius);
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        var dimension = level.dimension();
+        if (!delta.removed().isEmpty()) {
+            GlobalOxygenManager.getInstance().releaseOxygenBlocks(dimension, worldPosition, delta.removed());
+            OxygenManager.getInstance().setOxygen(level, delta.removed(), false);
+            oxygenatedBlocks.removeAll(delta.removed());
+            // Members in a part the repair cut off have to fill it themselves
+            splitUnreachedMembers();
+        }
+        Set<BlockPos> grown = Collections.emptySet();
+        if (!delta.added().isEmpty()) {
+            grown = GlobalOxygenManager.getInstance().claimOxygenBlocks(dimension, worldPosition, delta.added());
+            OxygenManager.getInstance().setOxygen(level, grown, true);
+            oxygenatedBlocks.addAll(grown);
+        }
+        lastBlockCount = oxygenatedBlocks.size();
+        saveRegion();
+
+        if (!delta.removed().isEmpty()) {
+            // Released space may now be reachable by a neighbouring distributor
+            notifyNearbyDistributorsForUpdate(delta.removed());
+        }
+        if (oxygenBlockVisibility) {
+            sendVisualizationUpdate(true);
+        }
+        if (!grown.isEmpty()) {
+            // An opening (e.g. a door) may have joined our volume to another room's
+            mergeBorderingRooms(grown);
+        }
+    }
+
+    /**
+     * Vent the part of the region connected to a hull breach, then regrow from the initial radius
+     * as if freshly activated
+     */
+    private void depressurize(Set<BlockPos> vented) {
+        AdAstraMekanized.LOGGER.debug("Hull breach at distributor {} - venting {} of {} oxygen blocks",
+            worldPosition, vented.size(), oxygenatedBlocks.size());
+
+        GlobalOxygenManager.getInstance().releaseOxygenBlocks(level.dimension(), worldPosition, vented);
+        OxygenManager.getInstance().setOxygen(level, vented, false);
+        oxygenatedBlocks.removeAll(vented);
+        lastBlockCount = oxygenatedBlocks.size();
+        splitUnreachedMembers();
+
+        expansionTicks = 0;
+        currentRadius = INITIAL_RADIUS;
+        resetRegionState();
+        forgetSavedRegion();
+        setChanged();
+
+        // Vented space may border another distributor's region
+        notifyNearbyDistributorsForUpdate(vented);
+        if (oxygenBlockVisibility) {
+            sendVisualizationUpdate(true);
         }
     }
 
@@ -321,25 +798,127 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
     }
 
     protected void clearOxygenatedBlocks() {
+        if (level == null) {
+            return;
+        }
+
+        if (!chunkUnloading) {
+            forgetSavedRegion();
+        }
+
+        // Leaving the room - a remaining member keeps the region alive
+        BlockPos successor = level.isClientSide ? null
+            : OxygenRoomGraph.getInstance().leaveRoom(level.dimension(), worldPosition);
+        lastRoomMembers = 1;
+        if (successor != null && !oxygenatedBlocks.isEmpty() && handOverRegion(successor)) {
+            return;
+        }
+        releaseOwnRegion();
+    }
+
+    private void releaseOwnRegion() {
         if (!oxygenatedBlocks.isEmpty() && level != null) {
             AdAstraMekanized.LOGGER.debug("Clearing {} oxygen blocks at {}", oxygenatedBlocks.size(), worldPosition);
+            Set<BlockPos> released = new HashSet<>(oxygenatedBlocks);
             GlobalOxygenManager.getInstance().releaseOxygenBlocks(level.dimension(), worldPosition, oxygenatedBlocks);
             OxygenManager.getInstance().setOxygen(level, oxygenatedBlocks, false);
             oxygenatedBlocks.clear();
-            notifyNearbyDistributorsForUpdate();
+            notifyNearbyDistributorsForUpdate(released);
         }
     }
 
     /**
      * Notify nearby distributors that blocks may be available.
-     * Note: Distributors naturally re-expand every DISTRIBUTION_INTERVAL ticks,
-     * so explicit notification is only needed for immediate response.
-     * Removed expensive 274K position scan - distributors will reclaim blocks naturally.
+     * The released positions are queued as block changes, so only distributors whose
+     * region borders them get a local repair - no position scan needed.
+     */
+    protected void notifyNearbyDistributorsForUpdate(Set<BlockPos> releasedBlocks) {
+        if (level != null && !level.isClientSide) {
+            OxygenRegionUpdateHandler.queueChanges(level, releasedBlocks);
+        }
+    }
+
+    /**
+     * Force the next distribution cycle to run a full flood fill
+     */
+    private void resetRegionState() {
+        regionSettled = false;
+        regionSealed = false;
+        lastFillRadius = 0;
+        lastFillBlockCount = -1;
+        distributionDue = false;
+        if (pendingFill != null) {
+            pendingFill.cancel(level);
+            pendingFill = null;
+        }
+    }
+
+    /**
+     * Put back the region saved before the last unload. It counts as unsettled until the
+     * boundary hash has been checked against the world on the next distribution cycle.
+     * Room members keep no region of their own, so they rejoin the room of the leader whose
+     * saved region surrounds them instead.
+     */
+    private void restoreSavedRegion() {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        AtmosphereRegionData data = AtmosphereRegionData.get(serverLevel);
+        AtmosphereRegionData.StoredRegion stored = data.getRegion(AtmosphereRegionData.RegionKind.OXYGEN, worldPosition);
+        if (stored == null) {
+            BlockPos leader = data.findRegionOwner(AtmosphereRegionData.RegionKind.OXYGEN, worldPosition, priorityCube(worldPosition));
+            if (leader != null) {
+                OxygenRoomGraph.getInstance().assignToRoom(level.dimension(), worldPosition, leader);
+            }
+            return;
+        }
+
+        Set<BlockPos> claimed = GlobalOxygenManager.getInstance().claimOxygenBlocks(
+            level.dimension(), worldPosition, stored.toPositions());
+        OxygenManager.getInstance().setOxygen(level, claimed, true);
+        oxygenatedBlocks.addAll(claimed);
+        lastBlockCount = oxygenatedBlocks.size();
+        restoredBoundaryHashes = stored.boundaryHashes();
+        restoredRegionUnverified = claimed.size() == stored.blocks().size();
+
+        AdAstraMekanized.LOGGER.debug("Restored {} saved oxygen blocks at {}", claimed.size(), worldPosition);
+        if (oxygenBlockVisibility) {
+            sendVisualizationUpdate(true);
+        }
+    }
+
+    /**
+     * Settle the restored region if nothing around it changed, otherwise leave it to the next flood fill
      */
-    protected void notifyNearbyDistributorsForUpdate() {
-        // Intentionally empty - removed O(n^3) position scan that caused freezes.
-        // Nearby distributors will reclaim released blocks during their next distribution cycle.
-        // This happens every ~20 ticks anyway, so the delay is negligible.
+    private void verifyRestoredRegion() {
+        boolean unchanged = AtmosphereRegionData.boundaryMatches(level, oxygenatedBlocks, restoredBoundaryHashes);
+        restoredBoundaryHashes = Long2LongMaps.EMPTY_MAP;
+        int capacity = getRoomCapacity();
+        if (unchanged && oxygenatedBlocks.size() <= capacity) {
+            regionSettled = true;
+            regionSealed = oxygenatedBlocks.size() < capacity;
+            lastFillBlockCount = oxygenatedBlocks.size();
+            lastFillRadius = currentRadius;
+        } else {
+            AdAstraMekanized.LOGGER.debug("Saved oxygen region at {} is out of date, recomputing", worldPosition);
+        }
+    }
+
+    /**
+     * Mark the region for saving - it is hashed and stored on the next level save or chunk unload
+     */
+    private void saveRegion() {
+        if (level instanceof ServerLevel serverLevel) {
+            AtmosphereRegionData.get(serverLevel).markRegionChanged(
+                AtmosphereRegionData.RegionKind.OXYGEN, worldPosition, oxygenatedBlocks);
+        }
+    }
+
+    private void forgetSavedRegion() {
+        restoredRegionUnverified = false;
+        if (level instanceof ServerLevel serverLevel) {
+            AtmosphereRegionData.get(serverLevel).removeRegion(AtmosphereRegionData.RegionKind.OXYGEN, worldPosition);
+        }
     }
 
     private BlockPos getStartPosition(BlockPos distributorPos) {
@@ -580,30 +1159,24 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
     // Visualization packets
 
     protected void sendVisualizationUpdate(boolean visible) {
-        if (level == null || level.isClientSide) return;
-
-        Set<BlockPos> zones = new HashSet<>(oxygenatedBlocks);
-        var packet = new com.hecookin.adastramekanized.common.network.OxygenVisualizationPacket(
-            worldPosition, zones, visible, oxygenBlockColor);
+        if (!(level instanceof ServerLevel serverLevel)) return;
 
-        level.players().stream()
-            .filter(player -> player instanceof net.minecraft.server.level.ServerPlayer)
-            .map(player -> (net.minecraft.server.level.ServerPlayer) player)
-            .filter(player -> player.distanceToSqr(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ()) < 64 * 64)
-            .forEach(player -> net.neoforged.neoforge.network.PacketDistributor.sendToPlayer(player, packet));
+        // Only what changed since the last update goes out, see ZoneVisualizationTracker
+        visualizationTracker.sync(serverLevel, worldPosition, oxygenatedBlocks, Objects.hash(visible, oxygenBlockColor),
+            update -> new OxygenVisualizationPacket(worldPosition, update, visible, oxygenBlockColor));
     }
 
     protected void sendVisualizationRemoval() {
-        if (level == null || level.isClientSide) return;
+        if (!(level instanceof ServerLevel serverLevel)) return;
 
-        var packet = new com.hecookin.adastramekanized.common.network.OxygenVisualizationPacket(
-            worldPosition, new HashSet<>(), false, oxygenBlockColor);
+        // Tell clients to drop this machine's zone completely
+        visualizationTracker.remove(serverLevel, worldPosition,
+            update -> new OxygenVisualizationPacket(worldPosition, update, false, oxygenBlockColor));
+    }
 
-        level.players().stream()
-            .filter(player -> player instanceof net.minecraft.server.level.ServerPlayer)
-            .map(player -> (net.minecraft.server.level.ServerPlayer) player)
-            .filter(player -> player.distanceToSqr(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ()) < 64 * 64)
-            .forEach(player -> net.neoforged.neoforge.network.PacketDistributor.sendToPlayer(player, packet));
+    @Override
+    public ZoneVisualizationTracker getVisualizationTracker() {
+        return visualizationTracker;
     }
 
     // NBT serialization
@@ -679,17 +1252,37 @@ public class ImprovedOxygenDistributor extends BlockEntity implements MenuProvid
         handleUpdateTag(pkt.getTag(), provider);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        restorePending = true;
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        chunkUnloading = true;
+        // Store the region before setRemoved releases it
+        if (level instanceof ServerLevel serverLevel) {
+            AtmosphereRegionData.get(serverLevel).flushRegion(AtmosphereRegionData.RegionKind.OXYGEN, worldPosition);
+        }
+    }
+
     @Override
     public void setRemoved() {
-        if (level != null && !oxygenatedBlocks.isEmpty()) {
-            AdAstraMekanized.LOGGER.debug("Distributor at {} being removed - releasing {} oxygen blocks",
-                worldPosition, oxygenatedBlocks.size());
+        // A background fill must not claim blocks after removal
+        resetRegionState();
+        if (level != null) {
+            boolean hadBlocks = !oxygenatedBlocks.isEmpty();
+            if (hadBlocks) {
+                AdAstraMekanized.LOGGER.debug("Distributor at {} being removed - releasing {} oxygen blocks",
+                    worldPosition, oxygenatedBlocks.size());
+            }
 
-            GlobalOxygenManager.getInstance().releaseOxygenBlocks(level.dimension(), worldPosition, oxygenatedBlocks);
-            OxygenManager.getInstance().setOxygen(level, oxygenatedBlocks, false);
-            oxygenatedBlocks.clear();
+            // Hands the region to another distributor in our room, or releases it
+            clearOxygenatedBlocks();
 
-            if (!level.isClientSide) {
+            if (hadBlocks && !level.isClientSide) {
                 sendVisualizationRemoval();
             }
         }
@@ -5,6 +5,9 @@ import com.hecookin.adastramekanized.common.registry.ModBlockEntityTypes;
 import com.hecookin.adastramekanized.common.atmosphere.OxygenManager;
 import com.hecookin.adastramekanized.common.atmosphere.GlobalOxygenManager;
 import com.hecookin.adastramekanized.common.menus.OxygenDistributorMenu;
+import com.hecookin.adastramekanized.common.network.OxygenVisualizationPacket;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationSource;
+import com.hecookin.adastramekanized.common.network.ZoneVisualizationTracker;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.chemical.BasicChemicalTank;
@@ -23,6 +26,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.server.level.ServerLevel;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.energy.IEnergyStorage;
@@ -34,11 +38,12 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.Objects;
 
 /**
  * A working oxygen distributor that properly exposes capabilities
  */
-public class MekanismBasedOxygenDistributor extends BlockEntity implements MenuProvider {
+public class MekanismBasedOxygenDistributor extends BlockEntity implements MenuProvider, ZoneVisualizationSource {
 
     private static final long OXYGEN_CAPACITY = 2000; // mB - reduced oxygen storage
     private static final int ENERGY_CAPACITY = 30000; // FE (30 kFE) - enough for ~2.5 minutes real time operation
@@ -57,6 +62,7 @@ public class MekanismBasedOxygenDistributor extends BlockEntity implements MenuP
     private int oxygenBlockColor = 0;  // Color index for this distributor
     private long activationTime = 0;  // Timestamp when distributor was activated (for priority)
     private final Set<BlockPos> oxygenatedBlocks = new HashSet<>();
+    private final ZoneVisualizationTracker visualizationTracker = new ZoneVisualizationTracker();
     private final int tickOffset; // Random offset to prevent simultaneous updates
 
     public MekanismBasedOxygenDistributor(BlockPos pos, BlockState state) {
@@ -701,41 +707,24 @@ public class MekanismBasedOxygenDistributor extends BlockEntity implements MenuP
     }
 
     protected void sendVisualizationUpdate(boolean visible) {
-        if (level == null || level.isClientSide) return;
-
-        // Send packet to all players tracking this chunk with color info
-        // When visible is true, send the actual zones
-        // When visible is false, we still send the zones but with visible=false for hiding
-        // To completely remove, we send an empty set with visible=false
-        Set<BlockPos> zones = new HashSet<>(oxygenatedBlocks);
-        var packet = new com.hecookin.adastramekanized.common.network.OxygenVisualizationPacket(
-            worldPosition, zones, visible, oxygenBlockColor);
-
-        // Get all players in range (64 blocks)
-        level.players().stream()
-            .filter(player -> player instanceof net.minecraft.server.level.ServerPlayer)
-            .map(player -> (net.minecraft.server.level.ServerPlayer) player)
-            .filter(player -> player.distanceToSqr(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ()) < 64 * 64)
-            .forEach(player -> {
-                net.neoforged.neoforge.network.PacketDistributor.sendToPlayer(player, packet);
-            });
+        if (!(level instanceof ServerLevel serverLevel)) return;
+
+        // Only what changed since the last update goes out, see ZoneVisualizationTracker
+        visualizationTracker.sync(serverLevel, worldPosition, oxygenatedBlocks, Objects.hash(visible, oxygenBlockColor),
+            update -> new OxygenVisualizationPacket(worldPosition, update, visible, oxygenBlockColor));
     }
 
     protected void sendVisualizationRemoval() {
-        if (level == null || level.isClientSide) return;
-
-        // Send empty zones with visible=false to completely remove the distributor from client
-        var packet = new com.hecookin.adastramekanized.common.network.OxygenVisualizationPacket(
-            worldPosition, new HashSet<>(), false, oxygenBlockColor);
-
-        // Get all players in range (64 blocks)
-        level.players().stream()
-            .filter(player -> player instanceof net.minecraft.server.level.ServerPlayer)
-            .map(player -> (net.minecraft.server.level.ServerPlayer) player)
-            .filter(player -> player.distanceToSqr(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ()) < 64 * 64)
-            .forEach(player -> {
-                net.neoforged.neoforge.network.PacketDistributor.sendToPlayer(player, packet);
-            });
+        if (!(level instanceof ServerLevel serverLevel)) return;
+
+        // Tell clients to drop this machine's zone completely
+        visualizationTracker.remove(serverLevel, worldPosition,
+            update -> new OxygenVisualizationPacket(worldPosition, update, false, oxygenBlockColor));
+    }
+
+    @Override
+    public ZoneVisualizationTracker getVisualizationTracker() {
+        return visualizationTracker;
     }
 
     // Methods for debug command - renamed to avoid conflict with IStrictEnergyHandler
@@ -0,0 +1,72 @@
+package com.hecookin.adastramekanized.common.capabilities;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import mekanism.api.chemical.Chemical;
+import mekanism.common.registries.MekanismChemicals;
+import net.minecraft.core.Holder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * The Mekanism chemicals our items can hold, resolved once on first use.
+ *
+ * Only loaded from the item chemical handlers, i.e. once Mekanism is known to be present and its
+ * registries are populated. Nitrogen comes from ChemLibMekanized and is null without it.
+ */
+final class ItemChemicals {
+
+    static final Chemical OXYGEN = MekanismChemicals.OXYGEN.value();
+    static final Chemical HYDROGEN = MekanismChemicals.HYDROGEN.value();
+    @Nullable
+    static final Chemical NITROGEN = loadNitrogen();
+
+    private ItemChemicals() {}
+
+    /**
+     * Chemical for a stored chemical name - unknown names (and nitrogen without ChemLibMekanized) read as oxygen
+     */
+    static Chemical byName(String name) {
+        if ("hydrogen".equals(name)) {
+            return HYDROGEN;
+        }
+        if ("nitrogen".equals(name) && NITROGEN != null) {
+            return NITROGEN;
+        }
+        return OXYGEN;
+    }
+
+    /**
+     * Like byName, but null for chemicals that are not available instead of falling back to oxygen
+     */
+    @Nullable
+    static Chemical byNameStrict(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "oxygen" -> OXYGEN;
+            case "hydrogen" -> HYDROGEN;
+            case "nitrogen" -> NITROGEN;
+            default -> null;
+        };
+    }
+
+    static String nameOf(Chemical chemical) {
+        if (chemical == HYDROGEN) {
+            return "hydrogen";
+        }
+        if (NITROGEN != null && chemical == NITROGEN) {
+            return "nitrogen";
+        }
+        return "oxygen";
+    }
+
+    @Nullable
+    private static Chemical loadNitrogen() {
+        try {
+            Class<?> chemLibChemicalsClass = Class.forName("com.hecookin.chemlibmekanized.registry.ChemlibMekanizedChemicals");
+            return (Chemical) ((Holder<?>) chemLibChemicalsClass.getField("NITROGEN").get(null)).value();
+        } catch (Exception e) {
+            AdAstraMekanized.LOGGER.debug("ChemLibMekanized nitrogen not available: {}", e.getMessage());
+            return null;
+        }
+    }
+}
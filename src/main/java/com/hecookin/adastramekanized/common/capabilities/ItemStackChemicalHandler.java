@@ -0,0 +1,135 @@
+package com.hecookin.adastramekanized.common.capabilities;
+
+import com.hecookin.adastramekanized.common.items.ChemicalStorage;
+import com.hecookin.adastramekanized.common.items.StoredChemical;
+import mekanism.api.Action;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.IChemicalHandler;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single tank chemical handler bound to one space suit or gas tank stack.
+ *
+ * The tank contents are turned into a ChemicalStack once per handler and reused until the stored
+ * component on the stack is replaced (by this handler or anything else), so the repeated reads of one
+ * transfer allocate nothing. A handler is built per capability query and not kept beyond it.
+ * The stack is only written to when an executed insert or extract actually changes the amount.
+ */
+public class ItemStackChemicalHandler implements IChemicalHandler {
+
+    // Slow down the filling rate - max 50 mB per operation (2% of a 2500 capacity tank)
+    static final long MAX_INSERT_PER_OPERATION = 50L;
+
+    private final ItemStack stack;
+    private final long capacity;
+    private final String defaultChemical;
+    private final Chemical[] acceptedChemicals;
+
+    @Nullable
+    private StoredChemical cachedContents;
+    private ChemicalStack cachedStack = ChemicalStack.EMPTY;
+
+    /**
+     * @param acceptedChemicals Chemical names the tank takes, the first one is used for an empty tank
+     */
+    public ItemStackChemicalHandler(ItemStack stack, long capacity, String... acceptedChemicals) {
+        this.stack = stack;
+        this.capacity = capacity;
+        this.defaultChemical = acceptedChemicals[0];
+
+        List<Chemical> accepted = new ArrayList<>(acceptedChemicals.length);
+        for (String name : acceptedChemicals) {
+            Chemical chemical = ItemChemicals.byNameStrict(name);
+            if (chemical != null) {
+                accepted.add(chemical);
+            }
+        }
+        this.acceptedChemicals = accepted.toArray(new Chemical[0]);
+    }
+
+    @Override
+    public int getChemicalTanks() {
+        return 1;
+    }
+
+    /**
+     * The returned stack is shared between calls and must not be modified, as the IChemicalHandler contract requires
+     */
+    @Override
+    public ChemicalStack getChemicalInTank(int tank) {
+        return tank == 0 ? contents() : ChemicalStack.EMPTY;
+    }
+
+    @Override
+    public void setChemicalInTank(int tank, ChemicalStack chemStack) {
+        if (tank != 0) return;
+        if (chemStack.isEmpty()) {
+            ChemicalStorage.set(stack, defaultChemical, 0L);
+        } else {
+            ChemicalStorage.set(stack, ItemChemicals.nameOf(chemStack.getChemical()), chemStack.getAmount());
+        }
+    }
+
+    @Override
+    public long getChemicalTankCapacity(int tank) {
+        return tank == 0 ? capacity : 0;
+    }
+
+    @Override
+    public boolean isValid(int tank, ChemicalStack chemStack) {
+        if (tank != 0) return false;
+        Chemical chemical = chemStack.getChemical();
+        for (Chemical accepted : acceptedChemicals) {
+            if (accepted == chemical) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public ChemicalStack insertChemical(int tank, ChemicalStack chemStack, Action action) {
+        if (chemStack.isEmpty() || !isValid(tank, chemStack)) return chemStack;
+
+        ChemicalStack stored = contents();
+        // One chemical at a time
+        if (!stored.isEmpty() && stored.getChemical() != chemStack.getChemical()) return chemStack;
+
+        long toInsert = chemStack.getAmount();
+        long canInsert = Math.min(Math.min(toInsert, MAX_INSERT_PER_OPERATION), capacity - stored.getAmount());
+        if (canInsert <= 0) return chemStack;
+
+        if (action.execute()) {
+            ChemicalStorage.set(stack, ItemChemicals.nameOf(chemStack.getChemical()), stored.getAmount() + canInsert);
+        }
+        return canInsert == toInsert ? ChemicalStack.EMPTY : chemStack.copyWithAmount(toInsert - canInsert);
+    }
+
+    @Override
+    public ChemicalStack extractChemical(int tank, long amount, Action action) {
+        if (tank != 0 || amount <= 0) return ChemicalStack.EMPTY;
+
+        ChemicalStack stored = contents();
+        long toExtract = Math.min(amount, stored.getAmount());
+        if (toExtract <= 0) return ChemicalStack.EMPTY;
+
+        if (action.execute()) {
+            ChemicalStorage.setAmount(stack, defaultChemical, stored.getAmount() - toExtract);
+        }
+        return stored.copyWithAmount(toExtract);
+    }
+
+    private ChemicalStack contents() {
+        StoredChemical current = ChemicalStorage.get(stack);
+        if (current != cachedContents) {
+            cachedContents = current;
+            cachedStack = current == null || current.amount() <= 0
+                ? ChemicalStack.EMPTY
+                : new ChemicalStack(ItemChemicals.byName(current.chemical()), current.amount());
+        }
+        return cachedStack;
+    }
+}
@@ -0,0 +1,166 @@
+package com.hecookin.adastramekanized.common.capabilities;
+
+import com.hecookin.adastramekanized.common.items.ChemicalStorage;
+import com.hecookin.adastramekanized.common.items.StoredChemical;
+import com.hecookin.adastramekanized.common.items.armor.JetSuitItem;
+import mekanism.api.Action;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.IChemicalHandler;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dual tank chemical handler bound to one jet suit stack: tank 0 is the main (oxygen) tank and
+ * tank 1 the propellant (nitrogen) tank.
+ *
+ * Like ItemStackChemicalHandler, each tank's ChemicalStack is cached until its stored component is
+ * replaced, and the stack is only written to on an executed change.
+ */
+public class JetSuitChemicalHandler implements IChemicalHandler {
+
+    private static final int OXYGEN_TANK = 0;
+    private static final int NITROGEN_TANK = 1;
+
+    private final ItemStack stack;
+    private final Chemical nitrogen;
+    private final long oxygenCapacity;
+    private final long nitrogenCapacity;
+
+    @Nullable
+    private StoredChemical cachedOxygen;
+    private ChemicalStack oxygenStack = ChemicalStack.EMPTY;
+    @Nullable
+    private StoredChemical cachedNitrogen;
+    private ChemicalStack nitrogenStack = ChemicalStack.EMPTY;
+
+    private JetSuitChemicalHandler(ItemStack stack, JetSuitItem jetSuit, Chemical nitrogen) {
+        this.stack = stack;
+        this.nitrogen = nitrogen;
+        this.oxygenCapacity = jetSuit.getCapacity();
+        this.nitrogenCapacity = jetSuit.getNitrogenCapacity();
+    }
+
+    /**
+     * @return The handler, or null if nitrogen is not available (ChemLibMekanized not installed)
+     */
+    @Nullable
+    public static JetSuitChemicalHandler create(ItemStack stack, JetSuitItem jetSuit) {
+        Chemical nitrogen = ItemChemicals.NITROGEN;
+        return nitrogen != null ? new JetSuitChemicalHandler(stack, jetSuit, nitrogen) : null;
+    }
+
+    @Override
+    public int getChemicalTanks() {
+        return 2;
+    }
+
+    /**
+     * The returned stack is shared between calls and must not be modified, as the IChemicalHandler contract requires
+     */
+    @Override
+    public ChemicalStack getChemicalInTank(int tank) {
+        if (tank == OXYGEN_TANK) return oxygenContents();
+        if (tank == NITROGEN_TANK) return nitrogenContents();
+        return ChemicalStack.EMPTY;
+    }
+
+    @Override
+    public void setChemicalInTank(int tank, ChemicalStack chemStack) {
+        if (tank < OXYGEN_TANK || tank > NITROGEN_TANK) return;
+        setTankAmount(tank, chemStack.isEmpty() ? 0L : chemStack.getAmount());
+    }
+
+    @Override
+    public long getChemicalTankCapacity(int tank) {
+        if (tank == OXYGEN_TANK) return oxygenCapacity;
+        if (tank == NITROGEN_TANK) return nitrogenCapacity;
+        return 0;
+    }
+
+    @Override
+    public boolean isValid(int tank, ChemicalStack chemStack) {
+        Chemical chemical = chemStack.getChemical();
+        if (tank == OXYGEN_TANK) return chemical == ItemChemicals.OXYGEN;
+        if (tank == NITROGEN_TANK) return chemical == nitrogen;
+        return false;
+    }
+
+    @Override
+    public ChemicalStack insertChemical(int tank, ChemicalStack chemStack, Action action) {
+        if (chemStack.isEmpty() || !isValid(tank, chemStack)) return chemStack;
+
+        long currentAmount = getChemicalInTank(tank).getAmount();
+        long toInsert = chemStack.getAmount();
+        long canInsert = Math.min(Math.min(toInsert, ItemStackChemicalHandler.MAX_INSERT_PER_OPERATION),
+            getChemicalTankCapacity(tank) - currentAmount);
+        if (canInsert <= 0) return chemStack;
+
+        if (action.execute()) {
+            setTankAmount(tank, currentAmount + canInsert);
+        }
+        return canInsert == toInsert ? ChemicalStack.EMPTY : chemStack.copyWithAmount(toInsert - canInsert);
+    }
+
+    @Override
+    public ChemicalStack insertChemical(ChemicalStack chemStack, Action action) {
+        // Route to the tank for the chemical's type
+        if (chemStack.isEmpty()) return chemStack;
+        Chemical chemical = chemStack.getChemical();
+        if (chemical == ItemChemicals.OXYGEN) return insertChemical(OXYGEN_TANK, chemStack, action);
+        if (chemical == nitrogen) return insertChemical(NITROGEN_TANK, chemStack, action);
+        return chemStack;
+    }
+
+    @Override
+    public ChemicalStack extractChemical(long amount, Action action) {
+        // Try oxygen first, then nitrogen
+        ChemicalStack result = extractChemical(OXYGEN_TANK, amount, action);
+        if (!result.isEmpty()) return result;
+        return extractChemical(NITROGEN_TANK, amount, action);
+    }
+
+    @Override
+    public ChemicalStack extractChemical(int tank, long amount, Action action) {
+        if (amount <= 0) return ChemicalStack.EMPTY;
+
+        ChemicalStack stored = getChemicalInTank(tank);
+        long toExtract = Math.min(amount, stored.getAmount());
+        if (toExtract <= 0) return ChemicalStack.EMPTY;
+
+        if (action.execute()) {
+            setTankAmount(tank, stored.getAmount() - toExtract);
+        }
+        return stored.copyWithAmount(toExtract);
+    }
+
+    private void setTankAmount(int tank, long amount) {
+        if (tank == OXYGEN_TANK) {
+            ChemicalStorage.setAmount(stack, "oxygen", amount);
+        } else {
+            ChemicalStorage.setPropellantAmount(stack, "nitrogen", amount);
+        }
+    }
+
+    private ChemicalStack oxygenContents() {
+        StoredChemical current = ChemicalStorage.get(stack);
+        if (current != cachedOxygen) {
+            cachedOxygen = current;
+            oxygenStack = toStack(ItemChemicals.OXYGEN, current);
+        }
+        return oxygenStack;
+    }
+
+    private ChemicalStack nitrogenContents() {
+        StoredChemical current = ChemicalStorage.getPropellant(stack);
+        if (current != cachedNitrogen) {
+            cachedNitrogen = current;
+            nitrogenStack = toStack(nitrogen, current);
+        }
+        return nitrogenStack;
+    }
+
+    private static ChemicalStack toStack(Chemical chemical, @Nullable StoredChemical contents) {
+        return contents == null || contents.amount() <= 0 ? ChemicalStack.EMPTY : new ChemicalStack(chemical, contents.amount());
+    }
+}
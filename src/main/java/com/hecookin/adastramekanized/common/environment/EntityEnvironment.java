@@ -0,0 +1,136 @@
+package com.hecookin.adastramekanized.common.environment;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.api.planets.Planet;
+import com.hecookin.adastramekanized.api.planets.PlanetRegistry;
+import com.hecookin.adastramekanized.common.atmosphere.OxygenManager;
+import com.hecookin.adastramekanized.common.events.GravityNormalizerHandler;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * What an entity's surroundings look like this tick, shared by all environment modules.
+ * Every value is looked up on first use and then reused by the other modules for the rest of the tick.
+ * One instance is reused for every entity on the server thread.
+ */
+public final class EntityEnvironment {
+
+    private Entity entity;
+    private Level level;
+    private ResourceLocation dimension;
+
+    private PlanetEnvironmentProfile profile;
+    private boolean planetResolved;
+    private Planet planet;
+    private boolean zoneGravityResolved;
+    private float zoneGravity;
+    private boolean oxygenResolved;
+    private boolean hasOxygen;
+    private boolean skyResolved;
+    private boolean canSeeSky;
+
+    void reset(Entity entity) {
+        this.entity = entity;
+        this.level = entity.level();
+        this.dimension = level.dimension().location();
+        profile = null;
+        planetResolved = false;
+        planet = null;
+        zoneGravityResolved = false;
+        oxygenResolved = false;
+        skyResolved = false;
+    }
+
+    void release() {
+        entity = null;
+        level = null;
+        profile = null;
+        planet = null;
+    }
+
+    public Entity getEntity() {
+        return entity;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public ResourceLocation getDimension() {
+        return dimension;
+    }
+
+    public boolean isModDimension() {
+        return dimension.getNamespace().equals(AdAstraMekanized.MOD_ID);
+    }
+
+    /**
+     * Environment profile of the dimension (gravity, breathability, temperature, acid rain)
+     */
+    public PlanetEnvironmentProfile getProfile() {
+        if (profile == null) {
+            profile = PlanetEnvironmentProfile.get(level.dimension());
+        }
+        return profile;
+    }
+
+    /**
+     * @return The planet for this dimension, or null outside planets or before planet data loads
+     */
+    @Nullable
+    public Planet getPlanet() {
+        if (!planetResolved) {
+            planetResolved = true;
+            PlanetRegistry registry = PlanetRegistry.getInstance();
+            planet = isModDimension() && registry.isDataLoaded() ? registry.getPlanet(dimension) : null;
+        }
+        return planet;
+    }
+
+    /**
+     * Gravity multiplier of the dimension, ignoring gravity normalizers
+     */
+    public float getPlanetGravity() {
+        return getProfile().gravity();
+    }
+
+    /**
+     * @return Gravity normalizer target at the entity, or NaN outside normalized zones
+     */
+    public float getZoneGravity() {
+        if (!zoneGravityResolved) {
+            zoneGravityResolved = true;
+            zoneGravity = GravityNormalizerHandler.getZoneGravity(entity);
+        }
+        return zoneGravity;
+    }
+
+    /**
+     * Whether the entity can breathe where its head is, from the atmosphere or a distributor
+     */
+    public boolean hasOxygen() {
+        if (!oxygenResolved) {
+            oxygenResolved = true;
+            hasOxygen = OxygenManager.getInstance().hasOxygen(entity);
+        }
+        return hasOxygen;
+    }
+
+    public boolean canSeeSky() {
+        if (!skyResolved) {
+            skyResolved = true;
+            canSeeSky = level.canSeeSky(entity.blockPosition());
+        }
+        return canSeeSky;
+    }
+
+    /**
+     * Spectators and creative players are left alone by environmental hazards
+     */
+    public boolean isHazardImmunePlayer() {
+        return entity instanceof Player player && (player.isSpectator() || player.isCreative());
+    }
+}
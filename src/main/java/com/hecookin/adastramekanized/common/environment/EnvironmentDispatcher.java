@@ -0,0 +1,84 @@
+package com.hecookin.adastramekanized.common.environment;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.events.AcidRainDamageHandler;
+import com.hecookin.adastramekanized.common.events.EarthOrbitFalloutHandler;
+import com.hecookin.adastramekanized.common.events.GravityNormalizerHandler;
+import com.hecookin.adastramekanized.common.events.OxygenDamageHandler;
+import com.hecookin.adastramekanized.common.events.PlanetGravityHandler;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.EntityTickEvent;
+
+import java.util.Arrays;
+
+/**
+ * Single entity tick subscriber for all environment effects.
+ *
+ * Resolves one EntityEnvironment per entity tick and runs every module that is due on that tick,
+ * so the dimension, planet, oxygen and gravity lookups are shared instead of being repeated by
+ * separate event handlers. Modules run in registration order; once a module removes the entity or
+ * moves it to another dimension, the remaining modules wait for the next tick.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class EnvironmentDispatcher {
+
+    private static volatile EnvironmentModule[] modules = new EnvironmentModule[0];
+
+    // Reused for every entity - only touched on the server thread
+    private static final EntityEnvironment ENVIRONMENT = new EntityEnvironment();
+    private static boolean dispatching = false;
+
+    static {
+        register(GravityNormalizerHandler.MODULE);
+        register(PlanetGravityHandler.ITEM_MODULE);
+        register(OxygenDamageHandler.MODULE);
+        register(AcidRainDamageHandler.MODULE);
+        // Last, since it can move the player to another dimension
+        register(EarthOrbitFalloutHandler.MODULE);
+    }
+
+    private EnvironmentDispatcher() {}
+
+    public static synchronized void register(EnvironmentModule module) {
+        EnvironmentModule[] updated = Arrays.copyOf(modules, modules.length + 1);
+        updated[modules.length] = module;
+        modules = updated;
+    }
+
+    @SubscribeEvent
+    public static void onEntityTick(EntityTickEvent.Post event) {
+        Entity entity = event.getEntity();
+        if (entity.level().isClientSide()) return;
+
+        // A module ticking another entity (rare) gets its own context
+        EntityEnvironment environment = dispatching ? new EntityEnvironment() : ENVIRONMENT;
+        boolean outermost = !dispatching;
+        boolean resolved = false;
+        dispatching = true;
+
+        try {
+            int tick = entity.tickCount;
+            for (EnvironmentModule module : modules) {
+                int interval = module.interval();
+                if (interval > 1 && tick % interval != 0) {
+                    continue;
+                }
+                if (!resolved) {
+                    environment.reset(entity);
+                    resolved = true;
+                }
+                module.tick(environment);
+                if (entity.isRemoved() || entity.level() != environment.getLevel()) {
+                    break;
+                }
+            }
+        } finally {
+            if (outermost) {
+                dispatching = false;
+                environment.release();
+            }
+        }
+    }
+}
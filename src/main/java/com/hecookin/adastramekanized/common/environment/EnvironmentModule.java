@@ -0,0 +1,35 @@
+package com.hecookin.adastramekanized.common.environment;
+
+import java.util.function.Consumer;
+
+/**
+ * A per-entity environment effect (oxygen, gravity, weather hazards...) run by EnvironmentDispatcher.
+ */
+public interface EnvironmentModule {
+
+    void tick(EntityEnvironment environment);
+
+    /**
+     * Run on ticks where the entity's tick count is a multiple of this
+     */
+    default int interval() {
+        return 1;
+    }
+
+    /**
+     * Module running the given action every interval ticks
+     */
+    static EnvironmentModule every(int interval, Consumer<EntityEnvironment> action) {
+        return new EnvironmentModule() {
+            @Override
+            public void tick(EntityEnvironment environment) {
+                action.accept(environment);
+            }
+
+            @Override
+            public int interval() {
+                return interval;
+            }
+        };
+    }
+}
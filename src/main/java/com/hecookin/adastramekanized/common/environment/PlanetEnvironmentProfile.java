@@ -0,0 +1,94 @@
+package com.hecookin.adastramekanized.common.environment;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.api.planets.Planet;
+import com.hecookin.adastramekanized.api.planets.PlanetRegistry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Environment facts hazard handlers need about a dimension, taken from its planet data.
+ *
+ * Profiles for every planet are built in one pass whenever PlanetRegistry changes and published
+ * as a single immutable map, so a lookup is a volatile read and a map probe with no parsing or
+ * locking, and a reload can never be seen half-applied.
+ */
+public record PlanetEnvironmentProfile(
+        float gravity,           // Gravity multiplier (1.0 = Earth gravity)
+        boolean hasAtmosphere,
+        boolean breathable,
+        float temperature,       // Average temperature in Celsius
+        float acidRainDamage     // Damage per acid rain hit, 0 if rain is harmless
+) {
+
+    /**
+     * Earth-like conditions, used outside our dimensions and before planet data loads
+     */
+    public static final PlanetEnvironmentProfile DEFAULT = new PlanetEnvironmentProfile(1.0f, true, true, 15.0f, 0.0f);
+
+    /**
+     * One of our dimensions with no planet data: treat it as airless
+     */
+    public static final PlanetEnvironmentProfile UNKNOWN_PLANET = new PlanetEnvironmentProfile(1.0f, false, false, 15.0f, 0.0f);
+
+    private record Snapshot(int registryVersion, boolean dataLoaded, Map<ResourceKey<Level>, PlanetEnvironmentProfile> profiles) {}
+
+    private static volatile Snapshot snapshot = new Snapshot(-1, false, Map.of());
+
+    public static PlanetEnvironmentProfile get(Level level) {
+        return level == null ? DEFAULT : get(level.dimension());
+    }
+
+    public static PlanetEnvironmentProfile get(ResourceKey<Level> dimension) {
+        if (!dimension.location().getNamespace().equals(AdAstraMekanized.MOD_ID)) {
+            return DEFAULT;
+        }
+
+        Snapshot current = snapshot;
+        PlanetRegistry registry = PlanetRegistry.getInstance();
+        if (current.registryVersion() != registry.getVersion()) {
+            current = rebuild(registry);
+        }
+
+        if (!current.dataLoaded()) {
+            return DEFAULT;
+        }
+        PlanetEnvironmentProfile profile = current.profiles().get(dimension);
+        return profile != null ? profile : UNKNOWN_PLANET;
+    }
+
+    /**
+     * Build profiles for every registered planet and publish them in one swap
+     */
+    private static Snapshot rebuild(PlanetRegistry registry) {
+        // Read the version first - a change while building just triggers another rebuild
+        int version = registry.getVersion();
+        boolean dataLoaded = registry.isDataLoaded();
+
+        Map<ResourceKey<Level>, PlanetEnvironmentProfile> profiles = new HashMap<>();
+        for (Planet planet : registry.getAllPlanets()) {
+            ResourceKey<Level> dimension = ResourceKey.create(Registries.DIMENSION, planet.getDimensionLocation());
+            profiles.put(dimension, of(planet));
+        }
+
+        Snapshot rebuilt = new Snapshot(version, dataLoaded, Map.copyOf(profiles));
+        snapshot = rebuilt;
+        AdAstraMekanized.LOGGER.debug("Built environment profiles for {} planets", profiles.size());
+        return rebuilt;
+    }
+
+    private static PlanetEnvironmentProfile of(Planet planet) {
+        float gravity = planet.properties() != null ? planet.properties().gravity() : 1.0f;
+        float temperature = planet.properties() != null ? planet.properties().temperature() : DEFAULT.temperature();
+        boolean hasAtmosphere = planet.atmosphere() != null && planet.atmosphere().hasAtmosphere();
+        boolean breathable = planet.atmosphere() != null && planet.atmosphere().breathable();
+        float acidRainDamage = planet.rendering() != null && planet.rendering().weather() != null
+            ? Math.max(0.0f, planet.rendering().weather().rainAcidity())
+            : 0.0f;
+        return new PlanetEnvironmentProfile(gravity, hasAtmosphere, breathable, temperature, acidRainDamage);
+    }
+}
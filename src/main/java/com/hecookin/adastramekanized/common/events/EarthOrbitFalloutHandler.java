@@ -1,6 +1,8 @@
 package com.hecookin.adastramekanized.common.events;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.environment.EntityEnvironment;
+import com.hecookin.adastramekanized.common.environment.EnvironmentModule;
 import com.hecookin.adastramekanized.common.world.SpaceStationSpawner;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceKey;
@@ -12,7 +14,6 @@ import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
 
 /**
  * Handles fall-out teleportation and space station spawning for Earth's Orbit dimension.
@@ -49,16 +50,15 @@ public class EarthOrbitFalloutHandler {
     }
 
     /**
-     * Monitor players for fall-out condition.
-     * Uses PlayerTickEvent instead of EntityTickEvent for better performance (only fires for players).
+     * Monitor players for fall-out condition, as an EnvironmentDispatcher module
      */
-    @SubscribeEvent
-    public static void onPlayerTick(net.neoforged.neoforge.event.tick.PlayerTickEvent.Pre event) {
-        if (!(event.getEntity() instanceof ServerPlayer player)) return;
+    public static final EnvironmentModule MODULE = EnvironmentModule.every(1, EarthOrbitFalloutHandler::tick);
+
+    private static void tick(EntityEnvironment environment) {
+        if (!(environment.getEntity() instanceof ServerPlayer player)) return;
 
         // Check if player is in Earth's Orbit dimension
-        ResourceLocation currentDim = player.level().dimension().location();
-        if (!currentDim.equals(EARTH_ORBIT_DIM)) return;
+        if (!environment.getDimension().equals(EARTH_ORBIT_DIM)) return;
 
         // Check if player has fallen below threshold
         if (player.getY() < FALLOUT_Y_THRESHOLD) {
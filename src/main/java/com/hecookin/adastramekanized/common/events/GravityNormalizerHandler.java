@@ -1,11 +1,15 @@
 package com.hecookin.adastramekanized.common.events;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
-import com.hecookin.adastramekanized.api.planets.Planet;
-import com.hecookin.adastramekanized.api.planets.PlanetRegistry;
+import com.hecookin.adastramekanized.common.environment.EntityEnvironment;
+import com.hecookin.adastramekanized.common.environment.EnvironmentModule;
+import com.hecookin.adastramekanized.common.environment.PlanetEnvironmentProfile;
 import com.hecookin.adastramekanized.common.gravity.GravityManager;
+import com.hecookin.adastramekanized.common.gravity.SectionGravityStore;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.AttributeInstance;
@@ -16,16 +20,16 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
-
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Handles gravity modifications for entities within gravity normalizer zones.
  * When an entity enters a gravity-normalized zone, the planet's gravity modifier
  * is replaced with the normalizer's target gravity.
+ * Zone membership is only looked up again when an entity moves into another block or a zone
+ * changes, so entities standing still cost a cache check per tick.
+ * Runs every tick as an EnvironmentDispatcher module.
  */
 @EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
 public class GravityNormalizerHandler {
@@ -46,76 +50,110 @@ public class GravityNormalizerHandler {
     private static final ResourceLocation PLANET_FALL_DAMAGE_ID =
         ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "planet_fall_damage");
 
-    // Track which entities are currently in a normalized zone
-    // This lets us detect when they leave and need planet gravity restored
-    private static final Map<UUID, Float> ENTITIES_IN_ZONE = new ConcurrentHashMap<>();
+    // Entity id -> cached zone state. Server thread only.
+    private static final Int2ObjectOpenHashMap<ZoneState> ZONE_STATES = new Int2ObjectOpenHashMap<>();
 
     /**
-     * Check and apply gravity normalization every tick for living entities
+     * Zone lookup cached per entity, redone only when the entity crosses into another block
+     * or a gravity zone changes somewhere
      */
-    @SubscribeEvent
-    public static void onLivingEntityTick(EntityTickEvent.Post event) {
-        Entity entity = event.getEntity();
-        if (!(entity instanceof LivingEntity living)) return;
-        if (entity.level().isClientSide()) return;
-
-        // Only check every 5 ticks for performance (gravity doesn't need instant response)
-        if (entity.tickCount % 5 != 0) return;
-
-        BlockPos pos = BlockPos.containing(entity.getX(), entity.getEyeY(), entity.getZ());
-        Float targetGravity = GravityManager.getInstance().getTargetGravity(entity.level(), pos);
-
-        UUID entityId = entity.getUUID();
-        Float currentZoneGravity = ENTITIES_IN_ZONE.get(entityId);
-
-        if (targetGravity != null) {
-            // Entity is in a gravity-normalized zone
-            if (currentZoneGravity == null || !currentZoneGravity.equals(targetGravity)) {
-                // Just entered zone or gravity target changed
-                applyNormalizerGravity(living, targetGravity);
-                ENTITIES_IN_ZONE.put(entityId, targetGravity);
-
-                if (entity.tickCount % 40 == 0) {
-                    AdAstraMekanized.LOGGER.debug("Entity {} entered gravity zone with target {}",
-                        entity.getName().getString(), targetGravity);
-                }
+    private static final class ZoneState {
+        private long blockPos = Long.MIN_VALUE;
+        private long zoneVersion = -1;
+        // Zone gravity at blockPos, NaN outside zones
+        private float gravity = SectionGravityStore.NONE;
+        // Gravity our attribute modifiers currently reflect, NaN if none applied
+        private float appliedGravity = SectionGravityStore.NONE;
+    }
+
+    /**
+     * Apply gravity normalization to living entities and adjust falling items in zones
+     */
+    public static final EnvironmentModule MODULE = EnvironmentModule.every(1, GravityNormalizerHandler::tick);
+
+    private static void tick(EntityEnvironment environment) {
+        Entity entity = environment.getEntity();
+        if (entity instanceof LivingEntity living) {
+            tickLivingEntity(living);
+        } else if (entity instanceof ItemEntity item) {
+            tickItem(item, environment);
+        }
+    }
+
+    /**
+     * Get the normalizer gravity at an entity (eye position for living entities, feet otherwise)
+     * @return The zone's target gravity, or NaN if the entity is not in a gravity zone
+     */
+    public static float getZoneGravity(Entity entity) {
+        ZoneState state = resolveZone(entity);
+        return state != null ? state.gravity : SectionGravityStore.NONE;
+    }
+
+    @Nullable
+    private static ZoneState resolveZone(Entity entity) {
+        GravityManager manager = GravityManager.getInstance();
+        ZoneState state = ZONE_STATES.get(entity.getId());
+        if (state == null) {
+            // No zones in this dimension - nothing to cache
+            if (manager.getZoneCount(entity.level().dimension().location()) == 0) {
+                return null;
             }
+            state = new ZoneState();
+            ZONE_STATES.put(entity.getId(), state);
+        }
+
+        int x = Mth.floor(entity.getX());
+        int y = Mth.floor(entity instanceof LivingEntity ? entity.getEyeY() : entity.getY());
+        int z = Mth.floor(entity.getZ());
+        long blockPos = BlockPos.asLong(x, y, z);
+        long zoneVersion = manager.getZoneVersion();
+
+        if (state.blockPos != blockPos || state.zoneVersion != zoneVersion) {
+            state.blockPos = blockPos;
+            state.zoneVersion = zoneVersion;
+            state.gravity = manager.getTargetGravity(entity.level(), x, y, z);
+        }
+        return state;
+    }
+
+    private static void tickLivingEntity(LivingEntity living) {
+        ZoneState state = resolveZone(living);
+        if (state == null || Float.compare(state.gravity, state.appliedGravity) == 0) {
+            // Same zone as last tick - nothing to do
+            return;
+        }
+
+        if (!Float.isNaN(state.gravity)) {
+            // Just entered zone or gravity target changed
+            applyNormalizerGravity(living, state.gravity);
+            AdAstraMekanized.LOGGER.debug("Entity {} entered gravity zone with target {}",
+                living.getName().getString(), state.gravity);
         } else {
-            // Entity is NOT in a gravity-normalized zone
-            if (currentZoneGravity != null) {
-                // Just left the zone - restore planet gravity
-                removeNormalizerGravity(living);
-                restorePlanetGravity(living);
-                ENTITIES_IN_ZONE.remove(entityId);
-
-                AdAstraMekanized.LOGGER.debug("Entity {} left gravity zone, restoring planet gravity",
-                    entity.getName().getString());
-            }
+            // Just left the zone - restore planet gravity
+            removeNormalizerGravity(living);
+            restorePlanetGravity(living);
+            AdAstraMekanized.LOGGER.debug("Entity {} left gravity zone, restoring planet gravity",
+                living.getName().getString());
         }
+        state.appliedGravity = state.gravity;
     }
 
     /**
      * Handle item entities in gravity zones
      */
-    @SubscribeEvent
-    public static void onItemTick(EntityTickEvent.Post event) {
-        if (!(event.getEntity() instanceof ItemEntity item)) return;
-        if (item.level().isClientSide()) return;
-
+    private static void tickItem(ItemEntity item, EntityEnvironment environment) {
         // Skip if in water, lava, or has no gravity
         if (item.isInWater() || item.isInLava() || item.isNoGravity()) return;
 
-        BlockPos pos = BlockPos.containing(item.getX(), item.getY(), item.getZ());
-        Float targetGravity = GravityManager.getInstance().getTargetGravity(item.level(), pos);
-
-        if (targetGravity == null) return; // Not in zone, let PlanetGravityHandler handle it
+        float targetGravity = environment.getZoneGravity();
+        if (Float.isNaN(targetGravity)) return; // Not in zone, let PlanetGravityHandler handle it
 
         // Only apply when falling
         Vec3 motion = item.getDeltaMovement();
         if (motion.y >= 0) return;
 
         // Get planet gravity for comparison
-        float planetGravity = getPlanetGravity(item.level());
+        float planetGravity = environment.getPlanetGravity();
 
         // Calculate the difference between target and planet gravity
         // and adjust item motion accordingly
@@ -285,34 +323,23 @@ public class GravityNormalizerHandler {
      * Get the planet's gravity for a level.
      */
     private static float getPlanetGravity(Level level) {
-        if (level == null) return 1.0f;
-
-        ResourceLocation dimId = level.dimension().location();
-
-        // Not our dimension? Default gravity
-        if (!dimId.getNamespace().equals(AdAstraMekanized.MOD_ID)) {
-            return 1.0f;
-        }
-
-        // Try to get planet data
-        PlanetRegistry registry = PlanetRegistry.getInstance();
-        if (!registry.isDataLoaded()) {
-            return 1.0f;
-        }
-
-        Planet planet = registry.getPlanet(dimId);
-        if (planet != null && planet.properties() != null) {
-            return planet.properties().gravity();
-        }
-
-        return 1.0f;
+        return PlanetEnvironmentProfile.get(level).gravity();
     }
 
     /**
-     * Clean up tracking when entity is removed from world.
-     * Called from entity removal events if needed.
+     * Clean up tracking when entity leaves the level (death, unload or dimension change).
+     * Normalizer modifiers are dropped so they don't follow the entity to another dimension.
      */
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) return;
+        onEntityRemoved(event.getEntity());
+    }
+
     public static void onEntityRemoved(Entity entity) {
-        ENTITIES_IN_ZONE.remove(entity.getUUID());
+        ZoneState state = ZONE_STATES.remove(entity.getId());
+        if (state != null && !Float.isNaN(state.appliedGravity) && entity instanceof LivingEntity living) {
+            removeNormalizerGravity(living);
+        }
     }
 }
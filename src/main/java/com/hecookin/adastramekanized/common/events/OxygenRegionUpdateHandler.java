@@ -0,0 +1,137 @@
+package com.hecookin.adastramekanized.common.events;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.atmosphere.GlobalOxygenManager;
+import com.hecookin.adastramekanized.common.atmosphere.OxygenRoomGraph;
+import com.hecookin.adastramekanized.common.blockentities.machines.ImprovedOxygenDistributor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps distributor oxygen regions up to date as blocks change.
+ * Block changes on or next to a claimed region are collected during the tick and handed to the
+ * owning distributors at the end of it, so they can repair their region locally instead of
+ * re-running the full flood fill. Openings that breach a sealed region are vented in the same tick.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public class OxygenRegionUpdateHandler {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Dimension -> positions changed this tick
+    private static final Map<ResourceKey<Level>, Set<BlockPos>> PENDING_CHANGES = new ConcurrentHashMap<>();
+
+    /**
+     * Queue a changed position for region repair at the end of the tick
+     */
+    public static void queueChange(Level level, BlockPos pos) {
+        if (level.isClientSide()) return;
+
+        // Nothing to repair in dimensions without any distributor regions
+        if (GlobalOxygenManager.getInstance().getTotalOxygenBlocks(level.dimension()) == 0) return;
+
+        PENDING_CHANGES.computeIfAbsent(level.dimension(), k -> new HashSet<>()).add(pos.immutable());
+    }
+
+    /**
+     * Queue several changed positions, e.g. blocks released by a distributor
+     */
+    public static void queueChanges(Level level, Collection<BlockPos> positions) {
+        if (level.isClientSide() || positions.isEmpty()) return;
+        if (GlobalOxygenManager.getInstance().getTotalOxygenBlocks(level.dimension()) == 0) return;
+
+        Set<BlockPos> pending = PENDING_CHANGES.computeIfAbsent(level.dimension(), k -> new HashSet<>());
+        for (BlockPos pos : positions) {
+            pending.add(pos.immutable());
+        }
+    }
+
+    /**
+     * Covers placement, breaking, pistons, doors, fluids - anything that notifies neighbours
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof Level level) {
+            queueChange(level, event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onBlockBreak(BlockEvent.BreakEvent event) {
+        if (event.getLevel() instanceof Level level) {
+            queueChange(level, event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onBlockPlace(BlockEvent.EntityPlaceEvent event) {
+        if (event.getLevel() instanceof Level level) {
+            queueChange(level, event.getPos());
+        }
+    }
+
+    /**
+     * Dispatch the collected changes once the block state is final for this tick
+     */
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        Level level = event.getLevel();
+        if (level.isClientSide()) return;
+
+        Set<BlockPos> changes = PENDING_CHANGES.remove(level.dimension());
+        if (changes == null || changes.isEmpty()) return;
+
+        GlobalOxygenManager globalManager = GlobalOxygenManager.getInstance();
+        ResourceKey<Level> dimension = level.dimension();
+
+        // Group changes by the distributors whose region contains or borders them
+        Map<BlockPos, Set<BlockPos>> changesByOwner = new HashMap<>();
+        for (BlockPos pos : changes) {
+            addOwner(changesByOwner, globalManager.getBlockOwner(dimension, pos), pos);
+            for (Direction dir : DIRECTIONS) {
+                addOwner(changesByOwner, globalManager.getBlockOwner(dimension, pos.relative(dir)), pos);
+            }
+        }
+
+        for (Map.Entry<BlockPos, Set<BlockPos>> entry : changesByOwner.entrySet()) {
+            BlockPos ownerPos = entry.getKey();
+            if (!level.isLoaded(ownerPos)) continue;
+
+            BlockEntity be = level.getBlockEntity(ownerPos);
+            if (be instanceof ImprovedOxygenDistributor distributor) {
+                distributor.repairRegion(entry.getValue());
+            }
+        }
+    }
+
+    private static void addOwner(Map<BlockPos, Set<BlockPos>> changesByOwner, BlockPos owner, BlockPos changed) {
+        if (owner != null) {
+            changesByOwner.computeIfAbsent(owner, k -> new HashSet<>()).add(changed);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            PENDING_CHANGES.remove(level.dimension());
+            if (!level.isClientSide()) {
+                OxygenRoomGraph.getInstance().clearDimension(level.dimension());
+            }
+        }
+    }
+}
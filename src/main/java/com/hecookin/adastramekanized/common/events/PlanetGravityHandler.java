@@ -1,11 +1,12 @@
 package com.hecookin.adastramekanized.common.events;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
-import com.hecookin.adastramekanized.api.planets.Planet;
-import com.hecookin.adastramekanized.api.planets.PlanetRegistry;
+import com.hecookin.adastramekanized.common.environment.EntityEnvironment;
+import com.hecookin.adastramekanized.common.environment.EnvironmentModule;
+import com.hecookin.adastramekanized.common.environment.PlanetEnvironmentProfile;
 import com.hecookin.adastramekanized.common.gravity.GravityManager;
-import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.AttributeInstance;
@@ -17,11 +18,6 @@ import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
-import net.neoforged.neoforge.event.level.LevelEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
-
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
 
 /**
  * Handles gravity modifications for planetary dimensions.
@@ -31,9 +27,6 @@ import java.util.Map;
 @EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
 public class PlanetGravityHandler {
 
-    // Gravity multiplier cache for performance
-    private static final Map<ResourceLocation, Float> GRAVITY_CACHE = new ConcurrentHashMap<>();
-
     // Attribute modifier ID for gravity
     private static final ResourceLocation GRAVITY_MODIFIER_ID =
         ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "planet_gravity");
@@ -41,49 +34,9 @@ public class PlanetGravityHandler {
     /**
      * Get gravity multiplier for a dimension
      */
-    private static float getGravity(Level level) {
+    public static float getGravity(Level level) {
         if (level == null || level.isClientSide()) return 1.0f;
-
-        ResourceLocation dimId = level.dimension().location();
-
-        // Check cache first
-        Float cached = GRAVITY_CACHE.get(dimId);
-        if (cached != null) return cached;
-
-        // Not our dimension? Default gravity
-        if (!dimId.getNamespace().equals(AdAstraMekanized.MOD_ID)) {
-            GRAVITY_CACHE.put(dimId, 1.0f);
-            return 1.0f;
-        }
-
-        // Try to get planet data
-        PlanetRegistry registry = PlanetRegistry.getInstance();
-        if (!registry.isDataLoaded()) {
-            return 1.0f; // Data not loaded yet
-        }
-
-        Planet planet = registry.getPlanet(dimId);
-        if (planet != null && planet.properties() != null) {
-            float gravity = planet.properties().gravity();
-            GRAVITY_CACHE.put(dimId, gravity);
-            AdAstraMekanized.LOGGER.debug("Cached gravity {} for dimension {}", gravity, dimId);
-            return gravity;
-        }
-
-        // Default to Earth gravity if planet not found
-        GRAVITY_CACHE.put(dimId, 1.0f);
-        return 1.0f;
-    }
-
-    /**
-     * Clear gravity cache when dimensions reload
-     */
-    @SubscribeEvent
-    public static void onWorldLoad(LevelEvent.Load event) {
-        if (!event.getLevel().isClientSide()) {
-            GRAVITY_CACHE.clear();
-            AdAstraMekanized.LOGGER.info("Cleared gravity cache on world load");
-        }
+        return PlanetEnvironmentProfile.get(level).gravity();
     }
 
     /**
@@ -98,8 +51,8 @@ public class PlanetGravityHandler {
 
         // Check if entity is in a gravity-normalized zone
         // If so, let GravityNormalizerHandler handle it instead
-        BlockPos pos = BlockPos.containing(entity.getX(), entity.getEyeY(), entity.getZ());
-        if (GravityManager.getInstance().isInGravityZone(level, pos)) {
+        if (GravityManager.getInstance().isInGravityZone(level,
+                Mth.floor(entity.getX()), Mth.floor(entity.getEyeY()), Mth.floor(entity.getZ()))) {
             return; // Skip planet gravity - normalizer will handle it
         }
 
@@ -190,28 +143,27 @@ public class PlanetGravityHandler {
     }
 
     /**
-     * Apply gravity to dropped items during tick
+     * Apply gravity to dropped items during tick, as an EnvironmentDispatcher module.
      * Uses the same gravity value from planet data that living entities use
      */
-    @SubscribeEvent
-    public static void onItemTick(EntityTickEvent.Post event) {
-        if (!(event.getEntity() instanceof ItemEntity item)) return;
-        if (item.level().isClientSide()) return;
+    public static final EnvironmentModule ITEM_MODULE = EnvironmentModule.every(1, PlanetGravityHandler::tickItem);
+
+    private static void tickItem(EntityEnvironment environment) {
+        if (!(environment.getEntity() instanceof ItemEntity item)) return;
+
+        // Get gravity directly from the level - same source as living entities
+        float gravity = environment.getPlanetGravity();
+        if (gravity == 1.0f) return; // No modification needed for Earth gravity
 
         // Skip if in water, lava, or has no gravity
         if (item.isInWater() || item.isInLava() || item.isNoGravity()) return;
 
         // Check if item is in a gravity-normalized zone
         // If so, let GravityNormalizerHandler handle it instead
-        BlockPos pos = BlockPos.containing(item.getX(), item.getY(), item.getZ());
-        if (GravityManager.getInstance().isInGravityZone(item.level(), pos)) {
+        if (!Float.isNaN(environment.getZoneGravity())) {
             return; // Skip planet gravity - normalizer will handle it
         }
 
-        // Get gravity directly from the level - same source as living entities
-        float gravity = getGravity(item.level());
-        if (gravity == 1.0f) return; // No modification needed for Earth gravity
-
         // Only apply when falling (negative Y velocity)
         Vec3 motion = item.getDeltaMovement();
         if (motion.y >= 0) return; // Not falling
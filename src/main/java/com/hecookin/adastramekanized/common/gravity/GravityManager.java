@@ -3,6 +3,7 @@ package com.hecookin.adastramekanized.common.gravity;
 import com.hecookin.adastramekanized.AdAstraMekanized;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 
@@ -13,13 +14,17 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Manages gravity-normalized zones in the world.
  * Tracks positions where gravity normalizers are active and their target gravity values.
+ * Values are kept per chunk section in a SectionGravityStore. Server thread only.
  */
 public class GravityManager {
 
     private static final GravityManager INSTANCE = new GravityManager();
 
     // Track gravity zones per dimension: position -> target gravity multiplier
-    private final Map<ResourceLocation, Map<BlockPos, Float>> gravityZones = new ConcurrentHashMap<>();
+    private final Map<ResourceLocation, SectionGravityStore> gravityZones = new ConcurrentHashMap<>();
+
+    // Bumped whenever any zone value changes, so entities only re-check their zone when it may differ
+    private long zoneVersion = 0;
 
     private GravityManager() {}
 
@@ -34,11 +39,17 @@ public class GravityManager {
     public Float getTargetGravity(Level level, BlockPos pos) {
         if (level == null) return null;
 
-        ResourceLocation dimId = level.dimension().location();
-        Map<BlockPos, Float> zones = gravityZones.get(dimId);
+        float gravity = getTargetGravity(level, pos.getX(), pos.getY(), pos.getZ());
+        return Float.isNaN(gravity) ? null : gravity;
+    }
 
-        if (zones == null) return null;
-        return zones.get(pos);
+    /**
+     * Allocation-free lookup for per-tick callers.
+     * @return The target gravity multiplier, or NaN if not in a gravity zone
+     */
+    public float getTargetGravity(Level level, int x, int y, int z) {
+        SectionGravityStore zones = gravityZones.get(level.dimension().location());
+        return zones != null ? zones.get(x, y, z) : SectionGravityStore.NONE;
     }
 
     /**
@@ -48,15 +59,20 @@ public class GravityManager {
     public Float getTargetGravity(Entity entity) {
         if (entity == null) return null;
 
-        BlockPos pos = BlockPos.containing(entity.getX(), entity.getEyeY(), entity.getZ());
-        return getTargetGravity(entity.level(), pos);
+        float gravity = getTargetGravity(entity.level(),
+            Mth.floor(entity.getX()), Mth.floor(entity.getEyeY()), Mth.floor(entity.getZ()));
+        return Float.isNaN(gravity) ? null : gravity;
     }
 
     /**
      * Check if a position is in any gravity zone.
      */
     public boolean isInGravityZone(Level level, BlockPos pos) {
-        return getTargetGravity(level, pos) != null;
+        return isInGravityZone(level, pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean isInGravityZone(Level level, int x, int y, int z) {
+        return !Float.isNaN(getTargetGravity(level, x, y, z));
     }
 
     /**
@@ -66,9 +82,11 @@ public class GravityManager {
         if (level.isClientSide()) return;
 
         ResourceLocation dimId = level.dimension().location();
-        Map<BlockPos, Float> zones = gravityZones.computeIfAbsent(dimId, k -> new ConcurrentHashMap<>());
+        SectionGravityStore zones = gravityZones.computeIfAbsent(dimId, k -> new SectionGravityStore());
 
-        zones.put(pos.immutable(), targetGravity);
+        if (zones.set(pos, targetGravity)) {
+            zoneVersion++;
+        }
     }
 
     /**
@@ -80,11 +98,11 @@ public class GravityManager {
         }
 
         ResourceLocation dimId = level.dimension().location();
-        Map<BlockPos, Float> zones = gravityZones.computeIfAbsent(dimId, k -> new ConcurrentHashMap<>());
+        SectionGravityStore zones = gravityZones.computeIfAbsent(dimId, k -> new SectionGravityStore());
 
         int sizeBefore = zones.size();
-        for (BlockPos pos : positions) {
-            zones.put(pos.immutable(), targetGravity);
+        if (zones.setAll(positions, targetGravity)) {
+            zoneVersion++;
         }
 
         AdAstraMekanized.LOGGER.debug("GravityManager: Set {} positions to gravity {} in dimension {}, total zones: {} -> {}",
@@ -98,10 +116,10 @@ public class GravityManager {
         if (level.isClientSide()) return;
 
         ResourceLocation dimId = level.dimension().location();
-        Map<BlockPos, Float> zones = gravityZones.get(dimId);
+        SectionGravityStore zones = gravityZones.get(dimId);
 
-        if (zones != null) {
-            zones.remove(pos);
+        if (zones != null && zones.remove(pos)) {
+            zoneVersion++;
         }
     }
 
@@ -114,12 +132,12 @@ public class GravityManager {
         }
 
         ResourceLocation dimId = level.dimension().location();
-        Map<BlockPos, Float> zones = gravityZones.get(dimId);
+        SectionGravityStore zones = gravityZones.get(dimId);
 
         if (zones != null) {
             int sizeBefore = zones.size();
-            for (BlockPos pos : positions) {
-                zones.remove(pos);
+            if (zones.removeAll(positions)) {
+                zoneVersion++;
             }
             AdAstraMekanized.LOGGER.debug("GravityManager: Removed {} positions from dimension {}, total zones: {} -> {}",
                 positions.size(), dimId, sizeBefore, zones.size());
@@ -130,18 +148,26 @@ public class GravityManager {
      * Clear all gravity zones for a dimension.
      */
     public void clearDimensionZones(ResourceLocation dimensionId) {
-        Map<BlockPos, Float> removed = gravityZones.remove(dimensionId);
+        SectionGravityStore removed = gravityZones.remove(dimensionId);
         if (removed != null) {
+            zoneVersion++;
             AdAstraMekanized.LOGGER.info("GravityManager: Cleared {} gravity zones for dimension {}",
                 removed.size(), dimensionId);
         }
     }
 
+    /**
+     * Changes whenever any gravity zone value is set or removed
+     */
+    public long getZoneVersion() {
+        return zoneVersion;
+    }
+
     /**
      * Get total count of gravity-affected positions in a dimension.
      */
     public int getZoneCount(ResourceLocation dimensionId) {
-        Map<BlockPos, Float> zones = gravityZones.get(dimensionId);
+        SectionGravityStore zones = gravityZones.get(dimensionId);
         return zones != null ? zones.size() : 0;
     }
 
@@ -150,6 +176,7 @@ public class GravityManager {
      */
     public void clearCache() {
         gravityZones.clear();
+        zoneVersion++;
         AdAstraMekanized.LOGGER.info("Cleared gravity zone cache");
     }
 }
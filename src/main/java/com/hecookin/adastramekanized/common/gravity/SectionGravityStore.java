@@ -0,0 +1,308 @@
+package com.hecookin.adastramekanized.common.gravity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Gravity values for one dimension, stored per 16x16x16 chunk section as a small palette of
+ * distinct values plus packed palette indices, the same layout vanilla uses for block states.
+ *
+ * A section covered by a single value (the inside of a normalized hangar) drops its index array
+ * and answers every lookup from one float. Positions without a gravity override read as NaN.
+ * Lookups are a long-keyed map probe plus a shift-and-mask, with no allocation or boxing.
+ * Server thread only.
+ */
+public class SectionGravityStore {
+
+    public static final float NONE = Float.NaN;
+
+    private static final int SECTION_SIZE = 4096;
+
+    // Section key (SectionPos.asLong) -> section. Sections with no values are dropped.
+    private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+    private int size = 0;
+
+    /**
+     * @return The gravity at the position, or NONE (NaN) if it has no override
+     */
+    public float get(int x, int y, int z) {
+        Section section = sections.get(SectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        return section != null ? section.get(indexOf(x, y, z)) : NONE;
+    }
+
+    public float get(BlockPos pos) {
+        return get(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return !Float.isNaN(get(x, y, z));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int sectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * @return true if the stored value changed
+     */
+    public boolean set(BlockPos pos, float gravity) {
+        long key = sectionKey(pos);
+        Section section = sections.get(key);
+        if (section == null) {
+            if (Float.isNaN(gravity)) {
+                return false;
+            }
+            section = new Section();
+            sections.put(key, section);
+        }
+        int before = section.count;
+        if (section.set(indexOf(pos.getX(), pos.getY(), pos.getZ()), gravity)) {
+            size += section.count - before;
+            finishSection(key, section);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean remove(BlockPos pos) {
+        return set(pos, NONE);
+    }
+
+    /**
+     * Set positions to one value as a single batch. Passing NONE removes them.
+     * @return true if any stored value changed
+     */
+    public boolean setAll(Collection<BlockPos> positions, float gravity) {
+        long lastKey = Long.MIN_VALUE;
+        Section section = null;
+        boolean changed = false;
+        boolean anyChanged = false;
+
+        for (BlockPos pos : positions) {
+            long key = sectionKey(pos);
+            if (key != lastKey || section == null) {
+                if (changed) {
+                    finishSection(lastKey, section);
+                    anyChanged = true;
+                }
+                changed = false;
+                lastKey = key;
+                section = sections.get(key);
+                if (section == null) {
+                    if (Float.isNaN(gravity)) {
+                        continue;
+                    }
+                    section = new Section();
+                    sections.put(key, section);
+                }
+            }
+            int before = section.count;
+            if (section.set(indexOf(pos.getX(), pos.getY(), pos.getZ()), gravity)) {
+                changed = true;
+                size += section.count - before;
+            }
+        }
+
+        if (changed) {
+            finishSection(lastKey, section);
+            anyChanged = true;
+        }
+        return anyChanged;
+    }
+
+    public boolean removeAll(Collection<BlockPos> positions) {
+        return setAll(positions, NONE);
+    }
+
+    public void clear() {
+        sections.clear();
+        size = 0;
+    }
+
+    /**
+     * Drop emptied sections and collapse fully covered single-value sections to the uniform form
+     */
+    private void finishSection(long key, Section section) {
+        if (section.count == 0) {
+            sections.remove(key);
+        } else if (section.count == SECTION_SIZE && section.isPaletted()) {
+            section.repack();
+        }
+    }
+
+    private static long sectionKey(BlockPos pos) {
+        return SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+    }
+
+    private static int indexOf(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    private static boolean sameValue(float a, float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    /**
+     * One section: either uniform (data == null, every position holds uniformValue) or
+     * paletted (palette index 0 is always NONE).
+     */
+    private static final class Section {
+        private float uniformValue = NONE;
+        private float[] palette;
+        private int paletteSize;
+        private int bits;
+        private long[] data;
+        // Positions holding a value other than NONE
+        private int count;
+
+        boolean isPaletted() {
+            return data != null;
+        }
+
+        float get(int index) {
+            return data == null ? uniformValue : palette[read(index)];
+        }
+
+        /**
+         * @return true if the stored value changed
+         */
+        boolean set(int index, float value) {
+            float current = get(index);
+            if (sameValue(current, value)) {
+                return false;
+            }
+            if (data == null) {
+                expand();
+            }
+            write(index, paletteIndex(value));
+
+            count += (Float.isNaN(current) ? 1 : 0) - (Float.isNaN(value) ? 1 : 0);
+            return true;
+        }
+
+        /**
+         * Switch from the uniform form to a one-bit palette holding the uniform value
+         */
+        private void expand() {
+            palette = new float[2];
+            palette[0] = NONE;
+            paletteSize = 1;
+            bits = 1;
+            data = new long[dataLength(bits)];
+            if (!Float.isNaN(uniformValue)) {
+                palette[1] = uniformValue;
+                paletteSize = 2;
+                for (int i = 0; i < SECTION_SIZE; i++) {
+                    write(i, 1);
+                }
+            }
+            uniformValue = NONE;
+        }
+
+        private int paletteIndex(float value) {
+            for (int i = 0; i < paletteSize; i++) {
+                if (sameValue(palette[i], value)) {
+                    return i;
+                }
+            }
+
+            if (paletteSize == 1 << bits) {
+                // Out of indices - drop values no longer in use before widening
+                repack();
+                if (data == null) {
+                    expand();
+                }
+                if (paletteSize == 1 << bits) {
+                    resize(bits + 1);
+                }
+            }
+            palette[paletteSize] = value;
+            return paletteSize++;
+        }
+
+        /**
+         * Rebuild the palette from the values actually in use, collapsing to the uniform form when possible
+         */
+        void repack() {
+            int[] remap = new int[paletteSize];
+            boolean[] used = new boolean[paletteSize];
+            for (int i = 0; i < SECTION_SIZE; i++) {
+                used[read(i)] = true;
+            }
+
+            float[] newPalette = new float[paletteSize];
+            newPalette[0] = NONE;
+            int newSize = 1;
+            for (int i = 1; i < paletteSize; i++) {
+                if (used[i]) {
+                    remap[i] = newSize;
+                    newPalette[newSize++] = palette[i];
+                }
+            }
+
+            if (count == SECTION_SIZE && newSize == 2) {
+                uniformValue = newPalette[1];
+                palette = null;
+                paletteSize = 0;
+                bits = 0;
+                data = null;
+                return;
+            }
+
+            int newBits = Math.max(1, Mth.ceillog2(newSize));
+            long[] oldData = data;
+            int oldBits = bits;
+            data = new long[dataLength(newBits)];
+            bits = newBits;
+            for (int i = 0; i < SECTION_SIZE; i++) {
+                write(i, remap[read(oldData, oldBits, i)]);
+            }
+            palette = Arrays.copyOf(newPalette, 1 << newBits);
+            paletteSize = newSize;
+        }
+
+        private void resize(int newBits) {
+            long[] oldData = data;
+            int oldBits = bits;
+            data = new long[dataLength(newBits)];
+            bits = newBits;
+            for (int i = 0; i < SECTION_SIZE; i++) {
+                write(i, read(oldData, oldBits, i));
+            }
+            palette = Arrays.copyOf(palette, 1 << newBits);
+        }
+
+        private int read(int index) {
+            return read(data, bits, index);
+        }
+
+        private static int read(long[] data, int bits, int index) {
+            int perLong = 64 / bits;
+            int shift = (index % perLong) * bits;
+            return (int) ((data[index / perLong] >>> shift) & ((1L << bits) - 1));
+        }
+
+        private void write(int index, int paletteIndex) {
+            int perLong = 64 / bits;
+            int word = index / perLong;
+            int shift = (index % perLong) * bits;
+            long mask = ((1L << bits) - 1) << shift;
+            data[word] = (data[word] & ~mask) | (((long) paletteIndex << shift) & mask);
+        }
+
+        private static int dataLength(int bits) {
+            int perLong = 64 / bits;
+            return (SECTION_SIZE + perLong - 1) / perLong;
+        }
+    }
+}
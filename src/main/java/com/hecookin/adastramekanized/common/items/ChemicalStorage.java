@@ -0,0 +1,135 @@
+package com.hecookin.adastramekanized.common.items;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.registry.ModDataComponents;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.CustomData;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads and writes the chemical tanks of suits and gas tanks.
+ *
+ * Contents live in the STORED_CHEMICAL (and, for the jet suit, STORED_PROPELLANT) data components,
+ * so a read is a component lookup with no NBT copy. Stacks from older versions kept their contents in
+ * a "mekanism" compound inside CUSTOM_DATA - that is converted to the components the first time the
+ * stack is read and then removed.
+ */
+public final class ChemicalStorage {
+
+    private static final String LEGACY_KEY = "mekanism";
+
+    private ChemicalStorage() {}
+
+    /**
+     * @return The main tank contents, or null if the stack has never held chemical data
+     */
+    @Nullable
+    public static StoredChemical get(ItemStack stack) {
+        return read(stack, ModDataComponents.STORED_CHEMICAL.get());
+    }
+
+    /**
+     * @return The jet suit propellant tank contents, or null if not initialized
+     */
+    @Nullable
+    public static StoredChemical getPropellant(ItemStack stack) {
+        return read(stack, ModDataComponents.STORED_PROPELLANT.get());
+    }
+
+    public static long getAmount(ItemStack stack) {
+        StoredChemical stored = get(stack);
+        return stored != null ? stored.amount() : 0;
+    }
+
+    public static long getPropellantAmount(ItemStack stack) {
+        StoredChemical stored = getPropellant(stack);
+        return stored != null ? stored.amount() : 0;
+    }
+
+    public static String getChemical(ItemStack stack, String fallback) {
+        StoredChemical stored = get(stack);
+        return stored != null ? stored.chemical() : fallback;
+    }
+
+    public static boolean hasData(ItemStack stack) {
+        return get(stack) != null;
+    }
+
+    public static void set(ItemStack stack, String chemical, long amount) {
+        stack.set(ModDataComponents.STORED_CHEMICAL.get(), new StoredChemical(chemical, amount));
+    }
+
+    public static void setPropellant(ItemStack stack, String chemical, long amount) {
+        stack.set(ModDataComponents.STORED_PROPELLANT.get(), new StoredChemical(chemical, amount));
+    }
+
+    /**
+     * Change the main tank amount, keeping its chemical
+     */
+    public static void setAmount(ItemStack stack, String defaultChemical, long amount) {
+        StoredChemical stored = get(stack);
+        if (stored == null) {
+            set(stack, defaultChemical, amount);
+        } else if (stored.amount() != amount) {
+            stack.set(ModDataComponents.STORED_CHEMICAL.get(), stored.withAmount(amount));
+        }
+    }
+
+    public static void setPropellantAmount(ItemStack stack, String defaultChemical, long amount) {
+        StoredChemical stored = getPropellant(stack);
+        if (stored == null) {
+            setPropellant(stack, defaultChemical, amount);
+        } else if (stored.amount() != amount) {
+            stack.set(ModDataComponents.STORED_PROPELLANT.get(), stored.withAmount(amount));
+        }
+    }
+
+    @Nullable
+    private static StoredChemical read(ItemStack stack, DataComponentType<StoredChemical> type) {
+        StoredChemical stored = stack.get(type);
+        if (stored == null && migrateLegacyData(stack)) {
+            stored = stack.get(type);
+        }
+        return stored;
+    }
+
+    /**
+     * Move contents stored under CUSTOM_DATA "mekanism" into the data components
+     * @return true if the stack had legacy data
+     */
+    private static boolean migrateLegacyData(ItemStack stack) {
+        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+        if (customData == null || !customData.contains(LEGACY_KEY)) {
+            return false;
+        }
+
+        CompoundTag tag = customData.copyTag();
+        CompoundTag mekData = tag.getCompound(LEGACY_KEY);
+
+        // Single tank: {stored: {chemical, amount}}
+        if (mekData.contains("stored")) {
+            CompoundTag storedData = mekData.getCompound("stored");
+            String chemical = storedData.getString("chemical");
+            set(stack, chemical.isEmpty() ? "oxygen" : chemical, storedData.getLong("amount"));
+        }
+        // Jet suit dual tank: {oxygen: {amount}, nitrogen: {amount}}
+        if (mekData.contains("oxygen")) {
+            set(stack, "oxygen", mekData.getCompound("oxygen").getLong("amount"));
+        }
+        if (mekData.contains("nitrogen")) {
+            setPropellant(stack, "nitrogen", mekData.getCompound("nitrogen").getLong("amount"));
+        }
+
+        tag.remove(LEGACY_KEY);
+        if (tag.isEmpty()) {
+            stack.remove(DataComponents.CUSTOM_DATA);
+        } else {
+            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        }
+        AdAstraMekanized.LOGGER.debug("Migrated legacy chemical data on {}", stack.getItem());
+        return true;
+    }
+}
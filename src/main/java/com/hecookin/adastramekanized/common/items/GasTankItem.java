@@ -1,15 +1,11 @@
 package com.hecookin.adastramekanized.common.items;
 
-import com.hecookin.adastramekanized.AdAstraMekanized;
 import net.minecraft.ChatFormatting;
-import net.minecraft.core.component.DataComponents;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
-import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
@@ -46,55 +42,26 @@ public class GasTankItem extends Item {
         }
     }
 
+    public long getCapacity() {
+        return capacity;
+    }
+
     private boolean hasChemicalData(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-        return !tag.isEmpty() && tag.contains("mekanism");
+        return ChemicalStorage.hasData(stack);
     }
 
     public long getChemicalAmount(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        if (tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            if (mekData.contains("stored")) {
-                CompoundTag stored = mekData.getCompound("stored");
-                return stored.getLong("amount");
-            }
-        }
-        return 0;
+        return ChemicalStorage.getAmount(stack);
     }
 
-    private String getChemicalType(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        if (tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            if (mekData.contains("stored")) {
-                CompoundTag storedData = mekData.getCompound("stored");
-                return storedData.getString("chemical");
-            }
-        }
-        return defaultChemical; // Default to oxygen
+    public String getChemicalType(ItemStack stack) {
+        return ChemicalStorage.getChemical(stack, defaultChemical); // Default to oxygen
     }
 
     public void consumeChemical(ItemStack stack, long amount) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        if (tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            if (mekData.contains("stored")) {
-                CompoundTag stored = mekData.getCompound("stored");
-                long current = stored.getLong("amount");
-                long newAmount = Math.max(0, current - amount);
-                stored.putLong("amount", newAmount);
-                mekData.put("stored", stored);
-                tag.put("mekanism", mekData);
-                stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
-            }
+        StoredChemical stored = ChemicalStorage.get(stack);
+        if (stored != null) {
+            ChemicalStorage.setAmount(stack, stored.chemical(), Math.max(0, stored.amount() - amount));
         }
     }
 
@@ -0,0 +1,150 @@
+package com.hecookin.adastramekanized.common.items;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import it.unimi.dsi.fastutil.ints.IntAVLTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player index of the inventory slots holding filled gas tanks, by chemical.
+ *
+ * The index is built with one inventory scan when first needed and then kept up to date by a slot
+ * listener on the player's inventory menu, so suit refills only ever look at slots known to hold a
+ * tank. While another container is open the inventory menu is not synced and the index can lag
+ * behind, so every slot is checked again before it is drained. Server thread only.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class GasTankSlotIndex {
+
+    private static final Map<UUID, PlayerIndex> INDEXES = new HashMap<>();
+
+    private GasTankSlotIndex() {}
+
+    /**
+     * Take up to maxAmount of a chemical from the player's gas tanks, in inventory order
+     * @return The amount taken
+     */
+    public static long drain(Player player, String chemical, long maxAmount) {
+        if (maxAmount <= 0) return 0;
+
+        PlayerIndex index = indexFor(player);
+        IntSortedSet slots = index.slotsByChemical.get(normalize(chemical));
+        if (slots == null || slots.isEmpty()) return 0;
+
+        Inventory inventory = player.getInventory();
+        long drained = 0;
+        // Copy - draining a tank empty removes its slot from the set
+        for (int slot : slots.toIntArray()) {
+            ItemStack stack = inventory.getItem(slot);
+            if (stack.getItem() instanceof GasTankItem gasTank && chemical.equalsIgnoreCase(gasTank.getChemicalType(stack))) {
+                long toTransfer = Math.min(gasTank.getChemicalAmount(stack), maxAmount - drained);
+                if (toTransfer > 0) {
+                    gasTank.consumeChemical(stack, toTransfer);
+                    drained += toTransfer;
+                }
+            }
+            index.update(slot, stack);
+
+            if (drained >= maxAmount) break;
+        }
+        return drained;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        INDEXES.remove(event.getEntity().getUUID());
+    }
+
+    /**
+     * A respawned player has a new inventory menu, so the index is rebuilt when the menu changes
+     */
+    private static PlayerIndex indexFor(Player player) {
+        PlayerIndex index = INDEXES.get(player.getUUID());
+        if (index == null || index.menu != player.inventoryMenu) {
+            index = new PlayerIndex(player);
+            INDEXES.put(player.getUUID(), index);
+        }
+        return index;
+    }
+
+    private static String normalize(String chemical) {
+        return chemical.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class PlayerIndex implements ContainerListener {
+        private final Inventory inventory;
+        private final InventoryMenu menu;
+        // Inventory slot -> chemical of the filled tank in it, null if none
+        private final String[] chemicalBySlot;
+        private final Map<String, IntSortedSet> slotsByChemical = new HashMap<>();
+
+        PlayerIndex(Player player) {
+            this.inventory = player.getInventory();
+            this.menu = player.inventoryMenu;
+            this.chemicalBySlot = new String[inventory.getContainerSize()];
+
+            for (int slot = 0; slot < chemicalBySlot.length; slot++) {
+                if (!isArmorSlot(slot)) {
+                    update(slot, inventory.getItem(slot));
+                }
+            }
+            menu.addSlotListener(this);
+        }
+
+        @Override
+        public void slotChanged(AbstractContainerMenu containerMenu, int menuSlot, ItemStack stack) {
+            Slot slot = containerMenu.getSlot(menuSlot);
+            if (slot.container == inventory && !isArmorSlot(slot.getContainerSlot())) {
+                update(slot.getContainerSlot(), stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu containerMenu, int dataSlot, int value) {
+        }
+
+        void update(int slot, ItemStack stack) {
+            if (slot < 0 || slot >= chemicalBySlot.length) return;
+
+            String chemical = null;
+            if (stack.getItem() instanceof GasTankItem gasTank && gasTank.getChemicalAmount(stack) > 0) {
+                chemical = normalize(gasTank.getChemicalType(stack));
+            }
+
+            String previous = chemicalBySlot[slot];
+            if (previous != null && previous.equals(chemical)) return;
+
+            if (previous != null) {
+                IntSortedSet slots = slotsByChemical.get(previous);
+                if (slots != null) {
+                    slots.remove(slot);
+                }
+            }
+            if (chemical != null) {
+                slotsByChemical.computeIfAbsent(chemical, k -> new IntAVLTreeSet()).add(slot);
+            }
+            chemicalBySlot[slot] = chemical;
+        }
+
+        // Worn armor is never drained
+        private boolean isArmorSlot(int slot) {
+            NonNullList<ItemStack> items = inventory.items;
+            return slot >= items.size() && slot < items.size() + inventory.armor.size();
+        }
+    }
+}
@@ -1,11 +1,6 @@
 package com.hecookin.adastramekanized.common.items;
 
-import com.hecookin.adastramekanized.AdAstraMekanized;
-import com.hecookin.adastramekanized.integration.ModIntegrationManager;
-import net.minecraft.core.component.DataComponents;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.component.CustomData;
 
 /**
  * Helper class to make our items compatible with Mekanism's systems
@@ -16,26 +11,8 @@ public class MekanismCompatibleItems {
      * Mark an item stack as a chemical container for Mekanism compatibility
      */
     public static ItemStack createChemicalArmor(ItemStack stack, long capacity, String chemicalType) {
-        ModIntegrationManager manager = AdAstraMekanized.getIntegrationManager();
-
-        // Add NBT data that Mekanism can recognize
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        // Add chemical storage information
-        CompoundTag mekData = new CompoundTag();
-        mekData.putLong("capacity", capacity);
-        mekData.putString("chemicalType", chemicalType);
-
-        // Store filled amount (starts empty)
-        CompoundTag chemicalTank = new CompoundTag();
-        chemicalTank.putLong("amount", 0L);
-        chemicalTank.putString("chemical", chemicalType);
-        mekData.put("stored", chemicalTank);
-
-        tag.put("mekanism", mekData);
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
-
+        // Store filled amount (starts empty) - capacity comes from the item
+        ChemicalStorage.set(stack, chemicalType, 0L);
         return stack;
     }
 
@@ -43,22 +20,10 @@ public class MekanismCompatibleItems {
      * Fill an armor piece with chemical
      */
     public static void fillWithChemical(ItemStack stack, String chemicalType, long amount) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        if (tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            CompoundTag chemicalTank = mekData.getCompound("stored");
-
-            long capacity = mekData.getLong("capacity");
-            long currentAmount = chemicalTank.getLong("amount");
-            long newAmount = Math.min(capacity, currentAmount + amount);
-
-            chemicalTank.putLong("amount", newAmount);
-            chemicalTank.putString("chemical", chemicalType);
-            mekData.put("stored", chemicalTank);
-
-            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        if (ChemicalStorage.hasData(stack)) {
+            long capacity = getCapacity(stack);
+            long newAmount = Math.min(capacity, ChemicalStorage.getAmount(stack) + amount);
+            ChemicalStorage.set(stack, chemicalType, newAmount);
         }
     }
 
@@ -66,35 +31,33 @@ public class MekanismCompatibleItems {
      * Get the amount of chemical stored
      */
     public static long getChemicalAmount(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        if (!tag.isEmpty() && tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            CompoundTag chemicalTank = mekData.getCompound("stored");
-            return chemicalTank.getLong("amount");
-        }
-        return 0;
+        return ChemicalStorage.getAmount(stack);
     }
 
     /**
      * Use chemical from the armor
      */
     public static long useChemical(ItemStack stack, long amount) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-
-        if (!tag.isEmpty() && tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            CompoundTag chemicalTank = mekData.getCompound("stored");
-
-            long currentAmount = chemicalTank.getLong("amount");
-            long used = Math.min(currentAmount, amount);
-
-            chemicalTank.putLong("amount", currentAmount - used);
-            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        StoredChemical stored = ChemicalStorage.get(stack);
+        if (stored != null) {
+            long used = Math.min(stored.amount(), amount);
+            ChemicalStorage.setAmount(stack, stored.chemical(), stored.amount() - used);
             return used;
         }
         return 0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Tank capacity of a chemical armor piece or gas tank
+     */
+    public static long getCapacity(ItemStack stack) {
+        if (stack.getItem() instanceof com.hecookin.adastramekanized.common.items.armor.base.ItemChemicalArmor armor) {
+            return armor.getCapacity();
+        }
+        if (stack.getItem() instanceof GasTankItem gasTank) {
+            return gasTank.getCapacity();
+        }
+        // Default fallback
+        return 1000L;
+    }
+}
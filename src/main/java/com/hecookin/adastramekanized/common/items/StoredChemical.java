@@ -0,0 +1,38 @@
+package com.hecookin.adastramekanized.common.items;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Contents of one chemical tank on an item stack (suit or gas tank), stored as a data component.
+ * Immutable - a change sets a new instance on the stack.
+ *
+ * @param chemical Chemical name, e.g. "oxygen" or "nitrogen"
+ * @param amount   Stored amount in mB
+ */
+public record StoredChemical(String chemical, long amount) {
+
+    public static final Codec<StoredChemical> CODEC = RecordCodecBuilder.create(instance ->
+        instance.group(
+            Codec.STRING.fieldOf("chemical").forGetter(StoredChemical::chemical),
+            Codec.LONG.fieldOf("amount").forGetter(StoredChemical::amount)
+        ).apply(instance, StoredChemical::new)
+    );
+
+    public static final StreamCodec<ByteBuf, StoredChemical> STREAM_CODEC = StreamCodec.composite(
+        ByteBufCodecs.STRING_UTF8, StoredChemical::chemical,
+        ByteBufCodecs.VAR_LONG, StoredChemical::amount,
+        StoredChemical::new
+    );
+
+    public boolean isEmpty() {
+        return amount <= 0;
+    }
+
+    public StoredChemical withAmount(long newAmount) {
+        return newAmount == amount ? this : new StoredChemical(chemical, newAmount);
+    }
+}
@@ -1,6 +1,10 @@
 package com.hecookin.adastramekanized.common.items.armor;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.items.ChemicalStorage;
+import com.hecookin.adastramekanized.common.items.GasTankSlotIndex;
+import com.hecookin.adastramekanized.common.items.StoredChemical;
+import com.hecookin.adastramekanized.config.AdAstraMekanizedConfig;
 import com.hecookin.adastramekanized.integration.ModIntegrationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
@@ -11,16 +15,13 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.core.Holder;
 import net.minecraft.core.component.DataComponentType;
-import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.*;
-import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.phys.Vec3;
@@ -76,37 +77,15 @@ public class JetSuitItem extends SpaceSuitItem implements IJetpackItem, IModeIte
     }
 
     public long getOxygenAmount(ItemStack stack) {
-        // Try to read directly from NBT first (most reliable)
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-            if (!tag.isEmpty() && tag.contains("mekanism")) {
-                net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-                if (mekData.contains("oxygen")) {
-                    return mekData.getCompound("oxygen").getLong("amount");
-                }
-            }
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.debug("Failed to read oxygen amount from NBT: {}", e.getMessage());
-        }
-
-        // Fall back to parent method if dual tank structure not found
+        // Oxygen lives in the main tank, same as the other suits
         return super.getChemicalAmount(stack);
     }
 
     public long getNitrogenAmount(ItemStack stack) {
-        // Try to read directly from NBT first (most reliable)
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-            if (!tag.isEmpty() && tag.contains("mekanism")) {
-                net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-                if (mekData.contains("nitrogen")) {
-                    return mekData.getCompound("nitrogen").getLong("amount");
-                }
-            }
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.debug("Failed to read nitrogen amount from NBT: {}", e.getMessage());
+        // Read the propellant component first (most reliable)
+        StoredChemical nitrogen = ChemicalStorage.getPropellant(stack);
+        if (nitrogen != null) {
+            return nitrogen.amount();
         }
 
         // Fall back to Mekanism integration if available
@@ -152,48 +131,17 @@ public class JetSuitItem extends SpaceSuitItem implements IJetpackItem, IModeIte
 
     @Override
     public void consumeOxygen(ItemStack stack, long amount) {
-        // Override to consume from the oxygen tank specifically
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-
-            if (!tag.isEmpty() && tag.contains("mekanism")) {
-                net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-                if (mekData.contains("oxygen")) {
-                    net.minecraft.nbt.CompoundTag oxygenData = mekData.getCompound("oxygen");
-                    long currentAmount = oxygenData.getLong("amount");
-                    long newAmount = Math.max(0, currentAmount - amount);
-                    oxygenData.putLong("amount", newAmount);
-                    mekData.put("oxygen", oxygenData);
-                    tag.put("mekanism", mekData);
-                    stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.of(tag));
-                }
-            }
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.error("Failed to use oxygen from NBT: ", e);
+        // Override to consume from the oxygen tank only, without going through the integration
+        StoredChemical oxygen = ChemicalStorage.get(stack);
+        if (oxygen != null) {
+            ChemicalStorage.setAmount(stack, OXYGEN, Math.max(0, oxygen.amount() - amount));
         }
     }
 
     public void consumeNitrogen(ItemStack stack, long amount) {
-        // Update NBT directly for nitrogen usage
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-
-            if (!tag.isEmpty() && tag.contains("mekanism")) {
-                net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-                if (mekData.contains("nitrogen")) {
-                    net.minecraft.nbt.CompoundTag nitrogenData = mekData.getCompound("nitrogen");
-                    long currentAmount = nitrogenData.getLong("amount");
-                    long newAmount = Math.max(0, currentAmount - amount);
-                    nitrogenData.putLong("amount", newAmount);
-                    mekData.put("nitrogen", nitrogenData);
-                    tag.put("mekanism", mekData);
-                    stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.of(tag));
-                }
-            }
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.error("Failed to use nitrogen from NBT: ", e);
+        StoredChemical nitrogen = ChemicalStorage.getPropellant(stack);
+        if (nitrogen != null) {
+            ChemicalStorage.setPropellantAmount(stack, NITROGEN, Math.max(0, nitrogen.amount() - amount));
         }
     }
 
@@ -224,129 +172,30 @@ public class JetSuitItem extends SpaceSuitItem implements IJetpackItem, IModeIte
         }
 
         long currentNitrogen = getNitrogenAmount(jetSuit);
-        long maxRefill = nitrogenCapacity - currentNitrogen;
-
-        if (maxRefill <= 0) {
-            return; // Suit is already full
-        }
-
-        // Try to refill from gas tanks in inventory (instant transfer)
-        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            ItemStack stack = player.getInventory().getItem(i);
-            if (stack.isEmpty() || player.getInventory().armor.contains(stack)) continue;
-
-            // Check if this is a Gas Tank with nitrogen
-            if (stack.getItem() instanceof com.hecookin.adastramekanized.common.items.GasTankItem gasTank) {
-                String chemicalType = getGasTankChemicalType(stack);
-                if ("nitrogen".equalsIgnoreCase(chemicalType)) {
-                    long available = gasTank.getChemicalAmount(stack);
-                    if (available > 0) {
-                        long toTransfer = Math.min(available, maxRefill); // Instant transfer - no rate limit
-                        gasTank.consumeChemical(stack, toTransfer);
-                        addNitrogenToSuit(jetSuit, toTransfer);
-                        maxRefill -= toTransfer;
-
-                        if (maxRefill <= 0) {
-                            return; // Suit is now full
-                        }
-                    }
-                }
-            }
+        if (currentNitrogen >= nitrogenCapacity * AdAstraMekanizedConfig.getSuitRefillThreshold()) {
+            return; // Suit is full enough
         }
-    }
 
-    private String getGasTankChemicalType(ItemStack stack) {
-        net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-        net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-        if (tag.contains("mekanism")) {
-            net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-            if (mekData.contains("stored")) {
-                return mekData.getCompound("stored").getString("chemical");
-            }
+        // Instant transfer from the indexed gas tanks - no rate limit
+        long transferred = GasTankSlotIndex.drain(player, NITROGEN, nitrogenCapacity - currentNitrogen);
+        if (transferred > 0) {
+            addNitrogenToSuit(jetSuit, transferred);
         }
-        return "oxygen"; // Default
     }
 
     private void addNitrogenToSuit(ItemStack stack, long amount) {
-        // ALWAYS update NBT directly to ensure nitrogen is added
-        // (Mekanism integration can fail silently, so we use direct NBT)
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-
-            // Initialize NBT structure if it doesn't exist (dual-tank structure)
-            if (!tag.contains("mekanism")) {
-                AdAstraMekanized.LOGGER.info("Initializing dual-tank mekanism NBT for jet suit");
-                initializeDualChemicals(stack);
-                // Re-read after initialization
-                customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-                tag = customData.copyTag();
-            }
-
-            net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-
-            // Initialize "nitrogen" if it doesn't exist
-            if (!mekData.contains("nitrogen")) {
-                AdAstraMekanized.LOGGER.info("Initializing nitrogen NBT for jet suit");
-                net.minecraft.nbt.CompoundTag nitrogenData = new net.minecraft.nbt.CompoundTag();
-                nitrogenData.putLong("amount", 0L);
-                nitrogenData.putLong("capacity", nitrogenCapacity);
-                mekData.put("nitrogen", nitrogenData);
-            }
-
-            net.minecraft.nbt.CompoundTag nitrogenData = mekData.getCompound("nitrogen");
-            long currentAmount = nitrogenData.getLong("amount");
-            long newAmount = Math.min(nitrogenCapacity, currentAmount + amount);
-            nitrogenData.putLong("amount", newAmount);
-            mekData.put("nitrogen", nitrogenData);
-            tag.put("mekanism", mekData);
-            stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.of(tag));
-            AdAstraMekanized.LOGGER.info("Added {} mB nitrogen to jet suit (was {}, now {})", amount, currentAmount, newAmount);
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.error("Failed to add nitrogen to jet suit: ", e);
-        }
+        long currentAmount = ChemicalStorage.getPropellantAmount(stack);
+        long newAmount = Math.min(nitrogenCapacity, currentAmount + amount);
+        ChemicalStorage.setPropellant(stack, NITROGEN, newAmount);
+        AdAstraMekanized.LOGGER.debug("Added {} mB nitrogen to jet suit (was {}, now {})", amount, currentAmount, newAmount);
     }
 
     @Override
     protected void addOxygenToSuit(ItemStack stack, long amount) {
-        // ALWAYS update NBT directly to ensure oxygen is added
-        // (Mekanism integration can fail silently, so we use direct NBT)
-        // JetSuitItem uses dual-tank structure with separate "oxygen" and "nitrogen" tags
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-
-            // Initialize NBT structure if it doesn't exist (dual-tank structure)
-            if (!tag.contains("mekanism")) {
-                AdAstraMekanized.LOGGER.info("Initializing dual-tank mekanism NBT for jet suit");
-                initializeDualChemicals(stack);
-                // Re-read after initialization
-                customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-                tag = customData.copyTag();
-            }
-
-            net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-
-            // Initialize "oxygen" if it doesn't exist
-            if (!mekData.contains("oxygen")) {
-                AdAstraMekanized.LOGGER.info("Initializing oxygen NBT for jet suit");
-                net.minecraft.nbt.CompoundTag oxygenData = new net.minecraft.nbt.CompoundTag();
-                oxygenData.putLong("amount", 0L);
-                oxygenData.putLong("capacity", capacity);
-                mekData.put("oxygen", oxygenData);
-            }
-
-            net.minecraft.nbt.CompoundTag oxygenData = mekData.getCompound("oxygen");
-            long currentAmount = oxygenData.getLong("amount");
-            long newAmount = Math.min(capacity, currentAmount + amount);
-            oxygenData.putLong("amount", newAmount);
-            mekData.put("oxygen", oxygenData);
-            tag.put("mekanism", mekData);
-            stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.of(tag));
-            AdAstraMekanized.LOGGER.info("Added {} mB oxygen to jet suit (was {}, now {})", amount, currentAmount, newAmount);
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.error("Failed to add oxygen to jet suit: ", e);
-        }
+        long currentAmount = ChemicalStorage.getAmount(stack);
+        long newAmount = Math.min(capacity, currentAmount + amount);
+        ChemicalStorage.set(stack, OXYGEN, newAmount);
+        AdAstraMekanized.LOGGER.debug("Added {} mB oxygen to jet suit (was {}, now {})", amount, currentAmount, newAmount);
     }
 
     // ===== IJetpackItem Interface Implementation =====
@@ -476,42 +325,23 @@ public class JetSuitItem extends SpaceSuitItem implements IJetpackItem, IModeIte
         }
     }
 
+    public long getNitrogenCapacity() {
+        return nitrogenCapacity;
+    }
+
     public void initializeDualChemicals(ItemStack stack) {
-        var customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        var tag = customData.copyTag();
-
-        // Only initialize if not already present
-        if (!tag.contains("mekanism")) {
-            // Create Mekanism data structure for dual chemicals
-            var mekData = new CompoundTag();
-
-            // Oxygen storage (tank 0)
-            var oxygenData = new CompoundTag();
-            oxygenData.putLong("amount", 0L);
-            oxygenData.putLong("capacity", capacity);
-            mekData.put("oxygen", oxygenData);
-
-            // Nitrogen storage (tank 1)
-            var nitrogenData = new CompoundTag();
-            nitrogenData.putLong("amount", 0L);
-            nitrogenData.putLong("capacity", nitrogenCapacity);
-            mekData.put("nitrogen", nitrogenData);
-
-            // Mark as accepting both chemicals
-            mekData.putString("acceptedChemicals", "oxygen,nitrogen");
-            mekData.putInt("tanks", 2);
-
-            tag.put("mekanism", mekData);
-            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
-
-            AdAstraMekanized.LOGGER.debug("Initialized dual chemical tanks for jet suit: oxygen capacity={}, nitrogen capacity={}",
-                capacity, nitrogenCapacity);
+        // Only initialize tanks that are not already present
+        // Oxygen storage (tank 0)
+        if (ChemicalStorage.get(stack) == null) {
+            ChemicalStorage.set(stack, OXYGEN, 0L);
+        }
+        // Nitrogen storage (tank 1)
+        if (ChemicalStorage.getPropellant(stack) == null) {
+            ChemicalStorage.setPropellant(stack, NITROGEN, 0L);
         }
     }
 
     private boolean hasChemicalData(ItemStack stack) {
-        var customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        var tag = customData.copyTag();
-        return !tag.isEmpty() && tag.contains("mekanism");
+        return ChemicalStorage.hasData(stack) && ChemicalStorage.getPropellant(stack) != null;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.hecookin.adastramekanized.common.items.armor;
 
+import com.hecookin.adastramekanized.common.atmosphere.SuitProtectionCache;
 import net.minecraft.core.Holder;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
@@ -21,7 +22,7 @@ public class NetheriteSpaceSuitItem extends SpaceSuitItem {
 
         // Netherite space suits provide fire resistance
         if (!level.isClientSide() && entity instanceof LivingEntity livingEntity) {
-            if (hasFullNetheriteSet(livingEntity)) {
+            if (SuitProtectionCache.get(livingEntity).heatResistant()) {
                 livingEntity.clearFire();
             }
         }
@@ -2,15 +2,15 @@ package com.hecookin.adastramekanized.common.items.armor;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
 import com.hecookin.adastramekanized.common.atmosphere.OxygenManager;
-import com.hecookin.adastramekanized.common.items.GasTankItem;
+import com.hecookin.adastramekanized.common.items.ChemicalStorage;
+import com.hecookin.adastramekanized.common.items.GasTankSlotIndex;
 import com.hecookin.adastramekanized.common.items.MekanismCompatibleItems;
 import com.hecookin.adastramekanized.common.items.armor.base.ItemChemicalArmor;
 import com.hecookin.adastramekanized.common.tags.ModItemTags;
+import com.hecookin.adastramekanized.config.AdAstraMekanizedConfig;
 import com.hecookin.adastramekanized.integration.ModIntegrationManager;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.Holder;
-import net.minecraft.core.component.DataComponents;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.tags.TagKey;
@@ -19,7 +19,6 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.*;
-import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
@@ -62,9 +61,7 @@ public class SpaceSuitItem extends ItemChemicalArmor {
     }
 
     private boolean hasChemicalData(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-        return !tag.isEmpty() && tag.contains("mekanism");
+        return ChemicalStorage.hasData(stack);
     }
 
     public static boolean hasFullSet(LivingEntity entity) {
@@ -148,92 +145,21 @@ public class SpaceSuitItem extends ItemChemicalArmor {
         }
 
         long currentOxygen = getChemicalAmount(spaceSuit);
-        long maxRefill = capacity - currentOxygen;
-
-        if (maxRefill <= 0) {
-            return; // Suit is already full
-        }
-
-        // Try to refill from gas tanks in inventory (instant transfer)
-        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            ItemStack stack = player.getInventory().getItem(i);
-            if (stack.isEmpty() || player.getInventory().armor.contains(stack)) continue;
-
-            // Check if this is a Gas Tank with oxygen
-            if (stack.getItem() instanceof GasTankItem gasTank) {
-                String chemicalType = getGasTankChemicalType(stack);
-                if ("oxygen".equalsIgnoreCase(chemicalType)) {
-                    long available = gasTank.getChemicalAmount(stack);
-                    if (available > 0) {
-                        long toTransfer = Math.min(available, maxRefill); // Instant transfer - no rate limit
-                        gasTank.consumeChemical(stack, toTransfer);
-                        addOxygenToSuit(spaceSuit, toTransfer);
-                        maxRefill -= toTransfer;
-
-                        if (maxRefill <= 0) {
-                            return; // Suit is now full
-                        }
-                    }
-                }
-            }
+        if (currentOxygen >= capacity * AdAstraMekanizedConfig.getSuitRefillThreshold()) {
+            return; // Suit is full enough
         }
-    }
 
-    private String getGasTankChemicalType(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag tag = customData.copyTag();
-        if (tag.contains("mekanism")) {
-            CompoundTag mekData = tag.getCompound("mekanism");
-            if (mekData.contains("stored")) {
-                return mekData.getCompound("stored").getString("chemical");
-            }
+        // Instant transfer from the indexed gas tanks - no rate limit
+        long transferred = GasTankSlotIndex.drain(player, OXYGEN, capacity - currentOxygen);
+        if (transferred > 0) {
+            addOxygenToSuit(spaceSuit, transferred);
         }
-        return "oxygen"; // Default
     }
 
     protected void addOxygenToSuit(ItemStack stack, long amount) {
-        // ALWAYS update NBT directly to ensure oxygen is added
-        // (Mekanism integration can fail silently, so we use direct NBT)
-        try {
-            CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-            CompoundTag tag = customData.copyTag();
-
-            // Initialize NBT structure if it doesn't exist
-            if (!tag.contains("mekanism")) {
-                AdAstraMekanized.LOGGER.info("Initializing mekanism NBT for space suit");
-                CompoundTag mekData = new CompoundTag();
-                mekData.putLong("capacity", capacity);
-                mekData.putString("chemicalType", OXYGEN);
-
-                CompoundTag storedData = new CompoundTag();
-                storedData.putLong("amount", 0L);
-                storedData.putString("chemical", OXYGEN);
-                mekData.put("stored", storedData);
-
-                tag.put("mekanism", mekData);
-            }
-
-            CompoundTag mekData = tag.getCompound("mekanism");
-
-            // Initialize "stored" if it doesn't exist
-            if (!mekData.contains("stored")) {
-                AdAstraMekanized.LOGGER.info("Initializing stored NBT for space suit");
-                CompoundTag storedData = new CompoundTag();
-                storedData.putLong("amount", 0L);
-                storedData.putString("chemical", OXYGEN);
-                mekData.put("stored", storedData);
-            }
-
-            CompoundTag storedData = mekData.getCompound("stored");
-            long currentAmount = storedData.getLong("amount");
-            long newAmount = Math.min(capacity, currentAmount + amount);
-            storedData.putLong("amount", newAmount);
-            mekData.put("stored", storedData);
-            tag.put("mekanism", mekData);
-            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
-            AdAstraMekanized.LOGGER.info("Added {} mB oxygen to space suit (was {}, now {})", amount, currentAmount, newAmount);
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.error("Failed to add oxygen to space suit: ", e);
-        }
+        long currentAmount = ChemicalStorage.getAmount(stack);
+        long newAmount = Math.min(capacity, currentAmount + amount);
+        ChemicalStorage.set(stack, OXYGEN, newAmount);
+        AdAstraMekanized.LOGGER.debug("Added {} mB oxygen to space suit (was {}, now {})", amount, currentAmount, newAmount);
     }
-}
\ No newline at end of file
+}
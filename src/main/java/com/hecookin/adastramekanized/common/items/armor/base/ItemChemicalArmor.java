@@ -1,6 +1,8 @@
 package com.hecookin.adastramekanized.common.items.armor.base;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.items.ChemicalStorage;
+import com.hecookin.adastramekanized.common.items.StoredChemical;
 import com.hecookin.adastramekanized.common.items.interfaces.IChemicalItem;
 import com.hecookin.adastramekanized.integration.ModIntegrationManager;
 import net.minecraft.ChatFormatting;
@@ -83,57 +85,24 @@ public abstract class ItemChemicalArmor extends CustomDyeableArmorItem implement
     }
 
     public boolean hasChemical(ItemStack stack) {
-        // Check NBT directly for chemical presence
         long amount = getChemicalAmount(stack);
         return amount > 0;
     }
 
     public void useChemical(ItemStack stack, long amount) {
-        // Update NBT directly for chemical usage
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-
-            if (!tag.isEmpty() && tag.contains("mekanism")) {
-                net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-                if (mekData.contains("stored")) {
-                    net.minecraft.nbt.CompoundTag storedData = mekData.getCompound("stored");
-                    long currentAmount = storedData.getLong("amount");
-                    long newAmount = Math.max(0, currentAmount - amount);
-                    storedData.putLong("amount", newAmount);
-                    mekData.put("stored", storedData);
-                    tag.put("mekanism", mekData);
-                    stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.of(tag));
-                }
-            }
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.error("Failed to use chemical from NBT: ", e);
-        }
-
-        // Also try through Mekanism integration if available
-        ModIntegrationManager manager = AdAstraMekanized.getIntegrationManager();
-        if (manager.isMekanismAvailable()) {
-            try {
-                manager.getMekanismIntegration().useChemical(stack, chemicalName, amount);
-            } catch (Exception e) {
-                AdAstraMekanized.LOGGER.debug("Failed to use chemical via integration: ", e);
-            }
+        StoredChemical stored = ChemicalStorage.get(stack);
+        if (stored != null) {
+            ChemicalStorage.setAmount(stack, stored.chemical(), Math.max(0, stored.amount() - amount));
         }
+        // No extra extraction through the Mekanism integration: our chemical capability reads the
+        // same component, so that would consume the amount twice
     }
 
     public long getChemicalAmount(ItemStack stack) {
-        // Try to read directly from NBT first (most reliable)
-        try {
-            net.minecraft.world.item.component.CustomData customData = stack.getOrDefault(net.minecraft.core.component.DataComponents.CUSTOM_DATA, net.minecraft.world.item.component.CustomData.EMPTY);
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-            if (!tag.isEmpty() && tag.contains("mekanism")) {
-                net.minecraft.nbt.CompoundTag mekData = tag.getCompound("mekanism");
-                if (mekData.contains("stored")) {
-                    return mekData.getCompound("stored").getLong("amount");
-                }
-            }
-        } catch (Exception e) {
-            AdAstraMekanized.LOGGER.debug("Failed to read chemical amount from NBT: {}", e.getMessage());
+        // Read the stored component first (most reliable)
+        StoredChemical stored = ChemicalStorage.get(stack);
+        if (stored != null) {
+            return stored.amount();
         }
 
         // Fall back to Mekanism integration if available
@@ -7,17 +7,16 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
- * Packet to sync gravity zone visualization from server to client
+ * Packet to sync gravity zone visualization from server to client.
+ * Carries the full zone or only its changes, see ZoneUpdate.
  */
 public record GravityVisualizationPacket(
     BlockPos normalizerPos,
-    Set<BlockPos> gravityZones,
+    ZoneUpdate zones,
     boolean visible,
     int colorIndex,
     float targetGravity
@@ -46,11 +45,8 @@ public record GravityVisualizationPacket(
         // Write target gravity
         buf.writeFloat(packet.targetGravity);
 
-        // Write zone count and positions
-        buf.writeInt(packet.gravityZones.size());
-        for (BlockPos pos : packet.gravityZones) {
-            buf.writeLong(pos.asLong());
-        }
+        // Write zone changes
+        ZoneUpdate.STREAM_CODEC.encode(buf, packet.zones);
     }
 
     private static GravityVisualizationPacket decode(ByteBuf buf) {
@@ -66,12 +62,8 @@ public record GravityVisualizationPacket(
         // Read target gravity
         float targetGravity = buf.readFloat();
 
-        // Read zone positions
-        int zoneCount = buf.readInt();
-        Set<BlockPos> zones = new HashSet<>();
-        for (int i = 0; i < zoneCount; i++) {
-            zones.add(BlockPos.of(buf.readLong()));
-        }
+        // Read zone changes
+        ZoneUpdate zones = ZoneUpdate.STREAM_CODEC.decode(buf);
 
         return new GravityVisualizationPacket(normalizerPos, zones, visible, colorIndex, targetGravity);
     }
@@ -92,25 +84,23 @@ public record GravityVisualizationPacket(
             // Enable global rendering if any normalizer is visible
             renderer.setRenderingEnabled(true);
 
-            if (packet.gravityZones != null && !packet.gravityZones.isEmpty()) {
-                // We have zones - either update or hide them based on visibility
-                renderer.updateNormalizerZones(packet.normalizerPos, packet.gravityZones, packet.colorIndex, packet.targetGravity);
+            if (packet.zones.kind() == ZoneUpdate.Kind.REMOVE) {
+                // Remove the normalizer completely - it's inactive or removed
+                renderer.removeNormalizer(packet.normalizerPos);
+                AdAstraMekanized.LOGGER.debug("Client REMOVED gravity visualization for normalizer at {}",
+                    packet.normalizerPos);
+                return;
+            }
+
+            if (renderer.applyNormalizerUpdate(packet.normalizerPos, packet.zones, packet.colorIndex, packet.targetGravity)) {
                 renderer.setNormalizerVisibility(packet.normalizerPos, packet.visible);
-                AdAstraMekanized.LOGGER.debug("Client {} gravity visualization for normalizer at {}: {} zones, gravity {}x, color {}",
-                    packet.visible ? "showing" : "hiding", packet.normalizerPos, packet.gravityZones.size(),
+                AdAstraMekanized.LOGGER.debug("Client {} gravity visualization for normalizer at {}: {} +{} -{}, seq {}, gravity {}x, color {}",
+                    packet.visible ? "showing" : "hiding", packet.normalizerPos, packet.zones.kind(),
+                    packet.zones.added().size(), packet.zones.removed().size(), packet.zones.sequence(),
                     packet.targetGravity, packet.colorIndex);
-            } else {
-                // Empty zones means complete removal
-                if (packet.normalizerPos.equals(BlockPos.ZERO)) {
-                    // Legacy clear all
-                    renderer.clearAllZones();
-                    AdAstraMekanized.LOGGER.debug("Client cleared all gravity visualization");
-                } else {
-                    // Remove the normalizer completely - it's inactive or removed
-                    renderer.removeNormalizer(packet.normalizerPos);
-                    AdAstraMekanized.LOGGER.debug("Client REMOVED gravity visualization for normalizer at {}",
-                        packet.normalizerPos);
-                }
+            } else if (renderer.markResyncRequested(packet.normalizerPos)) {
+                // Missed an update - ask for the whole zone again
+                PacketDistributor.sendToServer(new ZoneResyncPacket(packet.normalizerPos));
             }
         });
     }
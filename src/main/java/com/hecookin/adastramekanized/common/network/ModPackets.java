@@ -17,7 +17,7 @@ public class ModPackets {
     @SubscribeEvent
     public static void register(RegisterPayloadHandlersEvent event) {
         PayloadRegistrar registrar = event.registrar(AdAstraMekanized.MOD_ID)
-            .versioned("1.0.0");
+            .versioned("1.2.0");
 
         // Register oxygen visualization packet (server -> client)
         registrar.playToClient(
@@ -89,6 +89,26 @@ public class ModPackets {
             )
         );
 
+        // Register zone visualization resync packet (client -> server)
+        registrar.playToServer(
+            ZoneResyncPacket.TYPE,
+            ZoneResyncPacket.CODEC,
+            new DirectionalPayloadHandler<>(
+                null, // No client handler needed
+                ZoneResyncPacket::handle
+            )
+        );
+
+        // Register zone visualization subscription packet (client -> server)
+        registrar.playToServer(
+            ZoneVisualizationSubscribePacket.TYPE,
+            ZoneVisualizationSubscribePacket.CODEC,
+            new DirectionalPayloadHandler<>(
+                null, // No client handler needed
+                ZoneVisualizationSubscribePacket::handle
+            )
+        );
+
         AdAstraMekanized.LOGGER.info("Registered network packets");
     }
 }
\ No newline at end of file
@@ -4,34 +4,22 @@ import com.hecookin.adastramekanized.AdAstraMekanized;
 import com.hecookin.adastramekanized.client.renderers.OxygenZoneRenderer;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.core.BlockPos;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 /**
- * Packet to sync oxygen zone visualization from server to client
+ * Packet to sync oxygen zone visualization from server to client.
+ * Carries the full zone or only its changes, see ZoneUpdate.
  */
-public record OxygenVisualizationPacket(BlockPos distributorPos, Set<BlockPos> oxygenZones, boolean visible, int colorIndex) implements CustomPacketPayload {
+public record OxygenVisualizationPacket(BlockPos distributorPos, ZoneUpdate zones, boolean visible, int colorIndex) implements CustomPacketPayload {
 
     public static final Type<OxygenVisualizationPacket> TYPE = new Type<>(
         ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "oxygen_visualization")
     );
 
-    // Alternative constructors for compatibility
-    public OxygenVisualizationPacket(boolean enabled, List<BlockPos> zones) {
-        this(BlockPos.ZERO, zones != null ? new HashSet<>(zones) : new HashSet<>(), enabled, 0);
-    }
-
-    public OxygenVisualizationPacket(BlockPos distributorPos, Set<BlockPos> oxygenZones, boolean visible) {
-        this(distributorPos, oxygenZones, visible, 0);
-    }
-
     // Codec for network serialization
     public static final StreamCodec<ByteBuf, OxygenVisualizationPacket> CODEC = StreamCodec.of(
         OxygenVisualizationPacket::encode,
@@ -48,11 +36,8 @@ public record OxygenVisualizationPacket(BlockPos distributorPos, Set<BlockPos> o
         // Write color index
         buf.writeByte(packet.colorIndex);
 
-        // Write zone count and positions
-        buf.writeInt(packet.oxygenZones.size());
-        for (BlockPos pos : packet.oxygenZones) {
-            buf.writeLong(pos.asLong());
-        }
+        // Write zone changes
+        ZoneUpdate.STREAM_CODEC.encode(buf, packet.zones);
     }
 
     private static OxygenVisualizationPacket decode(ByteBuf buf) {
@@ -65,12 +50,8 @@ public record OxygenVisualizationPacket(BlockPos distributorPos, Set<BlockPos> o
         // Read color index
         int colorIndex = buf.readByte();
 
-        // Read zone positions
-        int zoneCount = buf.readInt();
-        Set<BlockPos> zones = new HashSet<>();
-        for (int i = 0; i < zoneCount; i++) {
-            zones.add(BlockPos.of(buf.readLong()));
-        }
+        // Read zone changes
+        ZoneUpdate zones = ZoneUpdate.STREAM_CODEC.decode(buf);
 
         return new OxygenVisualizationPacket(distributorPos, zones, visible, colorIndex);
     }
@@ -91,25 +72,23 @@ public record OxygenVisualizationPacket(BlockPos distributorPos, Set<BlockPos> o
             // Enable global rendering if any distributor is visible
             renderer.setRenderingEnabled(true);
 
-            if (packet.oxygenZones != null && !packet.oxygenZones.isEmpty()) {
-                // We have zones - either update or hide them based on visibility
-                renderer.updateDistributorZones(packet.distributorPos, packet.oxygenZones, packet.colorIndex);
+            if (packet.zones.kind() == ZoneUpdate.Kind.REMOVE) {
+                // Remove the distributor completely - it's inactive or removed
+                renderer.removeDistributor(packet.distributorPos);
+                AdAstraMekanized.LOGGER.debug("Client REMOVED oxygen visualization for distributor at {}",
+                    packet.distributorPos);
+                return;
+            }
+
+            if (renderer.applyDistributorUpdate(packet.distributorPos, packet.zones, packet.colorIndex)) {
                 renderer.setDistributorVisibility(packet.distributorPos, packet.visible);
-                AdAstraMekanized.LOGGER.debug("Client {} oxygen visualization for distributor at {}: {} zones, color {}",
-                    packet.visible ? "showing" : "hiding", packet.distributorPos, packet.oxygenZones.size(), packet.colorIndex);
-            } else {
-                // Empty zones means complete removal
-                if (packet.distributorPos.equals(BlockPos.ZERO)) {
-                    // Legacy clear all
-                    renderer.clearAllZones();
-                    AdAstraMekanized.LOGGER.debug("Client cleared all oxygen visualization");
-                } else {
-                    // Remove the distributor completely - it's inactive or removed
-                    renderer.removeDistributor(packet.distributorPos);
-                    AdAstraMekanized.LOGGER.debug("Client REMOVED oxygen visualization for distributor at {}",
-                        packet.distributorPos);
-                }
+                AdAstraMekanized.LOGGER.debug("Client {} oxygen visualization for distributor at {}: {} +{} -{}, seq {}, color {}",
+                    packet.visible ? "showing" : "hiding", packet.distributorPos, packet.zones.kind(),
+                    packet.zones.added().size(), packet.zones.removed().size(), packet.zones.sequence(), packet.colorIndex);
+            } else if (renderer.markResyncRequested(packet.distributorPos)) {
+                // Missed an update - ask for the whole zone again
+                PacketDistributor.sendToServer(new ZoneResyncPacket(packet.distributorPos));
             }
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.hecookin.adastramekanized.common.network;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Sent by a client that got a zone visualization delta it could not apply, to get the full zone again
+ */
+public record ZoneResyncPacket(BlockPos sourcePos) implements CustomPacketPayload {
+
+    public static final Type<ZoneResyncPacket> TYPE = new Type<>(
+        ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "zone_resync")
+    );
+
+    // Codec for network serialization
+    public static final StreamCodec<ByteBuf, ZoneResyncPacket> CODEC = StreamCodec.composite(
+        BlockPos.STREAM_CODEC, ZoneResyncPacket::sourcePos,
+        ZoneResyncPacket::new
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * Handle the packet on the server side
+     */
+    public static void handle(ZoneResyncPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (context.player() instanceof ServerPlayer player) {
+                // Only loaded positions - a client must not be able to load chunks with this
+                if (!player.level().isLoaded(packet.sourcePos)) return;
+
+                BlockEntity be = player.level().getBlockEntity(packet.sourcePos);
+                if (be instanceof ZoneVisualizationSource source) {
+                    source.getVisualizationTracker().requestResync(player);
+                    AdAstraMekanized.LOGGER.debug("Player {} requested zone visualization resync for {}",
+                        player.getName().getString(), packet.sourcePos);
+                }
+            }
+        });
+    }
+}
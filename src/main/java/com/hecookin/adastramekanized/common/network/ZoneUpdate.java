@@ -0,0 +1,162 @@
+package com.hecookin.adastramekanized.common.network;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Zone block changes for one distributor or normalizer, shared by the oxygen and gravity visualization packets.
+ *
+ * A FULL update carries the whole zone and is sent the first time a player sees it (or after a resync);
+ * after that only DELTA updates with the added and removed blocks are sent. Every change to the zone
+ * bumps the sequence number - a client that gets a delta which does not follow the sequence it has
+ * asks for a resync with ZoneResyncPacket. A DELTA with the current sequence and no changes only
+ * refreshes the packet's display fields (visibility, color).
+ *
+ * Positions are grouped by chunk section and written as 12 bit indexes within the section, or as a
+ * 4096 bit bitmap once that is smaller, so a dense zone costs about one bit per block.
+ */
+public record ZoneUpdate(Kind kind, int sequence, LongSet added, LongSet removed) {
+
+    public enum Kind {
+        FULL,
+        DELTA,
+        REMOVE
+    }
+
+    // From this many blocks in a section on, the bitmap (64 longs) is no bigger than a list of shorts
+    private static final int BITMAP_THRESHOLD = 256;
+    private static final int BITMAP_LONGS = 4096 / 64;
+
+    public static final StreamCodec<ByteBuf, ZoneUpdate> STREAM_CODEC = StreamCodec.of(
+        ZoneUpdate::encode,
+        ZoneUpdate::decode
+    );
+
+    public static ZoneUpdate full(int sequence, LongSet positions) {
+        return new ZoneUpdate(Kind.FULL, sequence, positions, LongSets.EMPTY_SET);
+    }
+
+    public static ZoneUpdate delta(int sequence, LongSet added, LongSet removed) {
+        return new ZoneUpdate(Kind.DELTA, sequence, added, removed);
+    }
+
+    public static ZoneUpdate remove(int sequence) {
+        return new ZoneUpdate(Kind.REMOVE, sequence, LongSets.EMPTY_SET, LongSets.EMPTY_SET);
+    }
+
+    /**
+     * Whether a delta can be applied on top of the given last applied sequence
+     */
+    public boolean follows(int lastSequence) {
+        return sequence == lastSequence || sequence == lastSequence + 1;
+    }
+
+    private static void encode(ByteBuf buf, ZoneUpdate update) {
+        buf.writeByte(update.kind.ordinal());
+        VarInt.write(buf, update.sequence);
+        if (update.kind != Kind.REMOVE) {
+            writePositions(buf, update.added);
+        }
+        if (update.kind == Kind.DELTA) {
+            writePositions(buf, update.removed);
+        }
+    }
+
+    private static ZoneUpdate decode(ByteBuf buf) {
+        Kind kind = Kind.values()[buf.readByte()];
+        int sequence = VarInt.read(buf);
+        return switch (kind) {
+            case FULL -> full(sequence, readPositions(buf));
+            case DELTA -> delta(sequence, readPositions(buf), readPositions(buf));
+            case REMOVE -> remove(sequence);
+        };
+    }
+
+    private static void writePositions(ByteBuf buf, LongSet positions) {
+        // Section -> positions in it
+        Long2ObjectOpenHashMap<LongList> sections = new Long2ObjectOpenHashMap<>();
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            long section = SectionPos.asLong(
+                SectionPos.blockToSectionCoord(BlockPos.getX(pos)),
+                SectionPos.blockToSectionCoord(BlockPos.getY(pos)),
+                SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+            sections.computeIfAbsent(section, k -> new LongArrayList()).add(pos);
+        }
+
+        VarInt.write(buf, sections.size());
+        for (Long2ObjectMap.Entry<LongList> entry : sections.long2ObjectEntrySet()) {
+            LongList sectionPositions = entry.getValue();
+            buf.writeLong(entry.getLongKey());
+            VarInt.write(buf, sectionPositions.size());
+
+            if (sectionPositions.size() >= BITMAP_THRESHOLD) {
+                long[] bitmap = new long[BITMAP_LONGS];
+                for (int i = 0; i < sectionPositions.size(); i++) {
+                    int index = localIndex(sectionPositions.getLong(i));
+                    bitmap[index >>> 6] |= 1L << index;
+                }
+                for (long word : bitmap) {
+                    buf.writeLong(word);
+                }
+            } else {
+                for (int i = 0; i < sectionPositions.size(); i++) {
+                    buf.writeShort(localIndex(sectionPositions.getLong(i)));
+                }
+            }
+        }
+    }
+
+    private static LongSet readPositions(ByteBuf buf) {
+        int sectionCount = VarInt.read(buf);
+        if (sectionCount == 0) {
+            return LongSets.EMPTY_SET;
+        }
+
+        LongOpenHashSet positions = new LongOpenHashSet();
+        for (int s = 0; s < sectionCount; s++) {
+            long section = buf.readLong();
+            int originX = SectionPos.sectionToBlockCoord(SectionPos.x(section));
+            int originY = SectionPos.sectionToBlockCoord(SectionPos.y(section));
+            int originZ = SectionPos.sectionToBlockCoord(SectionPos.z(section));
+            int count = VarInt.read(buf);
+
+            if (count >= BITMAP_THRESHOLD) {
+                for (int word = 0; word < BITMAP_LONGS; word++) {
+                    long bits = buf.readLong();
+                    while (bits != 0) {
+                        int index = (word << 6) | Long.numberOfTrailingZeros(bits);
+                        positions.add(fromLocalIndex(originX, originY, originZ, index));
+                        bits &= bits - 1;
+                    }
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    positions.add(fromLocalIndex(originX, originY, originZ, buf.readUnsignedShort()));
+                }
+            }
+        }
+        return positions;
+    }
+
+    // Same layout as a chunk section's block index: y, then z, then x
+    private static int localIndex(long pos) {
+        return (BlockPos.getY(pos) & 15) << 8 | (BlockPos.getZ(pos) & 15) << 4 | (BlockPos.getX(pos) & 15);
+    }
+
+    private static long fromLocalIndex(int originX, int originY, int originZ, int index) {
+        return BlockPos.asLong(originX + (index & 15), originY + (index >>> 8 & 15), originZ + (index >>> 4 & 15));
+    }
+}
@@ -0,0 +1,9 @@
+package com.hecookin.adastramekanized.common.network;
+
+/**
+ * Block entity whose zone is shown with the zone visualization packets
+ */
+public interface ZoneVisualizationSource {
+
+    ZoneVisualizationTracker getVisualizationTracker();
+}
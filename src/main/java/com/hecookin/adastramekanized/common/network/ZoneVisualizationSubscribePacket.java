@@ -0,0 +1,44 @@
+package com.hecookin.adastramekanized.common.network;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Sent by the client to start or stop receiving zone visualization packets
+ */
+public record ZoneVisualizationSubscribePacket(boolean subscribed) implements CustomPacketPayload {
+
+    public static final Type<ZoneVisualizationSubscribePacket> TYPE = new Type<>(
+        ResourceLocation.fromNamespaceAndPath(AdAstraMekanized.MOD_ID, "zone_visualization_subscribe")
+    );
+
+    // Codec for network serialization
+    public static final StreamCodec<ByteBuf, ZoneVisualizationSubscribePacket> CODEC = StreamCodec.composite(
+        ByteBufCodecs.BOOL, ZoneVisualizationSubscribePacket::subscribed,
+        ZoneVisualizationSubscribePacket::new
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * Handle the packet on the server side
+     */
+    public static void handle(ZoneVisualizationSubscribePacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (context.player() instanceof ServerPlayer player) {
+                ZoneVisualizationSubscriptions.setSubscribed(player, packet.subscribed);
+                AdAstraMekanized.LOGGER.debug("Player {} {} zone visualization",
+                    player.getName().getString(), packet.subscribed ? "subscribed to" : "unsubscribed from");
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.hecookin.adastramekanized.common.network;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Players whose client asked for zone visualization data.
+ *
+ * Machines only send visualization packets to subscribed players tracking their chunk, and skip the
+ * work entirely while nobody is subscribed. Server thread only.
+ */
+@EventBusSubscriber(modid = AdAstraMekanized.MOD_ID)
+public final class ZoneVisualizationSubscriptions {
+
+    private static final Set<UUID> SUBSCRIBERS = new ObjectOpenHashSet<>();
+
+    private ZoneVisualizationSubscriptions() {}
+
+    public static void setSubscribed(ServerPlayer player, boolean subscribed) {
+        if (subscribed) {
+            SUBSCRIBERS.add(player.getUUID());
+        } else {
+            SUBSCRIBERS.remove(player.getUUID());
+        }
+    }
+
+    public static boolean isSubscribed(ServerPlayer player) {
+        return SUBSCRIBERS.contains(player.getUUID());
+    }
+
+    public static boolean hasSubscribers() {
+        return !SUBSCRIBERS.isEmpty();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        SUBSCRIBERS.remove(event.getEntity().getUUID());
+    }
+}
@@ -0,0 +1,150 @@
+package com.hecookin.adastramekanized.common.network;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Server side state of one machine's zone visualization: the blocks last sent, the current sequence
+ * number and which sequence each viewer has.
+ *
+ * Viewers are the subscribed players (see ZoneVisualizationSubscriptions) tracking the machine's
+ * chunk. Players that are in sync get a delta (or nothing when nothing changed); new viewers, players
+ * that stopped tracking the chunk and came back, and players that asked for a resync get the full zone.
+ * With no viewers nothing is computed or sent.
+ */
+public class ZoneVisualizationTracker {
+
+    // Replaced, never modified - packets handed to an integrated server's client still reference it
+    private LongOpenHashSet sent = new LongOpenHashSet();
+    private int sequence = 0;
+    private int displayKey = 0;
+    private final Object2IntOpenHashMap<UUID> viewerSequence = new Object2IntOpenHashMap<>();
+
+    public ZoneVisualizationTracker() {
+        viewerSequence.defaultReturnValue(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Send the changes since the last sync to the viewers
+     * @param displayKey    Hash of the packet's other fields - a change is sent even if the zone did not change
+     * @param packetFactory Wraps the update in the machine's visualization packet
+     */
+    public void sync(ServerLevel level, BlockPos origin, Collection<BlockPos> zones, int displayKey,
+                     Function<ZoneUpdate, CustomPacketPayload> packetFactory) {
+        List<ServerPlayer> viewers = viewers(level, origin);
+        if (viewers.isEmpty()) {
+            // Whoever watched before gets the full zone when they come back
+            viewerSequence.clear();
+            return;
+        }
+
+        LongOpenHashSet current = new LongOpenHashSet(zones.size());
+        LongOpenHashSet added = new LongOpenHashSet();
+        for (BlockPos pos : zones) {
+            long key = pos.asLong();
+            current.add(key);
+            if (!sent.contains(key)) {
+                added.add(key);
+            }
+        }
+        LongOpenHashSet removed = new LongOpenHashSet();
+        LongIterator iterator = sent.iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.nextLong();
+            if (!current.contains(key)) {
+                removed.add(key);
+            }
+        }
+
+        boolean zonesChanged = !added.isEmpty() || !removed.isEmpty();
+        if (zonesChanged) {
+            sent = current;
+            sequence++;
+        }
+        boolean displayChanged = displayKey != this.displayKey;
+        this.displayKey = displayKey;
+
+        CustomPacketPayload deltaPacket = null;
+        CustomPacketPayload fullPacket = null;
+        Set<UUID> watching = new HashSet<>();
+        for (ServerPlayer player : viewers) {
+            UUID id = player.getUUID();
+            watching.add(id);
+            int known = viewerSequence.getInt(id);
+
+            CustomPacketPayload packet;
+            if (known == sequence) {
+                if (!displayChanged) continue;
+                // Nothing new in the zone, only the display fields changed
+                if (deltaPacket == null) deltaPacket = packetFactory.apply(ZoneUpdate.delta(sequence, added, removed));
+                packet = deltaPacket;
+            } else if (zonesChanged && known == sequence - 1) {
+                if (deltaPacket == null) deltaPacket = packetFactory.apply(ZoneUpdate.delta(sequence, added, removed));
+                packet = deltaPacket;
+            } else {
+                if (fullPacket == null) fullPacket = packetFactory.apply(ZoneUpdate.full(sequence, sent));
+                packet = fullPacket;
+            }
+            PacketDistributor.sendToPlayer(player, packet);
+            viewerSequence.put(id, sequence);
+        }
+        // Players no longer watching get the full zone when they come back
+        viewerSequence.keySet().retainAll(watching);
+    }
+
+    /**
+     * Tell the viewers to drop the zone and forget what was sent
+     */
+    public void remove(ServerLevel level, BlockPos origin, Function<ZoneUpdate, CustomPacketPayload> packetFactory) {
+        sequence++;
+        sent = new LongOpenHashSet();
+        viewerSequence.clear();
+
+        List<ServerPlayer> viewers = viewers(level, origin);
+        if (viewers.isEmpty()) return;
+
+        CustomPacketPayload packet = packetFactory.apply(ZoneUpdate.remove(sequence));
+        for (ServerPlayer player : viewers) {
+            PacketDistributor.sendToPlayer(player, packet);
+        }
+    }
+
+    /**
+     * The player's client lost track of the zone - send it the full zone on the next sync
+     */
+    public void requestResync(ServerPlayer player) {
+        viewerSequence.removeInt(player.getUUID());
+    }
+
+    /**
+     * Subscribed players tracking the chunk at origin - the same players
+     * PacketDistributor.sendToPlayersTrackingChunk would reach, minus those without the overlay
+     */
+    private static List<ServerPlayer> viewers(ServerLevel level, BlockPos origin) {
+        if (!ZoneVisualizationSubscriptions.hasSubscribers()) {
+            return List.of();
+        }
+        List<ServerPlayer> viewers = new ArrayList<>();
+        for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(new ChunkPos(origin), false)) {
+            if (ZoneVisualizationSubscriptions.isSubscribed(player)) {
+                viewers.add(player);
+            }
+        }
+        return viewers;
+    }
+}
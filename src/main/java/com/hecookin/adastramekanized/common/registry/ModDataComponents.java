@@ -0,0 +1,40 @@
+package com.hecookin.adastramekanized.common.registry;
+
+import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.items.StoredChemical;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.Registries;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+import java.util.function.Supplier;
+
+public class ModDataComponents {
+
+    public static final DeferredRegister<DataComponentType<?>> DATA_COMPONENTS =
+            DeferredRegister.create(Registries.DATA_COMPONENT_TYPE, AdAstraMekanized.MOD_ID);
+
+    /**
+     * Main chemical tank: oxygen in suits, whatever gas a gas tank was filled with
+     */
+    public static final Supplier<DataComponentType<StoredChemical>> STORED_CHEMICAL =
+            DATA_COMPONENTS.register("stored_chemical",
+                () -> DataComponentType.<StoredChemical>builder()
+                    .persistent(StoredChemical.CODEC)
+                    .networkSynchronized(StoredChemical.STREAM_CODEC)
+                    .build());
+
+    /**
+     * Jet suit's second tank (nitrogen for the jetpack)
+     */
+    public static final Supplier<DataComponentType<StoredChemical>> STORED_PROPELLANT =
+            DATA_COMPONENTS.register("stored_propellant",
+                () -> DataComponentType.<StoredChemical>builder()
+                    .persistent(StoredChemical.CODEC)
+                    .networkSynchronized(StoredChemical.STREAM_CODEC)
+                    .build());
+
+    public static void register(IEventBus modEventBus) {
+        DATA_COMPONENTS.register(modEventBus);
+    }
+}
@@ -1,9 +1,9 @@
 package com.hecookin.adastramekanized.common.utils;
 
+import com.hecookin.adastramekanized.common.atmosphere.GasPassabilityTable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.state.BlockState;
 
 import java.util.*;
 
@@ -23,7 +23,7 @@ public class FloodFillUtil {
         }
 
         // Check if starting position is air
-        if (!level.getBlockState(startPos).isAir()) {
+        if ((GasPassabilityTable.flags(level, startPos, level.getBlockState(startPos)) & GasPassabilityTable.AIR) == 0) {
             return Collections.emptySet();
         }
 
@@ -46,10 +46,10 @@ public class FloodFillUtil {
                     continue;
                 }
 
-                BlockState state = level.getBlockState(neighbor);
+                int flags = GasPassabilityTable.flags(level, neighbor, level.getBlockState(neighbor));
 
                 // If it's air, add to check queue
-                if (state.isAir()) {
+                if ((flags & GasPassabilityTable.AIR) != 0) {
                     visited.add(neighbor);
                     toCheck.add(neighbor);
 
@@ -60,7 +60,7 @@ public class FloodFillUtil {
                     }
                 }
                 // If it's not solid, the area is not enclosed
-                else if (!state.isSolid()) {
+                else if ((flags & GasPassabilityTable.SOLID) == 0) {
                     isEnclosed = false;
                     break;
                 }
@@ -82,12 +82,8 @@ public class FloodFillUtil {
     /**
      * Check if a block forms a valid seal (solid and not allowing air passage)
      */
-    private static boolean isSealing(BlockState state) {
-        if (state.isAir()) {
-            return false;
-        }
-
-        // Check if block is solid and doesn't allow air passage
-        return state.isSolid() && state.isCollisionShapeFullBlock(null, null);
+    private static boolean isSealing(Level level, BlockPos pos) {
+        // Solid full blocks don't allow air passage (air is never gas-tight)
+        return (GasPassabilityTable.flags(level, pos, level.getBlockState(pos)) & GasPassabilityTable.GAS_TIGHT) != 0;
     }
 }
\ No newline at end of file
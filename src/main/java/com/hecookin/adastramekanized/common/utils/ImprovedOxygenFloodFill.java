@@ -1,23 +1,20 @@
 package com.hecookin.adastramekanized.common.utils;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.atmosphere.GasPassabilityTable;
 import com.hecookin.adastramekanized.common.atmosphere.GlobalOxygenManager;
 import com.hecookin.adastramekanized.common.gravity.GlobalGravityManager;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.DoorBlock;
-import net.minecraft.world.level.block.SlabBlock;
-import net.minecraft.world.level.block.StairBlock;
-import net.minecraft.world.level.block.TrapDoorBlock;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.SlabType;
-import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Improved oxygen flood fill algorithm that respects block boundaries,
@@ -27,36 +24,50 @@ public class ImprovedOxygenFloodFill {
 
     private static final Direction[] DIRECTIONS = Direction.values();
 
-    // Cache for pathfinding results - cleared every 100 ticks
-    private static final Map<CacheKey, PathResult> pathCache = new ConcurrentHashMap<>();
-    private static long lastCacheClear = 0;
-    private static final long CACHE_DURATION = 100; // ticks
+    // Max positions visited when checking whether a local change split a region
+    private static final int LOCAL_REPAIR_SEARCH_LIMIT = 512;
+    // An opening that reaches more space than this without finding walls counts as a hull breach
+    private static final int BREACH_SEARCH_LIMIT = 4096;
 
     /**
-     * Ring-based expansion with dynamic radius and GlobalOxygenManager checking
+     * Ring-based expansion with dynamic radius and GlobalOxygenManager checking.
+     * A single breadth-first wavefront records reachability and distance as it expands,
+     * so every position is decided once and the cost is linear in the region size.
+     *
+     * A position is claimed if it is within currentRadius steps of the distributor along a path of
+     * claimable positions. The old per-candidate A* also let paths run through passable positions the
+     * distributor could not claim and allowed one extra step, so spaces reached around a corner or
+     * through such blocks now need a slightly larger radius before they fill.
      */
     public static Set<BlockPos> findOxygenatableArea(
             Level level,
             BlockPos distributorPos,
             int currentRadius,
-            int maxBlocks,
-            long currentTick) {
+            int maxBlocks) {
+        return findOxygenatableArea(level, level.dimension(), distributorPos, currentRadius, maxBlocks);
+    }
 
-        // Clear cache periodically
-        if (currentTick - lastCacheClear > CACHE_DURATION) {
-            pathCache.clear();
-            lastCacheClear = currentTick;
-            AdAstraMekanized.LOGGER.debug("Cleared pathfinding cache after {} ticks", CACHE_DURATION);
-        }
+    /**
+     * Same search against any block source, e.g. a chunk section snapshot on a worker thread.
+     * Ownership is read from GlobalOxygenManager, which is safe to read off the server thread.
+     */
+    public static Set<BlockPos> findOxygenatableArea(
+            BlockGetter level,
+            ResourceKey<Level> dimension,
+            BlockPos distributorPos,
+            int currentRadius,
+            int maxBlocks) {
 
         Set<BlockPos> oxygenatedPositions = new LinkedHashSet<>();
-        Set<BlockPos> visitedPositions = new HashSet<>();
-        ResourceKey<Level> dimension = level.dimension();
+        Set<BlockPos> rejectedPositions = new HashSet<>();
         GlobalOxygenManager globalManager = GlobalOxygenManager.getInstance();
 
         AdAstraMekanized.LOGGER.debug("ImprovedFloodFill: Starting from distributor {} with radius {}, max blocks {}",
             distributorPos, currentRadius, maxBlocks);
 
+        // Priority cube positions by their distance from the distributor (1 = face, 2 = edge, 3 = corner)
+        List<List<BlockPos>> cubeByDistance = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
         // PRIORITY PHASE: Immediately claim 3x3x3 cube around distributor
         // This ensures distributors have control over their immediate surroundings
         for (int dx = -1; dx <= 1; dx++) {
@@ -72,12 +83,14 @@ public class ImprovedOxygenFloodFill {
                     // Try to claim this position with priority
                     if (canClaimPosition(level, cubePos, distributorPos, dimension, globalManager)) {
                         oxygenatedPositions.add(cubePos);
-                        visitedPositions.add(cubePos);
+                        cubeByDistance.get(cubePos.distManhattan(distributorPos)).add(cubePos);
 
                         if (oxygenatedPositions.size() >= maxBlocks) {
                             AdAstraMekanized.LOGGER.debug("Reached max blocks during priority cube claiming");
                             return oxygenatedPositions;
                         }
+                    } else {
+                        rejectedPositions.add(cubePos);
                     }
                 }
             }
@@ -85,48 +98,51 @@ public class ImprovedOxygenFloodFill {
 
         AdAstraMekanized.LOGGER.debug("Priority cube claimed {} blocks", oxygenatedPositions.size());
 
-        // Priority queue for ring-based expansion (closer blocks first)
-        PriorityQueue<PositionWithDistance> expansionQueue = new PriorityQueue<>(
-            Comparator.comparingInt(pwd -> pwd.distance)
-        );
-
-        // Add all claimed priority cube positions as starting points for expansion
-        for (BlockPos claimedPos : oxygenatedPositions) {
-            expansionQueue.offer(new PositionWithDistance(claimedPos, 0));
-        }
-
         // If we couldn't claim ANY blocks in the priority cube, we're completely blocked
         if (oxygenatedPositions.isEmpty()) {
             AdAstraMekanized.LOGGER.debug("ImprovedFloodFill: Could not claim any blocks in priority cube - distributor is blocked");
             return oxygenatedPositions;
         }
 
-        // Ring-based expansion
-        while (!expansionQueue.isEmpty() && oxygenatedPositions.size() < maxBlocks) {
-            PositionWithDistance current = expansionQueue.poll();
-
-            // Skip if beyond current radius
-            if (current.distance > currentRadius) {
-                continue;
+        // Ring-based expansion: rings are path distances from the distributor itself, so nothing past
+        // currentRadius steps is claimed. Cube positions join the wavefront at their own distance.
+        ArrayDeque<BlockPos> wavefront = new ArrayDeque<>(cubeByDistance.get(1));
+        int distance = 1;
+        while (distance < currentRadius && (!wavefront.isEmpty() || distance < cubeByDistance.size() - 1)) {
+            int ringSize = wavefront.size();
+            distance++;
+            if (distance < cubeByDistance.size()) {
+                wavefront.addAll(cubeByDistance.get(distance));
             }
 
-            // Try to claim this position
-            if (canClaimPosition(level, current.pos, distributorPos, dimension, globalManager)) {
-                // Check if there's a valid path (use cache)
-                // Check if there's a valid path from distributor to this position
-                if (hasValidPath(level, distributorPos, current.pos, distributorPos, dimension, globalManager, currentRadius)) {
-                    oxygenatedPositions.add(current.pos);
+            for (int i = 0; i < ringSize; i++) {
+                BlockPos current = wavefront.poll();
 
-                    // Add adjacent positions to queue for next ring
-                    for (Direction dir : DIRECTIONS) {
-                        BlockPos adjacent = current.pos.relative(dir);
-                        if (!visitedPositions.contains(adjacent)) {
-                            visitedPositions.add(adjacent);
-                            int newDistance = current.distance + 1;
-                            if (newDistance <= currentRadius) {
-                                expansionQueue.offer(new PositionWithDistance(adjacent, newDistance));
-                            }
-                        }
+                for (Direction dir : DIRECTIONS) {
+                    BlockPos adjacent = current.relative(dir);
+                    if (oxygenatedPositions.contains(adjacent) || rejectedPositions.contains(adjacent)
+                            || adjacent.equals(distributorPos)) {
+                        continue;
+                    }
+
+                    // Claimability only depends on the position itself - decide it once
+                    if (!canClaimPosition(level, adjacent, distributorPos, dimension, globalManager)) {
+                        rejectedPositions.add(adjacent);
+                        continue;
+                    }
+
+                    // Passability depends on the face we come from - another ring neighbour may still reach it
+                    if (!canOxygenPassThrough(level, current, adjacent, dir, distributorPos, dimension, globalManager)) {
+                        continue;
+                    }
+
+                    oxygenatedPositions.add(adjacent);
+                    wavefront.add(adjacent);
+
+                    if (oxygenatedPositions.size() >= maxBlocks) {
+                        AdAstraMekanized.LOGGER.debug("ImprovedFloodFill: Found {} oxygenatable positions (radius={}, maxBlocks={})",
+                            oxygenatedPositions.size(), currentRadius, maxBlocks);
+                        return oxygenatedPositions;
                     }
                 }
             }
@@ -139,294 +155,598 @@ public class ImprovedOxygenFloodFill {
     }
 
     /**
-     * Check if a position can be claimed by this distributor
+     * Locally repair an already computed oxygen region after blocks changed inside or next to it.
+     * Changed positions that can no longer hold oxygen are dropped along with anything they cut off
+     * from the distributor, and newly opened positions on the boundary are grown into.
+     * Growth stops at currentRadius steps from the distributor, measured the same way as the rings of
+     * findOxygenatableArea, so a repair never reaches further than a full recompute would.
+     * The region set itself is not modified - the caller applies the returned delta.
      */
-    private static boolean canClaimPosition(
+    public static RegionDelta repairOxygenatableArea(
             Level level,
-            BlockPos pos,
             BlockPos distributorPos,
-            ResourceKey<Level> dimension,
-            GlobalOxygenManager globalManager) {
+            Set<BlockPos> region,
+            Set<BlockPos> changedPositions,
+            int maxBlocks,
+            int currentRadius) {
 
-        // Check if position needs oxygen
-        if (!needsOxygen(level, pos)) {
-            return false;
+        ResourceKey<Level> dimension = level.dimension();
+        GlobalOxygenManager globalManager = GlobalOxygenManager.getInstance();
+
+        Set<BlockPos> removed = new HashSet<>();
+        Set<BlockPos> touched = new HashSet<>();
+        for (BlockPos pos : changedPositions) {
+            if (!region.contains(pos)) {
+                continue;
+            }
+            touched.add(pos);
+            if (!canClaimPosition(level, pos, distributorPos, dimension, globalManager)) {
+                removed.add(pos);
+            }
         }
 
-        // Check ownership in GlobalOxygenManager
-        BlockPos owner = globalManager.getBlockOwner(dimension, pos);
+        // A change inside the region can only disconnect blocks if the neighbours of the
+        // changed position no longer reach each other without it
+        if (!touched.isEmpty()) {
+            boolean split = false;
+            for (BlockPos pos : touched) {
+                if (!neighboursStayConnected(level, pos, region, removed, distributorPos, dimension, globalManager)) {
+                    split = true;
+                    break;
+                }
+            }
+            if (split) {
+                removed.addAll(findDisconnected(level, distributorPos, region, removed, dimension, globalManager));
+            }
+        }
 
-        // Can claim if:
-        // 1. Not owned by anyone (owner == null)
-        // 2. Already owned by us (owner.equals(distributorPos))
-        return owner == null || owner.equals(distributorPos);
+        // Grow into positions that were opened up on (or from) the region boundary
+        Set<BlockPos> added = new LinkedHashSet<>();
+        int budget = maxBlocks - (region.size() - removed.size());
+        // Ring distances of the region, computed on first growth. A path through at most maxBlocks
+        // claimed positions can't be longer than this, so past it the radius never cuts growth off.
+        boolean radiusBinds = currentRadius < maxBlocks + 3;
+        Object2IntMap<BlockPos> distances = null;
+        for (BlockPos changed : changedPositions) {
+            if (budget <= 0) {
+                break;
+            }
+            List<BlockPos> candidates = new ArrayList<>(7);
+            if (region.contains(changed)) {
+                if (removed.contains(changed)) {
+                    continue;
+                }
+                for (Direction dir : DIRECTIONS) {
+                    candidates.add(changed.relative(dir));
+                }
+            } else {
+                candidates.add(changed);
+            }
+
+            for (BlockPos candidate : candidates) {
+                if (budget <= 0) {
+                    break;
+                }
+                if (region.contains(candidate) || added.contains(candidate)) {
+                    continue;
+                }
+                if (!isReachableFromRegion(level, candidate, region, removed, distributorPos, dimension, globalManager)) {
+                    continue;
+                }
+                if (radiusBinds && distances == null) {
+                    distances = regionDistances(level, distributorPos, region, removed, dimension, globalManager);
+                }
+                budget -= growInto(level, candidate, distributorPos, region, removed, added, distances, currentRadius,
+                    budget, dimension, globalManager);
+            }
+        }
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            AdAstraMekanized.LOGGER.debug("ImprovedFloodFill: Repaired region of {} at {} changed positions (+{} / -{})",
+                distributorPos, changedPositions.size(), added.size(), removed.size());
+        }
+
+        return new RegionDelta(added, removed);
     }
 
     /**
-     * Check if there's a valid path between positions (with caching)
+     * Find other distributors whose regions gas could flow into from the checked region positions,
+     * i.e. where our region meets theirs. Fills and repairs stop at other owners' blocks, so this is
+     * how two regions in one volume find out they are the same room.
+     * @return Owners of bordering regions, excluding our own
      */
-    private static boolean hasValidPath(
+    public static Set<BlockPos> findBorderingOwners(
             Level level,
-            BlockPos from,
-            BlockPos to,
             BlockPos distributorPos,
-            ResourceKey<Level> dimension,
-            GlobalOxygenManager globalManager,
-            int maxDistance) {
+            Set<BlockPos> region,
+            Collection<BlockPos> checked) {
 
-        if (from.equals(to)) {
-            return true;
-        }
+        ResourceKey<Level> dimension = level.dimension();
+        GlobalOxygenManager globalManager = GlobalOxygenManager.getInstance();
+        Set<BlockPos> owners = new HashSet<>();
 
-        // Check cache first
-        CacheKey key = new CacheKey(from, to, distributorPos);
-        PathResult cached = pathCache.get(key);
-        if (cached != null) {
-            return cached.hasPath;
+        for (BlockPos pos : checked) {
+            if (!region.contains(pos)) {
+                continue;
+            }
+            BlockState state = level.getBlockState(pos);
+            for (Direction dir : DIRECTIONS) {
+                BlockPos next = pos.relative(dir);
+                if (region.contains(next) || !level.isLoaded(next)) {
+                    continue;
+                }
+                BlockPos owner = globalManager.getBlockOwner(dimension, next);
+                if (owner == null || owner.equals(distributorPos) || owners.contains(owner)) {
+                    continue;
+                }
+                if (GasPassabilityTable.canGasPass(level, pos, state, level.getBlockState(next), dir)) {
+                    owners.add(owner);
+                }
+            }
         }
-
-        // Perform pathfinding
-        boolean result = findPath(level, from, to, distributorPos, dimension, globalManager, maxDistance);
-
-        // Cache result
-        pathCache.put(key, new PathResult(result));
-
-        return result;
+        return owners;
     }
 
     /**
-     * A* pathfinding that treats blocks owned by other distributors as walls
+     * Check whether changed positions opened a sealed region to the outside.
+     * An opening leaks if a search from the broken face through the space outside the region reaches
+     * open sky or runs past BREACH_SEARCH_LIMIT positions. Openings into a small enclosed pocket are
+     * not breaches - repairOxygenatableArea() grows into those.
+     * @return Region positions still connected to a leaking face, empty if nothing leaks
      */
-    private static boolean findPath(
+    public static Set<BlockPos> findBreachedVolume(
             Level level,
-            BlockPos from,
-            BlockPos to,
             BlockPos distributorPos,
-            ResourceKey<Level> dimension,
-            GlobalOxygenManager globalManager,
-            int maxDistance) {
+            Set<BlockPos> region,
+            Set<BlockPos> changedPositions) {
 
-        if (from.distManhattan(to) > maxDistance) {
-            return false;
-        }
-
-        PriorityQueue<PathNode> openSet = new PriorityQueue<>();
-        Set<BlockPos> closedSet = new HashSet<>();
-
-        openSet.add(new PathNode(from, 0, from.distManhattan(to)));
-
-        while (!openSet.isEmpty()) {
-            PathNode current = openSet.poll();
+        ResourceKey<Level> dimension = level.dimension();
+        GlobalOxygenManager globalManager = GlobalOxygenManager.getInstance();
+        Set<BlockPos> vented = new HashSet<>();
 
-            if (current.pos.equals(to)) {
-                return true;
+        for (BlockPos changed : changedPositions) {
+            if (region.contains(changed)) {
+                continue;
+            }
+            BlockState changedState = level.getBlockState(changed);
+            if (!GasPassabilityTable.holdsAtmosphere(level, changed, changedState)) {
+                continue;
             }
 
-            if (closedSet.contains(current.pos)) {
+            // Region positions that now let gas out through this position
+            List<BlockPos> breachedFaces = new ArrayList<>(6);
+            for (Direction dir : DIRECTIONS) {
+                BlockPos inside = changed.relative(dir);
+                if (region.contains(inside) && !vented.contains(inside)
+                        && GasPassabilityTable.canGasPass(level, inside, level.getBlockState(inside), changedState, dir.getOpposite())) {
+                    breachedFaces.add(inside);
+                }
+            }
+            if (breachedFaces.isEmpty()
+                    || !leaksToOpenSpace(level, changed, region, distributorPos, dimension, globalManager)) {
                 continue;
             }
 
-            closedSet.add(current.pos);
+            collectVented(level, breachedFaces, region, vented);
+        }
 
-            if (current.cost > maxDistance) {
-                continue;
+        if (!vented.isEmpty()) {
+            AdAstraMekanized.LOGGER.debug("ImprovedFloodFill: Hull breach in region of {} vents {} positions",
+                distributorPos, vented.size());
+        }
+        return vented;
+    }
+
+    /**
+     * Bounded search outward from an opening. Other distributors' regions and unloaded chunks act as walls.
+     */
+    private static boolean leaksToOpenSpace(
+            Level level,
+            BlockPos opening,
+            Set<BlockPos> region,
+            BlockPos distributorPos,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
+
+        Set<BlockPos> visited = new HashSet<>();
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(opening);
+        visited.add(opening);
+
+        while (!queue.isEmpty()) {
+            BlockPos current = queue.poll();
+            if (level.canSeeSky(current) || visited.size() > BREACH_SEARCH_LIMIT) {
+                return true;
             }
+            BlockState currentState = level.getBlockState(current);
 
             for (Direction dir : DIRECTIONS) {
-                BlockPos neighborPos = current.pos.relative(dir);
-
-                if (closedSet.contains(neighborPos)) {
+                BlockPos next = current.relative(dir);
+                if (visited.contains(next) || region.contains(next) || !level.isLoaded(next)) {
                     continue;
                 }
-
-                // Check if we can pass through this position
-                if (!canOxygenPassThrough(level, current.pos, neighborPos, dir, distributorPos, dimension, globalManager)) {
+                BlockPos owner = globalManager.getBlockOwner(dimension, next);
+                if (owner != null && !owner.equals(distributorPos)) {
+                    continue;
+                }
+                BlockState nextState = level.getBlockState(next);
+                if (!GasPassabilityTable.holdsAtmosphere(level, next, nextState)
+                        || !GasPassabilityTable.canGasPass(level, current, currentState, nextState, dir)) {
                     continue;
                 }
+                visited.add(next);
+                queue.add(next);
+            }
+        }
+        return false;
+    }
 
-                int newCost = current.cost + 1;
-                int heuristic = neighborPos.distManhattan(to);
-                openSet.add(new PathNode(neighborPos, newCost, heuristic));
+    /**
+     * Collect the region positions that gas can reach from the breached faces without leaving the region
+     */
+    private static void collectVented(
+            BlockGetter level,
+            List<BlockPos> breachedFaces,
+            Set<BlockPos> region,
+            Set<BlockPos> vented) {
+
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        for (BlockPos face : breachedFaces) {
+            if (vented.add(face)) {
+                queue.add(face);
             }
         }
 
-        return false;
+        while (!queue.isEmpty()) {
+            BlockPos current = queue.poll();
+            BlockState currentState = level.getBlockState(current);
+            for (Direction dir : DIRECTIONS) {
+                BlockPos next = current.relative(dir);
+                if (!region.contains(next) || vented.contains(next)) {
+                    continue;
+                }
+                if (GasPassabilityTable.canGasPass(level, current, currentState, level.getBlockState(next), dir)) {
+                    vented.add(next);
+                    queue.add(next);
+                }
+            }
+        }
     }
 
     /**
-     * Check if oxygen can pass from one position to another
-     * NOW CHECKS GlobalOxygenManager - blocks owned by others are treated as walls
+     * Small bounded search checking that every region neighbour of a changed position still
+     * reaches the others through the region. If they do, nothing was cut off by the change.
      */
-    private static boolean canOxygenPassThrough(
-            Level level,
-            BlockPos from,
-            BlockPos to,
-            Direction direction,
+    private static boolean neighboursStayConnected(
+            BlockGetter level,
+            BlockPos changed,
+            Set<BlockPos> region,
+            Set<BlockPos> removed,
             BlockPos distributorPos,
             ResourceKey<Level> dimension,
             GlobalOxygenManager globalManager) {
 
-        // Check if the destination is owned by another distributor
-        BlockPos owner = globalManager.getBlockOwner(dimension, to);
-        if (owner != null && !owner.equals(distributorPos)) {
-            // Treat blocks owned by other distributors as solid walls
-            return false;
+        List<BlockPos> neighbours = new ArrayList<>(7);
+        if (!removed.contains(changed)) {
+            neighbours.add(changed);
         }
-
-        BlockState fromState = level.getBlockState(from);
-        BlockState toState = level.getBlockState(to);
-
-        // Can always pass into air
-        if (toState.isAir()) {
-            return true;
+        for (Direction dir : DIRECTIONS) {
+            BlockPos neighbour = changed.relative(dir);
+            if (region.contains(neighbour) && !removed.contains(neighbour)) {
+                neighbours.add(neighbour);
+            }
         }
-
-        // Check if the destination block blocks oxygen
-        if (toState.isSolid() && toState.isCollisionShapeFullBlock(level, to)) {
-            return false; // Solid blocks block oxygen flow
+        if (neighbours.size() <= 1) {
+            // Either an isolated pocket vanished or a dead end was removed
+            return true;
         }
 
-        // Check collision shapes to see if there's an opening
-        VoxelShape fromShape = fromState.getCollisionShape(level, from, CollisionContext.empty());
-        VoxelShape toShape = toState.getCollisionShape(level, to, CollisionContext.empty());
+        Set<BlockPos> remaining = new HashSet<>(neighbours.subList(1, neighbours.size()));
+        Set<BlockPos> visited = new HashSet<>();
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(neighbours.get(0));
+        visited.add(neighbours.get(0));
 
-        // Check if there's an opening between the blocks
-        if (!fromShape.isEmpty() && !toShape.isEmpty()) {
-            // Check face connectivity
-            VoxelShape fromFace = fromShape.getFaceShape(direction);
-            VoxelShape toFace = toShape.getFaceShape(direction.getOpposite());
-
-            // If both faces are solid, oxygen can't pass
-            if (!fromFace.isEmpty() && !toFace.isEmpty()) {
-                return false;
+        while (!queue.isEmpty() && visited.size() <= LOCAL_REPAIR_SEARCH_LIMIT) {
+            BlockPos current = queue.poll();
+            remaining.remove(current);
+            if (remaining.isEmpty()) {
+                return true;
+            }
+            for (Direction dir : DIRECTIONS) {
+                BlockPos next = current.relative(dir);
+                if (visited.contains(next) || !region.contains(next) || removed.contains(next)) {
+                    continue;
+                }
+                if (canOxygenPassThrough(level, current, next, dir, distributorPos, dimension, globalManager)) {
+                    visited.add(next);
+                    queue.add(next);
+                }
             }
         }
 
-        // Allow oxygen through partial blocks
-        return true;
+        return remaining.isEmpty();
     }
 
     /**
-     * Determines if a block position needs oxygen.
-     * Solid full blocks don't need oxygen, but partial blocks and air do.
+     * Walk the remaining region from the distributor and return every position no longer reached.
+     * Only used when the local connectivity check could not prove the region is still whole.
      */
-    private static boolean needsOxygen(Level level, BlockPos pos) {
-        BlockState state = level.getBlockState(pos);
+    private static Set<BlockPos> findDisconnected(
+            BlockGetter level,
+            BlockPos distributorPos,
+            Set<BlockPos> region,
+            Set<BlockPos> removed,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
 
-        // Air always needs oxygen
-        if (state.isAir()) {
-            return true;
-        }
+        Set<BlockPos> reached = new HashSet<>();
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
 
-        // Water and lava don't get oxygenated
-        if (state.getFluidState().isSource()) {
-            return false;
+        // The priority cube is claimed without a path check, so it seeds the walk
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    BlockPos cubePos = distributorPos.offset(dx, dy, dz);
+                    if (region.contains(cubePos) && !removed.contains(cubePos) && reached.add(cubePos)) {
+                        queue.add(cubePos);
+                    }
+                }
+            }
         }
 
-        // Stairs need oxygen (players can walk on them)
-        if (state.getBlock() instanceof StairBlock) {
-            return true;
+        while (!queue.isEmpty()) {
+            BlockPos current = queue.poll();
+            for (Direction dir : DIRECTIONS) {
+                BlockPos next = current.relative(dir);
+                if (reached.contains(next) || !region.contains(next) || removed.contains(next)) {
+                    continue;
+                }
+                if (canOxygenPassThrough(level, current, next, dir, distributorPos, dimension, globalManager)) {
+                    reached.add(next);
+                    queue.add(next);
+                }
+            }
         }
 
-        // Slabs need oxygen unless they're double slabs
-        if (state.getBlock() instanceof SlabBlock) {
-            return state.getValue(SlabBlock.TYPE) != SlabType.DOUBLE;
+        Set<BlockPos> disconnected = new HashSet<>();
+        for (BlockPos pos : region) {
+            if (!reached.contains(pos) && !removed.contains(pos)) {
+                disconnected.add(pos);
+            }
         }
+        return disconnected;
+    }
 
-        // Doors need oxygen in their space
-        if (state.getBlock() instanceof DoorBlock) {
-            return true;
-        }
+    /**
+     * Check if a position outside the region is claimable and reachable from an adjacent region block
+     */
+    private static boolean isReachableFromRegion(
+            BlockGetter level,
+            BlockPos candidate,
+            Set<BlockPos> region,
+            Set<BlockPos> removed,
+            BlockPos distributorPos,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
 
-        // Trapdoors need oxygen when open
-        if (state.getBlock() instanceof TrapDoorBlock) {
-            return state.getValue(TrapDoorBlock.OPEN);
+        if (candidate.equals(distributorPos)
+                || !canClaimPosition(level, candidate, distributorPos, dimension, globalManager)) {
+            return false;
         }
-
-        // Pressure plates, buttons, etc. need oxygen
-        if (!state.isCollisionShapeFullBlock(level, pos)) {
-            // Check if players can pass through
-            VoxelShape collisionShape = state.getCollisionShape(level, pos, CollisionContext.empty());
-
-            // If collision shape is not full (less than 1 block tall), it needs oxygen
-            if (collisionShape.isEmpty() || collisionShape.max(Direction.Axis.Y) < 1.0) {
+        for (Direction dir : DIRECTIONS) {
+            BlockPos from = candidate.relative(dir);
+            if (region.contains(from) && !removed.contains(from)
+                    && canOxygenPassThrough(level, from, candidate, dir.getOpposite(), distributorPos, dimension, globalManager)) {
                 return true;
             }
         }
+        return false;
+    }
 
-        // Full solid blocks don't need oxygen
-        if (state.isSolid() && state.isCollisionShapeFullBlock(level, pos)) {
-            return false;
+    /**
+     * Ring distance of every region position from the distributor, as findOxygenatableArea assigns it:
+     * priority cube positions at their Manhattan distance, everything else one more than the region
+     * neighbour it is reached from
+     */
+    private static Object2IntMap<BlockPos> regionDistances(
+            BlockGetter level,
+            BlockPos distributorPos,
+            Set<BlockPos> region,
+            Set<BlockPos> removed,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
+
+        Object2IntOpenHashMap<BlockPos> distances = new Object2IntOpenHashMap<>(region.size());
+        distances.defaultReturnValue(Integer.MAX_VALUE);
+        List<List<BlockPos>> cubeByDistance = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    BlockPos cubePos = distributorPos.offset(dx, dy, dz);
+                    if (!cubePos.equals(distributorPos) && region.contains(cubePos) && !removed.contains(cubePos)) {
+                        int distance = cubePos.distManhattan(distributorPos);
+                        cubeByDistance.get(distance).add(cubePos);
+                        distances.put(cubePos, distance);
+                    }
+                }
+            }
         }
 
-        // Default to needing oxygen for safety
-        return true;
+        ArrayDeque<BlockPos> wavefront = new ArrayDeque<>(cubeByDistance.get(1));
+        int distance = 1;
+        while (!wavefront.isEmpty() || distance < cubeByDistance.size() - 1) {
+            int ringSize = wavefront.size();
+            distance++;
+            if (distance < cubeByDistance.size()) {
+                wavefront.addAll(cubeByDistance.get(distance));
+            }
+
+            for (int i = 0; i < ringSize; i++) {
+                BlockPos current = wavefront.poll();
+                for (Direction dir : DIRECTIONS) {
+                    BlockPos next = current.relative(dir);
+                    if (!region.contains(next) || removed.contains(next) || distances.containsKey(next)) {
+                        continue;
+                    }
+                    if (canOxygenPassThrough(level, current, next, dir, distributorPos, dimension, globalManager)) {
+                        distances.put(next, distance);
+                        wavefront.add(next);
+                    }
+                }
+            }
+        }
+        return distances;
     }
 
-    // Helper classes
+    /**
+     * Breadth-first growth from a newly reachable position into unclaimed space.
+     * With distances given, nothing further than currentRadius from the distributor is grown into;
+     * the distances of grown positions are added to the map.
+     * @return number of positions added
+     */
+    private static int growInto(
+            BlockGetter level,
+            BlockPos start,
+            BlockPos distributorPos,
+            Set<BlockPos> region,
+            Set<BlockPos> removed,
+            Set<BlockPos> added,
+            @Nullable Object2IntMap<BlockPos> distances,
+            int currentRadius,
+            int budget,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
 
-    private static class PositionWithDistance {
-        final BlockPos pos;
-        final int distance;
+        if (distances != null) {
+            int startDistance = Integer.MAX_VALUE;
+            for (Direction dir : DIRECTIONS) {
+                BlockPos from = start.relative(dir);
+                int fromDistance = distances.getInt(from);
+                if (fromDistance < startDistance - 1 && (added.contains(from) || (region.contains(from) && !removed.contains(from)))
+                        && canOxygenPassThrough(level, from, start, dir.getOpposite(), distributorPos, dimension, globalManager)) {
+                    startDistance = fromDistance + 1;
+                }
+            }
+            if (startDistance > currentRadius) {
+                return 0;
+            }
+            distances.put(start, startDistance);
+        }
 
-        PositionWithDistance(BlockPos pos, int distance) {
-            this.pos = pos;
-            this.distance = distance;
+        int count = 0;
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(start);
+        added.add(start);
+        count++;
+
+        while (!queue.isEmpty() && count < budget) {
+            BlockPos current = queue.poll();
+            int nextDistance = distances != null ? distances.getInt(current) + 1 : 0;
+            if (nextDistance > currentRadius) {
+                // Same cut-off as the rings of a full fill
+                continue;
+            }
+            for (Direction dir : DIRECTIONS) {
+                BlockPos next = current.relative(dir);
+                if (region.contains(next) || added.contains(next) || next.equals(distributorPos)) {
+                    continue;
+                }
+                if (!canClaimPosition(level, next, distributorPos, dimension, globalManager)) {
+                    continue;
+                }
+                if (!canOxygenPassThrough(level, current, next, dir, distributorPos, dimension, globalManager)) {
+                    continue;
+                }
+                if (distances != null) {
+                    distances.put(next, nextDistance);
+                }
+                added.add(next);
+                queue.add(next);
+                count++;
+                if (count >= budget) {
+                    break;
+                }
+            }
         }
+
+        return count;
     }
 
-    private static class PathNode implements Comparable<PathNode> {
-        final BlockPos pos;
-        final int cost;
-        final int heuristic;
+    /**
+     * Check if a position can be claimed by this distributor
+     */
+    private static boolean canClaimPosition(
+            BlockGetter level,
+            BlockPos pos,
+            BlockPos distributorPos,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
 
-        PathNode(BlockPos pos, int cost, int heuristic) {
-            this.pos = pos;
-            this.cost = cost;
-            this.heuristic = heuristic;
+        // Check if position needs oxygen
+        if (!needsOxygen(level, pos)) {
+            return false;
         }
 
-        @Override
-        public int compareTo(PathNode other) {
-            return Integer.compare(
-                this.cost + this.heuristic,
-                other.cost + other.heuristic
-            );
-        }
+        // Check ownership in GlobalOxygenManager
+        BlockPos owner = globalManager.getBlockOwner(dimension, pos);
+
+        // Can claim if:
+        // 1. Not owned by anyone (owner == null)
+        // 2. Already owned by us (owner.equals(distributorPos))
+        return owner == null || owner.equals(distributorPos);
     }
 
-    private static class CacheKey {
-        final BlockPos from;
-        final BlockPos to;
-        final BlockPos distributor;
+    /**
+     * Check if oxygen can pass from one position to another
+     * NOW CHECKS GlobalOxygenManager - blocks owned by others are treated as walls
+     */
+    private static boolean canOxygenPassThrough(
+            BlockGetter level,
+            BlockPos from,
+            BlockPos to,
+            Direction direction,
+            BlockPos distributorPos,
+            ResourceKey<Level> dimension,
+            GlobalOxygenManager globalManager) {
 
-        CacheKey(BlockPos from, BlockPos to, BlockPos distributor) {
-            this.from = from.immutable();
-            this.to = to.immutable();
-            this.distributor = distributor.immutable();
+        // Check if the destination is owned by another distributor
+        BlockPos owner = globalManager.getBlockOwner(dimension, to);
+        if (owner != null && !owner.equals(distributorPos)) {
+            // Treat blocks owned by other distributors as solid walls
+            return false;
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            CacheKey cacheKey = (CacheKey) o;
-            return from.equals(cacheKey.from) &&
-                   to.equals(cacheKey.to) &&
-                   distributor.equals(cacheKey.distributor);
-        }
+        // Face connectivity comes from the precomputed per-state table
+        return GasPassabilityTable.canGasPass(level, from, level.getBlockState(from), level.getBlockState(to), direction);
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(from, to, distributor);
+    /**
+     * Determines if a block position needs oxygen.
+     * Solid full blocks don't need oxygen, but partial blocks and air do.
+     */
+    private static boolean needsOxygen(BlockGetter level, BlockPos pos) {
+        return GasPassabilityTable.holdsAtmosphere(level, pos, level.getBlockState(pos));
+    }
+
+    // Helper classes
+
+    /**
+     * Positions gained and lost by a local region repair
+     */
+    public record RegionDelta(Set<BlockPos> added, Set<BlockPos> removed) {
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
         }
     }
 
-    private static class PathResult {
-        final boolean hasPath;
+    private static class PositionWithDistance {
+        final BlockPos pos;
+        final int distance;
 
-        PathResult(boolean hasPath) {
-            this.hasPath = hasPath;
+        PositionWithDistance(BlockPos pos, int distance) {
+            this.pos = pos;
+            this.distance = distance;
         }
     }
 
@@ -445,10 +765,21 @@ public class ImprovedOxygenFloodFill {
             int currentRadius,
             int maxBlocks,
             long currentTick) {
+        return findGravityNormalizableArea(level, level.dimension(), normalizerPos, currentRadius, maxBlocks);
+    }
+
+    /**
+     * Same search against any block source, e.g. a chunk section snapshot on a worker thread.
+     */
+    public static Set<BlockPos> findGravityNormalizableArea(
+            BlockGetter level,
+            ResourceKey<Level> dimension,
+            BlockPos normalizerPos,
+            int currentRadius,
+            int maxBlocks) {
 
         Set<BlockPos> gravityPositions = new LinkedHashSet<>();
         Set<BlockPos> visitedPositions = new HashSet<>();
-        ResourceKey<Level> dimension = level.dimension();
         GlobalGravityManager gravityManager = GlobalGravityManager.getInstance();
 
         AdAstraMekanized.LOGGER.debug("GravityFloodFill: Starting from normalizer {} with radius {}, max blocks {}",
@@ -534,7 +865,7 @@ public class ImprovedOxygenFloodFill {
      * Uses GlobalGravityManager instead of GlobalOxygenManager.
      */
     private static boolean canClaimGravityPosition(
-            Level level,
+            BlockGetter level,
             BlockPos pos,
             BlockPos normalizerPos,
             ResourceKey<Level> dimension,
@@ -559,7 +890,7 @@ public class ImprovedOxygenFloodFill {
      * Gravity is more permissive than oxygen - it can pass through any non-full-solid block.
      */
     private static boolean canGravityPassThrough(
-            Level level,
+            BlockGetter level,
             BlockPos from,
             BlockPos to,
             BlockPos normalizerPos,
@@ -572,19 +903,7 @@ public class ImprovedOxygenFloodFill {
             return false;
         }
 
-        BlockState toState = level.getBlockState(to);
-
-        // Can always pass into air
-        if (toState.isAir()) {
-            return true;
-        }
-
-        // Can pass through partial blocks
-        if (!toState.isCollisionShapeFullBlock(level, to)) {
-            return true;
-        }
-
-        // Can't pass through full solid blocks
-        return false;
+        // Can pass through air and partial blocks, not full solid blocks
+        return GasPassabilityTable.canGravityPass(level, to, level.getBlockState(to));
     }
 }
\ No newline at end of file
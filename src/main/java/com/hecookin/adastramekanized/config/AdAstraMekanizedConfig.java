@@ -1,12 +1,14 @@
 package com.hecookin.adastramekanized.config;
 
 import com.hecookin.adastramekanized.AdAstraMekanized;
+import com.hecookin.adastramekanized.common.atmosphere.OxygenExemptionTable;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.config.ModConfigEvent;
 import net.neoforged.neoforge.common.ModConfigSpec;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,9 +21,11 @@ public class AdAstraMekanizedConfig {
     private static final Map<ModConfigSpec, IAdAstraMekanizedConfig> KNOWN_CONFIGS = new HashMap<>();
 
     public static final CommonConfig COMMON = new CommonConfig();
+    public static final ClientConfig CLIENT = new ClientConfig();
 
     public static void registerConfigs(ModContainer modContainer) {
         registerConfig(KNOWN_CONFIGS, modContainer, COMMON);
+        registerConfig(KNOWN_CONFIGS, modContainer, CLIENT);
     }
 
     private static void registerConfig(Map<ModConfigSpec, IAdAstraMekanizedConfig> knownConfigs,
@@ -64,6 +68,9 @@ public class AdAstraMekanizedConfig {
         public final ModConfigSpec.BooleanValue enableOxygenSystem;
         public final ModConfigSpec.IntValue oxygenDistributorRange;
         public final ModConfigSpec.DoubleValue oxygenConsumptionRate;
+        public final ModConfigSpec.IntValue atmosphereTickBudgetMicros;
+        public final ModConfigSpec.ConfigValue<List<? extends String>> oxygenExemptNamespaces;
+        public final ModConfigSpec.DoubleValue suitRefillThreshold;
 
         // Planet Generation Settings
         public final ModConfigSpec.BooleanValue enableProceduralPlanets;
@@ -134,6 +141,30 @@ public class AdAstraMekanizedConfig {
                     .translation("adastramekanized.config.oxygenConsumptionRate")
                     .defineInRange("oxygenConsumptionRate", 1.0, 0.1, 10.0);
 
+            atmosphereTickBudgetMicros = builder
+                    .comment("Atmosphere Tick Budget",
+                            "Server thread time in microseconds that oxygen distributors and gravity normalizers",
+                            "may spend per level tick. Work over budget carries over to the next tick")
+                    .translation("adastramekanized.config.atmosphereTickBudgetMicros")
+                    .defineInRange("atmosphereTickBudgetMicros", 2000, 100, 50000);
+
+            oxygenExemptNamespaces = builder
+                    .comment("Oxygen Exempt Namespaces",
+                            "Mod namespaces whose entities never take oxygen damage, in addition to the",
+                            "adastramekanized:lives_without_oxygen and adastramekanized:can_survive_in_space entity tags")
+                    .translation("adastramekanized.config.oxygenExemptNamespaces")
+                    .defineListAllowEmpty("oxygenExemptNamespaces",
+                            List.of("mowziesmobs", "undead_revamp2", "doom", "ribbits", "kobolds",
+                                    "reptilian", "lumination", "born_in_chaos_v1"),
+                            () -> "",
+                            value -> value instanceof String);
+
+            suitRefillThreshold = builder
+                    .comment("Suit Refill Threshold",
+                            "Worn suits refill from gas tanks in the inventory once their tank drops below this fraction of capacity")
+                    .translation("adastramekanized.config.suitRefillThreshold")
+                    .defineInRange("suitRefillThreshold", 0.9, 0.0, 1.0);
+
             builder.pop();
 
             // Planet Generation Section
@@ -219,7 +250,56 @@ public class AdAstraMekanizedConfig {
 
         @Override
         public void clearCache(boolean unloading) {
-            // Clear any cached values if needed
+            // Exemptions depend on the namespace list
+            OxygenExemptionTable.invalidate();
+        }
+    }
+
+    /**
+     * Client configuration for display settings
+     */
+    public static class ClientConfig implements IAdAstraMekanizedConfig {
+        private final ModConfigSpec configSpec;
+
+        // Visualization Settings
+        public final ModConfigSpec.BooleanValue showZoneVisualization;
+
+        ClientConfig() {
+            ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
+
+            // Visualization Section
+            builder.comment("Visualization Settings",
+                           "Configure the oxygen and gravity zone overlays")
+                   .push("visualization");
+
+            showZoneVisualization = builder
+                    .comment("Show Zone Visualization",
+                            "Receive and show oxygen and gravity zones of machines that have visibility on.",
+                            "When off the server sends no zone data to this client at all")
+                    .translation("adastramekanized.config.showZoneVisualization")
+                    .define("showZoneVisualization", true);
+
+            builder.pop();
+            configSpec = builder.build();
+        }
+
+        @Override
+        public String getFileName() {
+            return "adastramekanized-client";
+        }
+
+        @Override
+        public ModConfigSpec getConfigSpec() {
+            return configSpec;
+        }
+
+        @Override
+        public ModConfig.Type getConfigType() {
+            return ModConfig.Type.CLIENT;
+        }
+
+        @Override
+        public void clearCache(boolean unloading) {
         }
     }
 
@@ -252,6 +332,20 @@ public class AdAstraMekanizedConfig {
         return COMMON.oxygenConsumptionRate.get();
     }
 
+    public static int getAtmosphereTickBudgetMicros() {
+        return COMMON.atmosphereTickBudgetMicros.get();
+    }
+
+    public static List<? extends String> getOxygenExemptNamespaces() {
+        // Defaults until the config file has been read
+        return COMMON.configSpec.isLoaded() ? COMMON.oxygenExemptNamespaces.get() : COMMON.oxygenExemptNamespaces.getDefault();
+    }
+
+    public static double getSuitRefillThreshold() {
+        // Default until the config file has been read
+        return COMMON.configSpec.isLoaded() ? COMMON.suitRefillThreshold.get() : COMMON.suitRefillThreshold.getDefault();
+    }
+
     public static boolean isProceduralPlanetsEnabled() {
         return COMMON.enableProceduralPlanets.get();
     }
@@ -275,4 +369,9 @@ public class AdAstraMekanizedConfig {
     public static boolean isCreateIntegrationEnabled() {
         return COMMON.enableCreateIntegration.get();
     }
+
+    public static boolean isZoneVisualizationEnabled() {
+        // Default until the config file has been read
+        return CLIENT.configSpec.isLoaded() ? CLIENT.showZoneVisualization.get() : CLIENT.showZoneVisualization.getDefault();
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.hecookin.adastramekanized.AdAstraMekanized;
 import com.hecookin.adastramekanized.api.IChemicalIntegration;
 import com.hecookin.adastramekanized.api.IEnergyIntegration;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
@@ -13,6 +14,8 @@ import net.neoforged.fml.ModList;
 
 import java.util.List;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
@@ -28,6 +31,7 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
     // Integration state
     private final boolean mekanismLoaded;
     private boolean apiAccessible = false;
+    private boolean energyApiAccessible = false;
 
     // Reflected classes (cached for performance)
     private Class<?> chemicalClass;
@@ -37,15 +41,33 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
     private Class<?> oxygenChemicalClass;
     private Class<?> basicChemicalTankClass;
     private Object oxygenInstance;
-
-    // Reflected methods (cached for performance)
-    private Method getEnergyStoredMethod;
-    private Method getMaxEnergyMethod;
-    private Method insertEnergyMethod;
-    private Method extractEnergyMethod;
-    private Method getChemicalInTankMethod;
-    private Method insertChemicalMethod;
-    private Method extractChemicalMethod;
+    private Object hydrogenInstance;
+    private Object nitrogenInstance;
+
+    // Mekanism enum constants
+    private Object actionExecute;
+    private Object actionSimulate;
+    private Object automationInternal;
+
+    // Method handles, resolved once in initializeReflection and null while the API is not accessible
+    private MethodHandle itemChemicalHandler;   // (ItemStack) -> IChemicalHandler, bound to Capabilities.CHEMICAL
+    private MethodHandle getChemicalInTank;     // (IChemicalHandler, int) -> ChemicalStack
+    private MethodHandle insertChemical;        // (IChemicalHandler, ChemicalStack, Action) -> ChemicalStack
+    private MethodHandle extractChemical;       // (IChemicalHandler, long, Action) -> ChemicalStack
+    private MethodHandle chemicalStackAmount;   // (ChemicalStack) -> long
+    private MethodHandle newChemicalStack;      // (Chemical, long) -> ChemicalStack
+    private MethodHandle tankGetStack;          // (IChemicalTank) -> ChemicalStack
+    private MethodHandle tankExtract;           // (IChemicalTank, long, Action, AutomationType) -> ChemicalStack
+    private MethodHandle getEnergy;             // (IEnergyContainer) -> long
+    private MethodHandle getMaxEnergy;          // (IEnergyContainer) -> long
+    private MethodHandle insertEnergy;          // (IEnergyContainer, long, Action, AutomationType) -> long
+    private MethodHandle extractEnergy;         // (IEnergyContainer, long, Action, AutomationType) -> long
+
+    // Tooltip formatting (optional - plain text is used without it)
+    private MethodHandle translateColored;      // (ILangEntry, EnumColor, Object...) -> Component
+    private Object storedLang;
+    private Object grayColor;
+    private Object orangeColor;
 
     public MekanismIntegration() {
         this.mekanismLoaded = ModList.get().isLoaded(MEKANISM_MOD_ID);
@@ -54,61 +76,126 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
             initializeReflection();
         }
 
-        AdAstraMekanized.LOGGER.info("Mekanism integration initialized - Available: {}, API Accessible: {}",
-                mekanismLoaded, apiAccessible);
+        AdAstraMekanized.LOGGER.info("Mekanism integration initialized - Available: {}, API Accessible: {}, Energy API Accessible: {}",
+                mekanismLoaded, apiAccessible, energyApiAccessible);
     }
 
+    /**
+     * Resolve every Mekanism class and method we call up front, so a Mekanism API change shows up
+     * here at startup instead of as a failure in the middle of a game. If anything required is
+     * missing that part of the integration stays disabled and callers use the fallbacks.
+     */
     private void initializeReflection() {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
         try {
             // Load core API classes
             chemicalClass = Class.forName("mekanism.api.chemical.Chemical");
             chemicalStackClass = Class.forName("mekanism.api.chemical.ChemicalStack");
-            energyContainerClass = Class.forName("mekanism.api.energy.IEnergyContainer");
             chemicalHandlerClass = Class.forName("mekanism.api.chemical.IChemicalHandler");
             basicChemicalTankClass = Class.forName("mekanism.api.chemical.BasicChemicalTank");
+            Class<?> chemicalTankClass = Class.forName("mekanism.api.chemical.IChemicalTank");
+            Class<?> actionClass = Class.forName("mekanism.api.Action");
+            Class<?> automationTypeClass = Class.forName("mekanism.api.AutomationType");
 
-            // Load energy methods
-            getEnergyStoredMethod = energyContainerClass.getMethod("getEnergyStored");
-            getMaxEnergyMethod = energyContainerClass.getMethod("getMaxEnergy");
-            insertEnergyMethod = energyContainerClass.getMethod("insertEnergy", long.class, boolean.class);
-            extractEnergyMethod = energyContainerClass.getMethod("extractEnergy", long.class, boolean.class);
+            actionExecute = actionClass.getField("EXECUTE").get(null);
+            actionSimulate = actionClass.getField("SIMULATE").get(null);
+            automationInternal = automationTypeClass.getField("INTERNAL").get(null);
+
+            // Item capability lookup, bound to the capability instance
+            Class<?> capabilitiesClass = Class.forName("mekanism.common.capabilities.Capabilities");
+            Object chemicalCapability = capabilitiesClass.getField("CHEMICAL").get(null);
+            itemChemicalHandler = lookup.unreflect(chemicalCapability.getClass().getMethod("getCapability", ItemStack.class))
+                    .bindTo(chemicalCapability);
 
             // Load chemical methods
-            getChemicalInTankMethod = chemicalHandlerClass.getMethod("getChemicalInTank", int.class);
-            insertChemicalMethod = chemicalHandlerClass.getMethod("insertChemical", chemicalStackClass, boolean.class);
-            extractChemicalMethod = chemicalHandlerClass.getMethod("extractChemical", long.class, boolean.class);
+            getChemicalInTank = lookup.unreflect(chemicalHandlerClass.getMethod("getChemicalInTank", int.class));
+            insertChemical = lookup.unreflect(chemicalHandlerClass.getMethod("insertChemical", chemicalStackClass, actionClass));
+            extractChemical = lookup.unreflect(chemicalHandlerClass.getMethod("extractChemical", long.class, actionClass));
+            chemicalStackAmount = lookup.unreflect(chemicalStackClass.getMethod("getAmount"));
+            newChemicalStack = lookup.unreflectConstructor(chemicalStackClass.getConstructor(chemicalClass, long.class));
+            tankGetStack = lookup.unreflect(chemicalTankClass.getMethod("getStack"));
+            tankExtract = lookup.unreflect(chemicalTankClass.getMethod("extract", long.class, actionClass, automationTypeClass));
 
-            // Try to access oxygen chemical
-            tryLoadOxygenChemical();
+            // Try to access the chemicals we work with
+            loadChemicals();
 
             apiAccessible = true;
             AdAstraMekanized.LOGGER.info("Mekanism API reflection setup completed successfully");
 
-        } catch (ClassNotFoundException | NoSuchMethodException e) {
-            AdAstraMekanized.LOGGER.warn("Mekanism API reflection setup failed: {}", e.getMessage());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AdAstraMekanized.LOGGER.warn("Mekanism chemical API reflection setup failed, chemical integration disabled: {}", e.toString());
             apiAccessible = false;
         }
+
+        try {
+            // Load energy methods
+            energyContainerClass = Class.forName("mekanism.api.energy.IEnergyContainer");
+            Class<?> actionClass = Class.forName("mekanism.api.Action");
+            Class<?> automationTypeClass = Class.forName("mekanism.api.AutomationType");
+            getEnergy = lookup.unreflect(energyContainerClass.getMethod("getEnergy"));
+            getMaxEnergy = lookup.unreflect(energyContainerClass.getMethod("getMaxEnergy"));
+            insertEnergy = lookup.unreflect(energyContainerClass.getMethod("insert", long.class, actionClass, automationTypeClass));
+            extractEnergy = lookup.unreflect(energyContainerClass.getMethod("extract", long.class, actionClass, automationTypeClass));
+            if (automationInternal == null) {
+                actionExecute = actionClass.getField("EXECUTE").get(null);
+                actionSimulate = actionClass.getField("SIMULATE").get(null);
+                automationInternal = automationTypeClass.getField("INTERNAL").get(null);
+            }
+
+            energyApiAccessible = true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AdAstraMekanized.LOGGER.warn("Mekanism energy API reflection setup failed, energy integration disabled: {}", e.toString());
+            energyApiAccessible = false;
+        }
+
+        try {
+            Class<?> langClass = Class.forName("mekanism.common.MekanismLang");
+            Class<?> langEntryClass = Class.forName("mekanism.api.text.ILangEntry");
+            Class<?> enumColorClass = Class.forName("mekanism.api.text.EnumColor");
+            storedLang = langClass.getField("GENERIC_STORED").get(null);
+            grayColor = enumColorClass.getField("GRAY").get(null);
+            orangeColor = enumColorClass.getField("ORANGE").get(null);
+            translateColored = lookup.unreflect(langEntryClass.getMethod("translateColored", enumColorClass, Object[].class))
+                    .asFixedArity();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AdAstraMekanized.LOGGER.debug("Mekanism tooltip formatting not available: {}", e.toString());
+            translateColored = null;
+        }
     }
 
-    private void tryLoadOxygenChemical() {
+    private void loadChemicals() {
         try {
-            // Try to access Mekanism's built-in chemicals
+            // Mekanism's built-in chemicals
             Class<?> mekanismChemicalsClass = Class.forName("mekanism.common.registries.MekanismChemicals");
+            oxygenInstance = ((Holder<?>) mekanismChemicalsClass.getField("OXYGEN").get(null)).value();
+            hydrogenInstance = ((Holder<?>) mekanismChemicalsClass.getField("HYDROGEN").get(null)).value();
 
-            // Get the OXYGEN field
-            java.lang.reflect.Field oxygenField = mekanismChemicalsClass.getField("OXYGEN");
-            Object deferredChemical = oxygenField.get(null);
-
-            // Get the actual chemical from the deferred holder
-            Method getMethod = deferredChemical.getClass().getMethod("get");
-            oxygenInstance = getMethod.invoke(deferredChemical);
+            AdAstraMekanized.LOGGER.debug("Successfully loaded Mekanism oxygen and hydrogen chemicals");
+        } catch (Exception e) {
+            AdAstraMekanized.LOGGER.debug("Could not load Mekanism chemicals: {}", e.getMessage());
+        }
 
-            AdAstraMekanized.LOGGER.debug("Successfully loaded Mekanism oxygen chemical");
+        try {
+            // Nitrogen comes from ChemLibMekanized
+            Class<?> chemLibChemicalsClass = Class.forName("com.hecookin.chemlibmekanized.registry.ChemlibMekanizedChemicals");
+            nitrogenInstance = ((Holder<?>) chemLibChemicalsClass.getField("NITROGEN").get(null)).value();
         } catch (Exception e) {
-            AdAstraMekanized.LOGGER.debug("Could not load Mekanism oxygen: {}", e.getMessage());
+            AdAstraMekanized.LOGGER.debug("ChemLibMekanized nitrogen not available: {}", e.getMessage());
         }
     }
 
+    /**
+     * @return The item's Mekanism chemical handler, or null if it has none
+     */
+    private Object getChemicalHandler(ItemStack stack) throws Throwable {
+        return itemChemicalHandler.invoke(stack);
+    }
+
+    private long getAmount(Object chemicalStack) throws Throwable {
+        return chemicalStack == null ? 0 : (long) chemicalStackAmount.invoke(chemicalStack);
+    }
+
     // === IChemicalIntegration Implementation ===
 
     @Override
@@ -248,7 +335,7 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
 
     @Override
     public boolean isEnergySystemAvailable() {
-        return mekanismLoaded && apiAccessible;
+        return mekanismLoaded && energyApiAccessible;
     }
 
     @Override
@@ -319,9 +406,9 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
                 return 0;
             }
 
-            return (Long) getEnergyStoredMethod.invoke(blockEntity);
+            return (long) getEnergy.invoke(blockEntity);
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Error getting stored energy: {}", e.getMessage());
             return 0;
         }
@@ -339,9 +426,9 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
                 return 0;
             }
 
-            return (Long) getMaxEnergyMethod.invoke(blockEntity);
+            return (long) getMaxEnergy.invoke(blockEntity);
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Error getting energy capacity: {}", e.getMessage());
             return 0;
         }
@@ -359,9 +446,11 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
                 return 0;
             }
 
-            return (Long) insertEnergyMethod.invoke(blockEntity, amount, simulate);
+            // insert returns the remainder
+            long remainder = (long) insertEnergy.invoke(blockEntity, amount, simulate ? actionSimulate : actionExecute, automationInternal);
+            return amount - remainder;
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Error inserting energy: {}", e.getMessage());
             return 0;
         }
@@ -379,9 +468,9 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
                 return 0;
             }
 
-            return (Long) extractEnergyMethod.invoke(blockEntity, amount, simulate);
+            return (long) extractEnergy.invoke(blockEntity, amount, simulate ? actionSimulate : actionExecute, automationInternal);
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Error extracting energy: {}", e.getMessage());
             return 0;
         }
@@ -398,26 +487,12 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
         }
 
         try {
-            // Get the chemical handler capability
-            Class<?> capabilitiesClass = Class.forName("mekanism.common.capabilities.Capabilities");
-            Object chemicalCapability = capabilitiesClass.getField("CHEMICAL").get(null);
-
-            // Get capability method (should be on ICapabilityProvider)
-            Method getCapabilityMethod = stack.getClass().getMethod("getCapability", Class.forName("net.neoforged.neoforge.capabilities.ItemCapability"));
-            Object chemicalHandler = getCapabilityMethod.invoke(stack, chemicalCapability);
-
+            Object chemicalHandler = getChemicalHandler(stack);
             if (chemicalHandler != null) {
                 // Check if it has any chemical
-                Method getChemicalInTankMethod = chemicalHandler.getClass().getMethod("getChemicalInTank", int.class);
-                Object chemicalStack = getChemicalInTankMethod.invoke(chemicalHandler, 0);
-
-                if (chemicalStack != null) {
-                    Method getAmountMethod = chemicalStack.getClass().getMethod("getAmount");
-                    long amount = (Long) getAmountMethod.invoke(chemicalStack);
-                    return amount > 0;
-                }
+                return getAmount(getChemicalInTank.invoke(chemicalHandler, 0)) > 0;
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.debug("Error checking ItemStack chemical: {}", e.getMessage());
         }
 
@@ -433,29 +508,11 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
         }
 
         try {
-            // Get the chemical handler capability
-            Class<?> capabilitiesClass = Class.forName("mekanism.common.capabilities.Capabilities");
-            Object chemicalCapability = capabilitiesClass.getField("CHEMICAL").get(null);
-
-            // Get capability method
-            Method getCapabilityMethod = stack.getClass().getMethod("getCapability", Class.forName("net.neoforged.neoforge.capabilities.ItemCapability"));
-            Object chemicalHandler = getCapabilityMethod.invoke(stack, chemicalCapability);
-
+            Object chemicalHandler = getChemicalHandler(stack);
             if (chemicalHandler != null) {
-                // Get Action.EXECUTE enum value
-                Class<?> actionClass = Class.forName("mekanism.api.Action");
-                Object executeAction = actionClass.getField("EXECUTE").get(null);
-
-                // Extract chemical
-                Method extractMethod = chemicalHandler.getClass().getMethod("extractChemical", long.class, actionClass);
-                Object extractedStack = extractMethod.invoke(chemicalHandler, amount, executeAction);
-
-                if (extractedStack != null) {
-                    Method getAmountMethod = extractedStack.getClass().getMethod("getAmount");
-                    return (Long) getAmountMethod.invoke(extractedStack);
-                }
+                return getAmount(extractChemical.invoke(chemicalHandler, amount, actionExecute));
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.debug("Error extracting chemical from ItemStack: {}", e.getMessage());
         }
 
@@ -543,17 +600,13 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
      * Get the amount of oxygen stored in a tank
      */
     public long getOxygenAmount(Object tank) {
-        if (tank == null || chemicalStackClass == null) {
+        if (tank == null || !isChemicalSystemAvailable()) {
             return 0;
         }
 
         try {
-            Method getStackMethod = tank.getClass().getMethod("getStack");
-            Object chemicalStack = getStackMethod.invoke(tank);
-
-            Method getAmountMethod = chemicalStackClass.getMethod("getAmount");
-            return (Long) getAmountMethod.invoke(chemicalStack);
-        } catch (Exception e) {
+            return getAmount(tankGetStack.invoke(tank));
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Failed to get oxygen amount: {}", e.getMessage());
             return 0;
         }
@@ -563,20 +616,13 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
      * Extract oxygen from a tank
      */
     public long extractOxygen(Object tank, long amount) {
-        if (tank == null || amount <= 0) {
+        if (tank == null || amount <= 0 || !isChemicalSystemAvailable()) {
             return 0;
         }
 
         try {
-            Method extractMethod = tank.getClass().getMethod("extract", long.class, boolean.class);
-            Object extractedStack = extractMethod.invoke(tank, amount, false);
-
-            if (extractedStack != null && chemicalStackClass.isInstance(extractedStack)) {
-                Method getAmountMethod = chemicalStackClass.getMethod("getAmount");
-                return (Long) getAmountMethod.invoke(extractedStack);
-            }
-            return 0;
-        } catch (Exception e) {
+            return getAmount(tankExtract.invoke(tank, amount, actionExecute, automationInternal));
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Failed to extract oxygen: {}", e.getMessage());
             return 0;
         }
@@ -626,23 +672,12 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
         }
 
         try {
-            // Try to get chemical handler capability from the item
-            Class<?> capabilitiesClass = Class.forName("mekanism.common.capabilities.Capabilities");
-            java.lang.reflect.Field chemicalField = capabilitiesClass.getField("CHEMICAL");
-            Object chemicalCapability = chemicalField.get(null);
-
-            Method getCapabilityMethod = chemicalCapability.getClass().getMethod("getCapability", ItemStack.class);
-            Object handler = getCapabilityMethod.invoke(chemicalCapability, stack);
-
-            if (handler != null && chemicalHandlerClass.isInstance(handler)) {
+            Object handler = getChemicalHandler(stack);
+            if (handler != null) {
                 // Get the first tank (usually index 0 for armor)
-                Object chemicalStack = getChemicalInTankMethod.invoke(handler, 0);
-                if (chemicalStack != null) {
-                    Method getAmountMethod = chemicalStackClass.getMethod("getAmount");
-                    return (Long) getAmountMethod.invoke(chemicalStack);
-                }
+                return getAmount(getChemicalInTank.invoke(handler, 0));
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.debug("Could not get chemical amount from ItemStack: {}", e.getMessage());
         }
         return 0L;
@@ -665,18 +700,11 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
         }
 
         try {
-            // Get chemical handler capability
-            Class<?> capabilitiesClass = Class.forName("mekanism.common.capabilities.Capabilities");
-            java.lang.reflect.Field chemicalField = capabilitiesClass.getField("CHEMICAL");
-            Object chemicalCapability = chemicalField.get(null);
-
-            Method getCapabilityMethod = chemicalCapability.getClass().getMethod("getCapability", ItemStack.class);
-            Object handler = getCapabilityMethod.invoke(chemicalCapability, stack);
-
-            if (handler != null && chemicalHandlerClass.isInstance(handler)) {
-                extractChemicalMethod.invoke(handler, amount, false);
+            Object handler = getChemicalHandler(stack);
+            if (handler != null) {
+                extractChemical.invoke(handler, amount, actionExecute);
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.debug("Could not use chemical from ItemStack: {}", e.getMessage());
         }
     }
@@ -691,64 +719,25 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
 
         try {
             // Get the chemical instance
-            Object chemical;
-            if (chemicalName.equalsIgnoreCase("oxygen")) {
-                chemical = oxygenInstance;
-            } else if (chemicalName.equalsIgnoreCase("nitrogen")) {
-                // Get nitrogen from ChemLibMekanized
-                try {
-                    Class<?> chemLibChemicalsClass = Class.forName("com.hecookin.chemlibmekanized.registry.ChemlibMekanizedChemicals");
-                    Class<?> holderClass = Class.forName("net.minecraft.core.Holder");
-                    Object nitrogenHolder = chemLibChemicalsClass.getField("NITROGEN").get(null);
-                    java.lang.reflect.Method getValue = holderClass.getMethod("value");
-                    chemical = getValue.invoke(nitrogenHolder);
-                } catch (Exception e) {
-                    AdAstraMekanized.LOGGER.debug("ChemLibMekanized nitrogen not available: {}", e.getMessage());
-                    return;
-                }
-            } else {
-                chemical = getHydrogenInstance();
-            }
-
+            Object chemical = getChemicalInstance(chemicalName);
             if (chemical == null) {
                 AdAstraMekanized.LOGGER.debug("Chemical instance not found for: {}", chemicalName);
                 return;
             }
 
             // Create a ChemicalStack with the chemical and amount
-            Constructor<?> stackConstructor = chemicalStackClass.getConstructor(chemicalClass, long.class);
-            Object chemicalStack = stackConstructor.newInstance(chemical, amount);
-
-            // Get chemical handler capability
-            Class<?> capabilitiesClass = Class.forName("mekanism.common.capabilities.Capabilities");
-            java.lang.reflect.Field chemicalField = capabilitiesClass.getField("CHEMICAL");
-            Object chemicalCapability = chemicalField.get(null);
-
-            Method getCapabilityMethod = chemicalCapability.getClass().getMethod("getCapability", ItemStack.class);
-            Object handler = getCapabilityMethod.invoke(chemicalCapability, stack);
-
-            if (handler != null && chemicalHandlerClass.isInstance(handler)) {
-                AdAstraMekanized.LOGGER.debug("Got chemical handler, calling insertChemical with {} mB of {}", amount, chemicalName);
-                // Insert the chemical (false = actually insert, not simulate)
-                Object result = insertChemicalMethod.invoke(handler, chemicalStack, false);
-                AdAstraMekanized.LOGGER.debug("insertChemical returned: {}", result);
-
-                // Check if anything was inserted (result should be the remainder, EMPTY if all inserted)
-                if (result != null) {
-                    try {
-                        Method getAmountMethod = result.getClass().getMethod("getAmount");
-                        long remainder = (Long) getAmountMethod.invoke(result);
-                        long inserted = amount - remainder;
-                        AdAstraMekanized.LOGGER.debug("Added {} mB of {} to ItemStack ({} mB remainder)", inserted, chemicalName, remainder);
-                    } catch (Exception e2) {
-                        AdAstraMekanized.LOGGER.debug("Added {} mB of {} to ItemStack", amount, chemicalName);
-                    }
-                }
+            Object chemicalStack = newChemicalStack.invoke(chemical, amount);
+
+            Object handler = getChemicalHandler(stack);
+            if (handler != null) {
+                // Insert the chemical - the result is the remainder, EMPTY if all inserted
+                Object result = insertChemical.invoke(handler, chemicalStack, actionExecute);
+                long remainder = getAmount(result);
+                AdAstraMekanized.LOGGER.debug("Added {} mB of {} to ItemStack ({} mB remainder)", amount - remainder, chemicalName, remainder);
             } else {
-                AdAstraMekanized.LOGGER.warn("Chemical handler is null or wrong type! handler={}, expected type={}",
-                    handler, chemicalHandlerClass);
+                AdAstraMekanized.LOGGER.warn("ItemStack {} has no Mekanism chemical handler", stack);
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             AdAstraMekanized.LOGGER.error("Could not add chemical to ItemStack: ", e);
         }
     }
@@ -761,34 +750,20 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
             return;
         }
 
-        try {
-            Long amount = getChemicalAmount(stack, chemicalName);
-            if (amount != null) {
-                // Try to use Mekanism's formatting
-                Class<?> langClass = Class.forName("mekanism.common.MekanismLang");
-                java.lang.reflect.Field storedField = langClass.getField("GENERIC_STORED");
-                Object storedLang = storedField.get(null);
-
-                // Create the tooltip using Mekanism's style
-                Method translateMethod = storedLang.getClass().getMethod("translateColored", Object.class, Object.class, Object.class, Object.class);
-                Class<?> enumColorClass = Class.forName("mekanism.api.text.EnumColor");
-                Object grayColor = enumColorClass.getField("GRAY").get(null);
-                Object orangeColor = enumColorClass.getField("ORANGE").get(null);
-
-                // Get the chemical reference for display
-                Object chemical = chemicalName.equalsIgnoreCase("oxygen") ? oxygenInstance : getHydrogenInstance();
-                if (chemical != null) {
-                    Component component = (Component) translateMethod.invoke(storedLang, grayColor, chemical, orangeColor, amount);
-                    tooltip.add(component);
-                }
-            }
-        } catch (Exception e) {
-            // Fallback to simple display
-            Long amount = getChemicalAmount(stack, chemicalName);
-            if (amount != null) {
-                tooltip.add(Component.literal(chemicalName + ": " + amount + " / " + capacity + " mB"));
+        long amount = getChemicalAmount(stack, chemicalName);
+        Object chemical = getChemicalInstance(chemicalName);
+        if (translateColored != null && chemical != null) {
+            try {
+                // Use Mekanism's formatting: "<chemical>: <amount>"
+                tooltip.add((Component) translateColored.invoke(storedLang, grayColor, new Object[]{chemical, orangeColor, amount}));
+                return;
+            } catch (Throwable e) {
+                AdAstraMekanized.LOGGER.debug("Could not format chemical tooltip: {}", e.getMessage());
             }
         }
+
+        // Fallback to simple display
+        tooltip.add(Component.literal(chemicalName + ": " + amount + " / " + capacity + " mB"));
     }
 
     /**
@@ -830,25 +805,19 @@ public class MekanismIntegration implements IChemicalIntegration, IEnergyIntegra
     }
 
     /**
-     * Get or create hydrogen instance
+     * The Mekanism chemical for one of our chemical names, null if it is not available.
+     * Anything other than oxygen or nitrogen is treated as hydrogen.
      */
-    private Object getHydrogenInstance() {
-        if (hydrogenInstance == null) {
-            try {
-                Class<?> mekanismChemicalsClass = Class.forName("mekanism.common.registries.MekanismChemicals");
-                java.lang.reflect.Field hydrogenField = mekanismChemicalsClass.getField("HYDROGEN");
-                Object deferredChemical = hydrogenField.get(null);
-                Method getMethod = deferredChemical.getClass().getMethod("get");
-                hydrogenInstance = getMethod.invoke(deferredChemical);
-            } catch (Exception e) {
-                AdAstraMekanized.LOGGER.debug("Could not load hydrogen chemical: {}", e.getMessage());
-            }
+    private Object getChemicalInstance(String chemicalName) {
+        if (chemicalName.equalsIgnoreCase("oxygen")) {
+            return oxygenInstance;
+        }
+        if (chemicalName.equalsIgnoreCase("nitrogen")) {
+            return nitrogenInstance;
         }
         return hydrogenInstance;
     }
 
-    private Object hydrogenInstance;
-
     // Compatibility methods for oxygen-specific operations
     public Long getOxygenAmount(ItemStack stack) {
         return getChemicalAmount(stack, "oxygen");
@@ -0,0 +1,24 @@
+package com.hecookin.adastramekanized.mixins;
+
+import com.hecookin.adastramekanized.common.atmosphere.SectionChangeTracker;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin {
+
+    // Every block change in a loaded chunk goes through here, whatever update flags it was set with
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void adastramekanized$trackSectionChange(BlockPos pos, BlockState state, boolean isMoving,
+                                                    CallbackInfoReturnable<BlockState> cir) {
+        // Null means the state did not change
+        if (cir.getReturnValue() != null) {
+            SectionChangeTracker.markChanged(((LevelChunk) (Object) this).getLevel(), pos);
+        }
+    }
+}